@@ -0,0 +1,46 @@
+/*
+ * Copyright 2014-2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.restassured;
+
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.specification.RequestSpecification;
+import org.junit.Before;
+import org.junit.Rule;
+
+import org.springframework.restdocs.JUnitRestDocumentation;
+import org.springframework.restdocs.observation.TimingSummaryObserver;
+
+import static org.springframework.restdocs.restassured.RestAssuredRestDocumentation.documentationConfiguration;
+
+public class CustomObservers {
+
+	@Rule
+	public final JUnitRestDocumentation restDocumentation = new JUnitRestDocumentation();
+
+	@SuppressWarnings("unused")
+	private RequestSpecification spec;
+
+	@Before
+	public void setUp() {
+		// tag::custom-observers[]
+		this.spec = new RequestSpecBuilder()
+				.addFilter(documentationConfiguration(this.restDocumentation).observers(TimingSummaryObserver.shared()))
+				.build();
+		// end::custom-observers[]
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2014-2021 the original author or authors.
+ * Copyright 2014-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,7 +22,10 @@ import org.asciidoctor.extension.PreprocessorReader;
 
 /**
  * {@link Preprocessor} that sets defaults for REST Docs-related {@link Document}
- * attributes.
+ * attributes. The index of the snippets directory in the {@link SnippetCache} that is
+ * shared with the operation block macro is also refreshed, so that the macro does not
+ * have to list the snippets of each operation that it includes. The directory is only
+ * indexed again when it has been modified since it was last indexed.
  *
  * @author Andy Wilkinson
  */
@@ -30,10 +33,17 @@ final class DefaultAttributesPreprocessor extends Preprocessor {
 
 	private final SnippetsDirectoryResolver snippetsDirectoryResolver = new SnippetsDirectoryResolver();
 
+	private final SnippetCache snippetCache;
+
+	DefaultAttributesPreprocessor(SnippetCache snippetCache) {
+		this.snippetCache = snippetCache;
+	}
+
 	@Override
 	public void process(Document document, PreprocessorReader reader) {
 		document.setAttribute("snippets", this.snippetsDirectoryResolver.getSnippetsDirectory(document.getAttributes()),
 				false);
+		this.snippetCache.refreshIndex(SnippetsDirectoryResolver.resolveSnippetsDirectory(document));
 	}
 
 }
@@ -0,0 +1,203 @@
+/*
+ * Copyright 2014-2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.asciidoctor;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.asciidoctor.ast.Document;
+import org.asciidoctor.ast.Section;
+import org.asciidoctor.ast.StructuralNode;
+import org.asciidoctor.extension.BlockMacroProcessor;
+import org.asciidoctor.extension.Name;
+import org.asciidoctor.log.LogRecord;
+import org.asciidoctor.log.Severity;
+
+import org.springframework.restdocs.asciidoctor.SnippetIndex.IndexedSnippet;
+
+/**
+ * {@link BlockMacroProcessor} that includes multiple snippets of an operation at once.
+ * Usage:
+ *
+ * <pre class="code">
+ * operation::operation-name[snippets='snippet-name1,snippet-name2']
+ * </pre>
+ *
+ * Each snippet is added to the document as a section of its own. The snippets of an
+ * operation are found using the {@link SnippetIndex} of the snippets directory and their
+ * content is read through a {@link SnippetCache} so that a snippet that is included more
+ * than once is only read from disk while it is unchanged.
+ * <p>
+ * When the {@code passthrough} option is set on the macro, or the
+ * {@code operation-passthrough} attribute is set on the document, and the document is
+ * being converted using the {@code html5} backend, the HTML fragment that was produced
+ * alongside a snippet is added to its section as a passthrough block rather than the
+ * snippet being parsed. A snippet without an HTML fragment is parsed as usual.
+ * <p>
+ * A warning is logged when an operation or one of its snippets cannot be found. When the
+ * document is {@link Document#isSourcemap() source mapped}, the warning identifies the
+ * location of the block that contains the macro.
+ *
+ * @author agent (agent@local)
+ */
+@Name("operation")
+final class OperationBlockMacro extends BlockMacroProcessor {
+
+	private static final String FRAGMENT_SUFFIX = ".html";
+
+	private static final Map<String, String> DEFAULT_TITLES;
+
+	static {
+		Map<String, String> defaultTitles = new HashMap<>();
+		defaultTitles.put("http-request", "HTTP request");
+		defaultTitles.put("curl-request", "Curl request");
+		defaultTitles.put("httpie-request", "HTTPie request");
+		defaultTitles.put("request-body", "Request body");
+		defaultTitles.put("request-fields", "Request fields");
+		defaultTitles.put("http-response", "HTTP response");
+		defaultTitles.put("response-body", "Response body");
+		defaultTitles.put("response-fields", "Response fields");
+		defaultTitles.put("links", "Links");
+		DEFAULT_TITLES = Collections.unmodifiableMap(defaultTitles);
+	}
+
+	private final SnippetCache snippetCache;
+
+	OperationBlockMacro(SnippetCache snippetCache) {
+		this.snippetCache = snippetCache;
+	}
+
+	@Override
+	public Object process(StructuralNode parent, String operation, Map<String, Object> attributes) {
+		Document document = parent.getDocument();
+		File snippetsDirectory = SnippetsDirectoryResolver.resolveSnippetsDirectory(document);
+		List<Snippet> snippets = snippetsToInclude((String) attributes.get("snippets"), snippetsDirectory, operation);
+		if (snippets.isEmpty()) {
+			warn(parent, "No snippets were found for operation " + operation + " in " + snippetsDirectory);
+			parseSnippetContent(parent, Collections.singletonList("No snippets found for operation::" + operation));
+		}
+		else {
+			boolean passthrough = isPassthrough(document, attributes);
+			for (Snippet snippet : snippets) {
+				addSnippet(parent, snippet, operation, passthrough);
+			}
+		}
+		return null;
+	}
+
+	private boolean isPassthrough(Document document, Map<String, Object> attributes) {
+		return (attributes.containsKey("passthrough-option") || document.hasAttribute("operation-passthrough"))
+				&& "html5".equals(document.getAttribute("backend"));
+	}
+
+	private List<Snippet> snippetsToInclude(String snippetNames, File snippetsDirectory, String operation) {
+		SnippetIndex index = this.snippetCache.getIndex(snippetsDirectory);
+		List<Snippet> snippets = new ArrayList<>();
+		if (snippetNames == null || snippetNames.isEmpty()) {
+			for (IndexedSnippet indexed : index.getSnippets(operation)) {
+				snippets.add(new Snippet(indexed.getFile(), indexed.getName(), indexed));
+			}
+			return snippets;
+		}
+		File operationDirectory = new File(snippetsDirectory, operation);
+		for (String name : snippetNames.split(",")) {
+			snippets.add(new Snippet(new File(operationDirectory, name + ".adoc"), name,
+					index.getSnippet(operation, name)));
+		}
+		return snippets;
+	}
+
+	private void addSnippet(StructuralNode parent, Snippet snippet, String operation, boolean passthrough) {
+		Document document = parent.getDocument();
+		Section section = createSection(parent, document.hasAttribute("sectnums"), new HashMap<>());
+		section.setId(((parent.getId() != null) ? parent.getId() : "") + "_" + snippet.name.replaceFirst("-", "_"));
+		section.setTitle(getTitle(document, snippet));
+		parent.append(section);
+		if (passthrough) {
+			List<String> fragment = this.snippetCache.getLines(getFragmentFile(snippet));
+			if (fragment != null) {
+				section.append(createBlock(section, "pass", fragment));
+				return;
+			}
+		}
+		List<String> lines = (snippet.indexed != null) ? this.snippetCache.getLines(snippet.indexed)
+				: this.snippetCache.getLines(snippet.file);
+		if (lines == null) {
+			warn(parent, "Snippet " + snippet.name + " not found at " + snippet.file + " for operation " + operation);
+			lines = Collections.singletonList("Snippet " + snippet.name + " not found for operation::" + operation);
+		}
+		parseSnippetContent(section, lines);
+	}
+
+	private void parseSnippetContent(StructuralNode parent, List<String> lines) {
+		// The snippet's content is relative to its section so the document's level
+		// offset, if any, must not be applied to it
+		Map<String, Object> documentAttributes = parent.getDocument().getAttributes();
+		Object levelOffset = documentAttributes.remove("leveloffset");
+		try {
+			parseContent(parent, lines);
+		}
+		finally {
+			if (levelOffset != null) {
+				documentAttributes.put("leveloffset", levelOffset);
+			}
+		}
+	}
+
+	private File getFragmentFile(Snippet snippet) {
+		return new File(snippet.file.getParentFile(), snippet.name + FRAGMENT_SUFFIX);
+	}
+
+	private String getTitle(Document document, Snippet snippet) {
+		Object title = document.getAttribute("operation-" + snippet.name + "-title");
+		if (title != null) {
+			return title.toString();
+		}
+		String defaultTitle = DEFAULT_TITLES.get(snippet.name);
+		if (defaultTitle != null) {
+			return defaultTitle;
+		}
+		String name = snippet.name.replaceFirst("-", " ");
+		return name.substring(0, 1).toUpperCase(Locale.ENGLISH) + name.substring(1).toLowerCase(Locale.ENGLISH);
+	}
+
+	private void warn(StructuralNode parent, String message) {
+		log(new LogRecord(Severity.WARN, parent.getSourceLocation(), message));
+	}
+
+	private static final class Snippet {
+
+		private final File file;
+
+		private final String name;
+
+		private final IndexedSnippet indexed;
+
+		private Snippet(File file, String name, IndexedSnippet indexed) {
+			this.file = file;
+			this.name = name;
+			this.indexed = indexed;
+		}
+
+	}
+
+}
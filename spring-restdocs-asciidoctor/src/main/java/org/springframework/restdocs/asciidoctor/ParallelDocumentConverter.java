@@ -0,0 +1,225 @@
+/*
+ * Copyright 2014-2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.asciidoctor;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.asciidoctor.Asciidoctor;
+import org.asciidoctor.Attributes;
+import org.asciidoctor.Options;
+import org.asciidoctor.SafeMode;
+
+/**
+ * Converts a directory of Asciidoctor documents using a configurable number of worker
+ * threads. Every {@code .adoc} file beneath the source directory is converted, apart
+ * from files and directories whose names begin with {@code _} which, by convention, are
+ * only included by other documents. The output of each document is written to the
+ * corresponding location beneath the output directory.
+ * <p>
+ * All of the documents are converted by a single {@link Asciidoctor} instance. The
+ * extensions registered by {@link RestDocsExtensionRegistry} are thread-safe, so the
+ * index of the snippets directory and the content of the snippets are shared by the
+ * workers.
+ * <p>
+ * The converter can also be run from the command line. See {@link #main(String[])} for
+ * details of its arguments.
+ *
+ * @author agent (agent@local)
+ * @since 3.0.0
+ */
+public final class ParallelDocumentConverter {
+
+	private static final String WORKERS_ARGUMENT = "--workers=";
+
+	private final Asciidoctor asciidoctor;
+
+	private final int workers;
+
+	/**
+	 * Creates a new {@code ParallelDocumentConverter} that will use the given
+	 * {@code asciidoctor} to convert documents using the given number of
+	 * {@code workers}.
+	 * @param asciidoctor the Asciidoctor instance
+	 * @param workers the number of worker threads
+	 */
+	public ParallelDocumentConverter(Asciidoctor asciidoctor, int workers) {
+		if (workers < 1) {
+			throw new IllegalArgumentException("workers must be greater than zero");
+		}
+		this.asciidoctor = asciidoctor;
+		this.workers = workers;
+	}
+
+	/**
+	 * Converts the documents in the given {@code sourceDirectory}, writing their output
+	 * beneath the given {@code outputDirectory}. The given {@code attributes} are
+	 * applied to every document.
+	 * @param sourceDirectory the directory containing the documents
+	 * @param outputDirectory the directory to which output is written
+	 * @param attributes the document attributes
+	 * @return the documents that were converted
+	 * @throws IllegalStateException if the conversion of one or more documents fails
+	 */
+	public List<File> convert(File sourceDirectory, File outputDirectory, Map<String, Object> attributes) {
+		List<File> documents = findDocuments(sourceDirectory.toPath());
+		int threads = Math.max(1, Math.min(this.workers, documents.size()));
+		ExecutorService executor = Executors.newFixedThreadPool(threads, new WorkerThreadFactory());
+		try {
+			List<Future<?>> conversions = new ArrayList<>(documents.size());
+			for (File document : documents) {
+				Options options = createOptions(document, sourceDirectory, outputDirectory, attributes);
+				conversions.add(executor.submit(() -> this.asciidoctor.convertFile(document, options)));
+			}
+			awaitConversions(documents, conversions);
+			return documents;
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private List<File> findDocuments(Path sourceDirectory) {
+		List<File> documents = new ArrayList<>();
+		try {
+			Files.walkFileTree(sourceDirectory, new SimpleFileVisitor<Path>() {
+
+				@Override
+				public FileVisitResult preVisitDirectory(Path directory, BasicFileAttributes attributes) {
+					return (!directory.equals(sourceDirectory) && isPartial(directory))
+							? FileVisitResult.SKIP_SUBTREE : FileVisitResult.CONTINUE;
+				}
+
+				@Override
+				public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+					if (attributes.isRegularFile() && !isPartial(file)
+							&& file.getFileName().toString().endsWith(".adoc")) {
+						documents.add(file.toFile());
+					}
+					return FileVisitResult.CONTINUE;
+				}
+
+			});
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException("Failed to find documents in '" + sourceDirectory + "'", ex);
+		}
+		Collections.sort(documents);
+		return documents;
+	}
+
+	private boolean isPartial(Path path) {
+		return path.getFileName().toString().startsWith("_");
+	}
+
+	private Options createOptions(File document, File sourceDirectory, File outputDirectory,
+			Map<String, Object> attributes) {
+		Path relativeDirectory = sourceDirectory.toPath().relativize(document.getParentFile().toPath());
+		return Options.builder().safe(SafeMode.UNSAFE).baseDir(document.getParentFile())
+				.toDir(new File(outputDirectory, relativeDirectory.toString())).mkDirs(true)
+				.attributes(Attributes.builder().attributes(attributes).build()).build();
+	}
+
+	private void awaitConversions(List<File> documents, List<Future<?>> conversions) {
+		IllegalStateException failure = null;
+		for (int i = 0; i < conversions.size(); i++) {
+			try {
+				conversions.get(i).get();
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException("Interrupted while converting documents", ex);
+			}
+			catch (ExecutionException ex) {
+				IllegalStateException documentFailure = new IllegalStateException(
+						"Failed to convert '" + documents.get(i) + "'", ex.getCause());
+				if (failure == null) {
+					failure = documentFailure;
+				}
+				else {
+					failure.addSuppressed(documentFailure);
+				}
+			}
+		}
+		if (failure != null) {
+			throw failure;
+		}
+	}
+
+	/**
+	 * Converts a directory of documents. The first and second arguments are the source
+	 * and output directories respectively. They may be followed by a
+	 * {@code --workers=<count>} argument, which defaults to the number of available
+	 * processors, and by any number of {@code <attribute>=<value>} arguments.
+	 * @param args the arguments
+	 */
+	public static void main(String[] args) {
+		if (args.length < 2) {
+			System.err.println("Usage: ParallelDocumentConverter <source-directory> <output-directory>"
+					+ " [--workers=<count>] [<attribute>=<value> ...]");
+			System.exit(1);
+		}
+		int workers = Runtime.getRuntime().availableProcessors();
+		Map<String, Object> attributes = new HashMap<>();
+		for (int i = 2; i < args.length; i++) {
+			if (args[i].startsWith(WORKERS_ARGUMENT)) {
+				workers = Integer.parseInt(args[i].substring(WORKERS_ARGUMENT.length()));
+			}
+			else {
+				int equals = args[i].indexOf('=');
+				attributes.put((equals != -1) ? args[i].substring(0, equals) : args[i],
+						(equals != -1) ? args[i].substring(equals + 1) : "");
+			}
+		}
+		try (Asciidoctor asciidoctor = Asciidoctor.Factory.create()) {
+			List<File> converted = new ParallelDocumentConverter(asciidoctor, workers).convert(new File(args[0]),
+					new File(args[1]), attributes);
+			System.out.println("Converted " + converted.size() + " documents using " + workers + " workers");
+		}
+	}
+
+	private static final class WorkerThreadFactory implements ThreadFactory {
+
+		private final AtomicInteger threadCount = new AtomicInteger();
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(runnable, "asciidoctor-worker-" + this.threadCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		}
+
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2014-2021 the original author or authors.
+ * Copyright 2014-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,7 +20,10 @@ import org.asciidoctor.Asciidoctor;
 import org.asciidoctor.jruby.extension.spi.ExtensionRegistry;
 
 /**
- * {@link ExtensionRegistry} for Spring REST Docs.
+ * {@link ExtensionRegistry} for Spring REST Docs. The registered extensions are
+ * thread-safe and share a {@link SnippetCache}, allowing documents to be converted
+ * concurrently by a single {@link Asciidoctor} instance as is done by
+ * {@link ParallelDocumentConverter}.
  *
  * @author Andy Wilkinson
  */
@@ -28,10 +31,9 @@ public final class RestDocsExtensionRegistry implements ExtensionRegistry {
 
 	@Override
 	public void register(Asciidoctor asciidoctor) {
-		asciidoctor.javaExtensionRegistry().preprocessor(new DefaultAttributesPreprocessor());
-		asciidoctor.rubyExtensionRegistry()
-				.loadClass(RestDocsExtensionRegistry.class.getResourceAsStream("/extensions/operation_block_macro.rb"))
-				.blockMacro("operation", "OperationBlockMacro");
+		SnippetCache snippetCache = new SnippetCache();
+		asciidoctor.javaExtensionRegistry().preprocessor(new DefaultAttributesPreprocessor(snippetCache));
+		asciidoctor.javaExtensionRegistry().blockMacro(new OperationBlockMacro(snippetCache));
 	}
 
 }
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2014-2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.asciidoctor;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.restdocs.asciidoctor.SnippetIndex.IndexedSnippet;
+
+/**
+ * A cache of {@link SnippetIndex snippet indexes} and of the content of snippet files.
+ * A cache is created for each {@link org.asciidoctor.Asciidoctor} instance. The index of
+ * a snippets directory is built once and is then shared by the documents that are
+ * converted using the same cache. As each document is converted, the index is
+ * {@link #refreshIndex(File) refreshed}, which rebuilds it only if the last modified
+ * time of the snippets directory has changed. An entry for the content of a snippet is
+ * keyed by the absolute path of the snippet file. The content of an indexed snippet is
+ * reused for as long as the snippet's last modified time and size in the index are
+ * unchanged, so no further calls to the file system are required. The content of a
+ * snippet file that is not in an index is reused for as long as the last modified time
+ * and size of the file on disk are unchanged.
+ * <p>
+ * A cache is thread-safe. When it is shared by documents that are being converted
+ * concurrently, each version of a snippet is read only once.
+ *
+ * @author agent (agent@local)
+ */
+class SnippetCache {
+
+	private final Map<Path, SnippetIndex> indexes = new ConcurrentHashMap<>();
+
+	private final Map<String, CachedSnippet> snippets = new ConcurrentHashMap<>();
+
+	/**
+	 * Returns the index of the given snippets {@code directory}, building it if the
+	 * directory has not been indexed.
+	 * @param directory the snippets directory
+	 * @return the index
+	 */
+	SnippetIndex getIndex(File directory) {
+		return this.indexes.computeIfAbsent(normalize(directory), (path) -> SnippetIndex.of(path.toFile()));
+	}
+
+	/**
+	 * Refreshes the index of the given snippets {@code directory}. The index is rebuilt
+	 * if the directory has not been indexed or if it is no longer
+	 * {@link SnippetIndex#isCurrent() current}.
+	 * @param directory the snippets directory
+	 * @return the current index
+	 */
+	SnippetIndex refreshIndex(File directory) {
+		Path path = normalize(directory);
+		SnippetIndex index = this.indexes.get(path);
+		if (index == null || !index.isCurrent()) {
+			index = this.indexes.compute(path,
+					(key, existing) -> (existing != null && existing.isCurrent()) ? existing
+							: SnippetIndex.of(key.toFile()));
+		}
+		return index;
+	}
+
+	private Path normalize(File directory) {
+		return directory.toPath().toAbsolutePath().normalize();
+	}
+
+	/**
+	 * Returns the lines of the given indexed {@code snippet} or {@code null} if it no
+	 * longer exists. The size and last modified time that were recorded when the snippet
+	 * was indexed are used to determine whether a cached entry is current.
+	 * @param snippet the snippet
+	 * @return the lines of the snippet or {@code null}
+	 */
+	List<String> getLines(IndexedSnippet snippet) {
+		return getLines(snippet.getFile(), snippet.getLastModified(), snippet.getLength());
+	}
+
+	/**
+	 * Returns the lines of the given snippet {@code file} or {@code null} if the file
+	 * does not exist.
+	 * @param file the snippet file
+	 * @return the lines of the snippet or {@code null}
+	 */
+	List<String> getLines(File file) {
+		if (!file.isFile()) {
+			this.snippets.remove(file.getAbsolutePath());
+			return null;
+		}
+		return getLines(file, file.lastModified(), file.length());
+	}
+
+	private List<String> getLines(File file, long lastModified, long length) {
+		CachedSnippet cached = this.snippets.get(file.getAbsolutePath());
+		if (cached == null || !cached.isCurrent(lastModified, length)) {
+			cached = this.snippets.compute(file.getAbsolutePath(),
+					(path, existing) -> (existing != null && existing.isCurrent(lastModified, length)) ? existing
+							: read(file, lastModified, length));
+		}
+		return (cached != null) ? cached.lines : null;
+	}
+
+	private CachedSnippet read(File file, long lastModified, long length) {
+		try {
+			return new CachedSnippet(lastModified, length,
+					Collections.unmodifiableList(Files.readAllLines(file.toPath(), StandardCharsets.UTF_8)));
+		}
+		catch (NoSuchFileException ex) {
+			return null;
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException("Failed to read snippet '" + file + "'", ex);
+		}
+	}
+
+	private static final class CachedSnippet {
+
+		private final long lastModified;
+
+		private final long length;
+
+		private final List<String> lines;
+
+		private CachedSnippet(long lastModified, long length, List<String> lines) {
+			this.lastModified = lastModified;
+			this.length = length;
+			this.lines = lines;
+		}
+
+		private boolean isCurrent(long lastModified, long length) {
+			return this.lastModified == lastModified && this.length == length;
+		}
+
+	}
+
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright 2014-2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.asciidoctor;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * An index of the snippets in a snippets directory, built by walking the directory once.
+ * Each directory beneath the snippets directory that contains {@code .adoc} files is
+ * indexed as an operation, named using its path relative to the snippets directory. The
+ * size and last modified time of each snippet file are recorded as it is indexed, as is
+ * the last modified time of the snippets directory itself.
+ *
+ * @author agent (agent@local)
+ */
+final class SnippetIndex {
+
+	private static final String SNIPPET_SUFFIX = ".adoc";
+
+	private final Path directory;
+
+	private final Map<String, List<IndexedSnippet>> snippetsByOperation;
+
+	private final FileTime directoryLastModified;
+
+	private SnippetIndex(Path directory, Map<String, List<IndexedSnippet>> snippetsByOperation,
+			FileTime directoryLastModified) {
+		this.directory = directory;
+		this.snippetsByOperation = snippetsByOperation;
+		this.directoryLastModified = directoryLastModified;
+	}
+
+	/**
+	 * Returns whether the snippets directory existed when it was indexed.
+	 * @return whether the directory was present
+	 */
+	boolean isDirectoryPresent() {
+		return this.directoryLastModified != null;
+	}
+
+	/**
+	 * Returns whether the index is current. An index is current while the last modified
+	 * time of its snippets directory, or the directory's absence, is unchanged.
+	 * @return whether the index is current
+	 */
+	boolean isCurrent() {
+		return Objects.equals(this.directoryLastModified, getLastModifiedTime(this.directory));
+	}
+
+	/**
+	 * Returns the snippets of the given {@code operation}, sorted by file name.
+	 * @param operation the name of the operation
+	 * @return the snippets, or an empty list if the operation has no snippets
+	 */
+	List<IndexedSnippet> getSnippets(String operation) {
+		List<IndexedSnippet> snippets = this.snippetsByOperation.get(normalize(operation));
+		return (snippets != null) ? snippets : Collections.emptyList();
+	}
+
+	/**
+	 * Returns the snippet of the given {@code operation} with the given {@code name}.
+	 * @param operation the name of the operation
+	 * @param name the name of the snippet
+	 * @return the snippet or {@code null} if it is not in the index
+	 */
+	IndexedSnippet getSnippet(String operation, String name) {
+		for (IndexedSnippet snippet : getSnippets(operation)) {
+			if (snippet.getName().equals(name)) {
+				return snippet;
+			}
+		}
+		return null;
+	}
+
+	private static String normalize(String operation) {
+		return operation.replace(File.separatorChar, '/');
+	}
+
+	private static FileTime getLastModifiedTime(Path directory) {
+		try {
+			BasicFileAttributes attributes = Files.readAttributes(directory, BasicFileAttributes.class);
+			return attributes.isDirectory() ? attributes.lastModifiedTime() : null;
+		}
+		catch (IOException ex) {
+			return null;
+		}
+	}
+
+	/**
+	 * Builds an index of the snippets in the given {@code directory}. A directory that
+	 * does not exist produces an empty index.
+	 * @param directory the snippets directory
+	 * @return the index
+	 */
+	static SnippetIndex of(File directory) {
+		Path root = directory.toPath();
+		// Recorded before walking so that a modification during the walk is detected
+		FileTime lastModified = getLastModifiedTime(root);
+		if (lastModified == null) {
+			return new SnippetIndex(root, Collections.emptyMap(), null);
+		}
+		Map<String, List<IndexedSnippet>> snippetsByOperation = new HashMap<>();
+		try {
+			Files.walkFileTree(root, new SimpleFileVisitor<Path>() {
+
+				@Override
+				public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+					String fileName = file.getFileName().toString();
+					if (attributes.isRegularFile() && fileName.endsWith(SNIPPET_SUFFIX)) {
+						String operation = normalize(root.relativize(file.getParent()).toString());
+						snippetsByOperation.computeIfAbsent(operation, (key) -> new ArrayList<>())
+								.add(new IndexedSnippet(file.toFile(),
+										fileName.substring(0, fileName.length() - SNIPPET_SUFFIX.length()),
+										attributes.lastModifiedTime().toMillis(), attributes.size()));
+					}
+					return FileVisitResult.CONTINUE;
+				}
+
+			});
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException("Failed to index snippets in '" + directory + "'", ex);
+		}
+		for (List<IndexedSnippet> snippets : snippetsByOperation.values()) {
+			snippets.sort(Comparator.comparing((snippet) -> snippet.getFile().getName()));
+		}
+		return new SnippetIndex(root, snippetsByOperation, lastModified);
+	}
+
+	/**
+	 * A snippet file, and its last modified time and size, as they were when its
+	 * directory was indexed.
+	 */
+	static final class IndexedSnippet {
+
+		private final File file;
+
+		private final String name;
+
+		private final long lastModified;
+
+		private final long length;
+
+		IndexedSnippet(File file, String name, long lastModified, long length) {
+			this.file = file;
+			this.name = name;
+			this.lastModified = lastModified;
+			this.length = length;
+		}
+
+		File getFile() {
+			return this.file;
+		}
+
+		String getName() {
+			return this.name;
+		}
+
+		long getLastModified() {
+			return this.lastModified;
+		}
+
+		long getLength() {
+			return this.length;
+		}
+
+	}
+
+}
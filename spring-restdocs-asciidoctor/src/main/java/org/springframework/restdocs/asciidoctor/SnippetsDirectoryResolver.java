@@ -1,5 +1,5 @@
 /*
- * Copyright 2014-2021 the original author or authors.
+ * Copyright 2014-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,17 +21,24 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 
+import org.asciidoctor.ast.Document;
+
 /**
  * Resolves the directory from which snippets can be read for inclusion in an Asciidoctor
  * document. The resolved directory is relative to the {@code docdir} of the Asciidoctor
- * document that it being rendered.
+ * document that it being rendered. In a Maven build, the directory that is resolved for
+ * a {@code docdir} is remembered so that the search for the {@code pom.xml} file is only
+ * performed once per {@code docdir}.
  *
  * @author Andy Wilkinson
  */
 class SnippetsDirectoryResolver {
 
+	private final Map<Path, File> mavenSnippetsDirectories = new ConcurrentHashMap<>();
+
 	File getSnippetsDirectory(Map<String, Object> attributes) {
 		if (System.getProperty("maven.home") != null) {
 			return getMavenSnippetsDirectory(attributes);
@@ -41,7 +48,8 @@ class SnippetsDirectoryResolver {
 
 	private File getMavenSnippetsDirectory(Map<String, Object> attributes) {
 		Path docdir = Paths.get(getRequiredAttribute(attributes, "docdir"));
-		return new File(docdir.relativize(findPom(docdir).getParent()).toFile(), "target/generated-snippets");
+		return this.mavenSnippetsDirectories.computeIfAbsent(docdir, (key) -> new File(
+				docdir.relativize(findPom(docdir).getParent()).toFile(), "target/generated-snippets"));
 	}
 
 	private Path findPom(Path docdir) {
@@ -61,6 +69,22 @@ class SnippetsDirectoryResolver {
 				() -> getRequiredAttribute(attributes, "projectdir")), "build/generated-snippets");
 	}
 
+	/**
+	 * Returns the snippets directory of the given {@code document} as identified by its
+	 * {@code snippets} attribute. A relative directory is resolved against the document's
+	 * base directory.
+	 * @param document the document
+	 * @return the snippets directory
+	 */
+	static File resolveSnippetsDirectory(Document document) {
+		File snippetsDirectory = new File(String.valueOf(document.getAttribute("snippets", "")));
+		Object baseDir = document.getOptions().get("base_dir");
+		if (snippetsDirectory.isAbsolute() || baseDir == null) {
+			return snippetsDirectory;
+		}
+		return new File(baseDir.toString(), snippetsDirectory.getPath());
+	}
+
 	private String getRequiredAttribute(Map<String, Object> attributes, String name) {
 		return getRequiredAttribute(attributes, name, null);
 	}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2014-2021 the original author or authors.
+ * Copyright 2014-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -46,7 +46,7 @@ import org.springframework.util.FileSystemUtils;
 import static org.assertj.core.api.Assertions.assertThat;
 
 /**
- * Base class for tests for the Ruby operation block macro.
+ * Base class for tests for {@link OperationBlockMacro}.
  *
  * @author Gerrit Meier
  * @author Andy Wilkinson
@@ -167,6 +167,7 @@ public abstract class AbstractOperationBlockMacroTests {
 
 	@Test
 	public void includingMissingSnippetAddsWarning() throws Exception {
+		this.options.setSourcemap(true);
 		String result = this.asciidoctor.convert("operation::some-operation[snippets='missing-snippet']", this.options);
 		assertThat(result).startsWith(getExpectedContentFromFile("missing-snippet"));
 		assertThat(CapturingLogHandler.getLogRecords()).hasSize(1);
@@ -184,6 +185,7 @@ public abstract class AbstractOperationBlockMacroTests {
 
 	@Test
 	public void missingOperationIsHandledGracefully() throws Exception {
+		this.options.setSourcemap(true);
 		String result = this.asciidoctor.convert("operation::missing-operation[]", this.options);
 		assertThat(result).startsWith(getExpectedContentFromFile("missing-operation"));
 		assertThat(CapturingLogHandler.getLogRecords()).hasSize(1);
@@ -207,6 +209,60 @@ public abstract class AbstractOperationBlockMacroTests {
 		assertThat(result).isEqualTo(getExpectedContentFromFile("custom-snippet-custom-title"));
 	}
 
+	@Test
+	public void passthroughOptionIncludesHtmlFragmentOfSnippet() throws Exception {
+		String result = this.asciidoctor.convert("operation::some-operation[snippets='curl-request',opts=passthrough]",
+				this.options);
+		assertThat(result).isEqualTo(getExpectedContentFromFile("snippet-passthrough"));
+	}
+
+	@Test
+	public void passthroughDocumentAttributeIncludesHtmlFragmentOfSnippet() throws Exception {
+		String result = this.asciidoctor.convert(
+				":operation-passthrough:\n" + "operation::some-operation[snippets='curl-request']", this.options);
+		assertThat(result).isEqualTo(getExpectedContentFromFile("snippet-passthrough"));
+	}
+
+	@Test
+	public void passthroughOfSnippetWithoutHtmlFragmentParsesSnippet() throws Exception {
+		String result = this.asciidoctor
+				.convert("operation::some-operation[snippets='response-fields',opts=passthrough]", this.options);
+		assertThat(result).isEqualTo(getExpectedContentFromFile("snippet-table"));
+	}
+
+	@Test
+	public void passthroughWithPdfBackendParsesSnippet() throws Exception {
+		File output = configurePdfOutput();
+		this.asciidoctor.convert("operation::some-operation[snippets='curl-request',opts=passthrough]", this.options);
+		assertThat(extractStrings(output)).containsExactly("Curl request", "$ curl 'http://localhost:8080/' -i", "1");
+	}
+
+	@Test
+	public void snippetModifiedBetweenConversionsIsIncludedByANewConversion() throws Exception {
+		String source = "operation::some-operation[snippets='curl-request']";
+		assertThat(this.asciidoctor.convert(source, this.options)).contains("$ curl 'http://localhost:8080/' -i");
+		Files.write(new File(getBuildOutputLocation(), "generated-snippets/some-operation/curl-request.adoc").toPath(),
+				"[source,bash]\n----\n$ curl 'http://localhost:8080/modified' -i -X POST\n----\n"
+						.getBytes(StandardCharsets.UTF_8));
+		try (Asciidoctor newAsciidoctor = Asciidoctor.Factory.create()) {
+			assertThat(newAsciidoctor.convert(source, this.options))
+					.contains("$ curl 'http://localhost:8080/modified' -i -X POST")
+					.doesNotContain("$ curl 'http://localhost:8080/' -i");
+		}
+	}
+
+	@Test
+	public void operationAddedBetweenConversionsIsIncludedWhenConvertingAgain() throws Exception {
+		File snippets = new File(getBuildOutputLocation(), "generated-snippets");
+		String source = "operation::some-operation[]\n\noperation::added-operation[]";
+		assertThat(this.asciidoctor.convert(source, this.options)).doesNotContain("Added snippet");
+		CapturingLogHandler.getLogRecords().clear();
+		File added = new File(snippets, "added-operation/added.adoc");
+		added.getParentFile().mkdirs();
+		Files.write(added.toPath(), "Added snippet".getBytes(StandardCharsets.UTF_8));
+		assertThat(this.asciidoctor.convert(source, this.options)).contains("Added snippet");
+	}
+
 	private String getExpectedContentFromFile(String fileName) throws URISyntaxException, IOException {
 		Path filePath = Paths.get(this.getClass().getResource("/operations/" + fileName + ".html").toURI());
 		String content = new String(Files.readAllBytes(filePath), StandardCharsets.UTF_8);
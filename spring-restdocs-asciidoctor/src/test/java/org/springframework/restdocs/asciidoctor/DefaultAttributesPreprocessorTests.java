@@ -1,5 +1,5 @@
 /*
- * Copyright 2014-2021 the original author or authors.
+ * Copyright 2014-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -60,7 +60,7 @@ public class DefaultAttributesPreprocessorTests {
 
 	private Asciidoctor createAsciidoctor() {
 		Asciidoctor asciidoctor = Asciidoctor.Factory.create();
-		asciidoctor.javaExtensionRegistry().preprocessor(new DefaultAttributesPreprocessor());
+		asciidoctor.javaExtensionRegistry().preprocessor(new DefaultAttributesPreprocessor(new SnippetCache()));
 		return asciidoctor;
 	}
 
@@ -1,5 +1,5 @@
 /*
- * Copyright 2014-2021 the original author or authors.
+ * Copyright 2014-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -24,7 +24,7 @@ import org.junit.After;
 import org.junit.Before;
 
 /**
- * Tests for Ruby operation block macro when used in a Maven build.
+ * Tests for {@link OperationBlockMacro} when used in a Maven build.
  *
  * @author Andy Wilkinson
  */
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2014-2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.asciidoctor;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.asciidoctor.Asciidoctor;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import org.springframework.util.FileSystemUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Tests for {@link ParallelDocumentConverter}.
+ *
+ * @author agent (agent@local)
+ */
+public class ParallelDocumentConverterTests {
+
+	private static final Asciidoctor asciidoctor = Asciidoctor.Factory.create();
+
+	@Rule
+	public TemporaryFolder temp = new TemporaryFolder();
+
+	private File source;
+
+	private File output;
+
+	private Map<String, Object> attributes;
+
+	@AfterClass
+	public static void shutdown() {
+		asciidoctor.shutdown();
+	}
+
+	@Before
+	public void setUp() throws IOException {
+		File project = this.temp.newFolder("project");
+		File snippets = new File(project, "build/generated-snippets/some-operation");
+		snippets.mkdirs();
+		FileSystemUtils.copyRecursively(new File("src/test/resources/some-operation"), snippets);
+		this.source = new File(project, "src/docs/asciidoc");
+		this.output = new File(project, "build/docs");
+		this.attributes = Collections.singletonMap("projectdir", project.getAbsolutePath());
+	}
+
+	@Test
+	public void documentsAreConvertedUsingMultipleWorkers() throws IOException {
+		for (int i = 0; i < 10; i++) {
+			write("document-" + i + ".adoc", "= Document " + i + "\n\noperation::some-operation[]\n");
+		}
+		List<File> converted = new ParallelDocumentConverter(asciidoctor, 4).convert(this.source, this.output,
+				this.attributes);
+		assertThat(converted).hasSize(10);
+		for (int i = 0; i < 10; i++) {
+			assertThat(read("document-" + i + ".html")).contains("Document " + i).contains("Curl request")
+					.contains("mycustomsnippet-äöü");
+		}
+	}
+
+	@Test
+	public void structureOfSourceDirectoryIsMirroredInOutputDirectory() throws IOException {
+		write("index.adoc", "= Index");
+		write("api/users.adoc", "= Users");
+		new ParallelDocumentConverter(asciidoctor, 2).convert(this.source, this.output, this.attributes);
+		assertThat(new File(this.output, "index.html")).isFile();
+		assertThat(new File(this.output, "api/users.html")).isFile();
+	}
+
+	@Test
+	public void partialDocumentsAreNotConverted() throws IOException {
+		write("index.adoc", "= Index\n\ninclude::_partial.adoc[]\n\ninclude::_partials/other.adoc[]\n");
+		write("_partial.adoc", "Partial");
+		write("_partials/other.adoc", "Other");
+		List<File> converted = new ParallelDocumentConverter(asciidoctor, 2).convert(this.source, this.output,
+				this.attributes);
+		assertThat(converted).containsExactly(new File(this.source, "index.adoc"));
+		assertThat(read("index.html")).contains("Partial").contains("Other");
+		assertThat(new File(this.output, "_partial.html")).doesNotExist();
+	}
+
+	@Test
+	public void failureToConvertADocumentIsReported() throws IOException {
+		write("index.adoc", "= Index");
+		assertThatIllegalStateException().isThrownBy(() -> new ParallelDocumentConverter(asciidoctor, 2)
+				.convert(this.source, this.output, Collections.emptyMap()))
+				.withMessageContaining(new File(this.source, "index.adoc").getPath());
+	}
+
+	@Test
+	public void workersMustBeGreaterThanZero() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new ParallelDocumentConverter(asciidoctor, 0))
+				.withMessage("workers must be greater than zero");
+	}
+
+	private void write(String path, String content) throws IOException {
+		File file = new File(this.source, path);
+		file.getParentFile().mkdirs();
+		Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private String read(String path) throws IOException {
+		return new String(Files.readAllBytes(new File(this.output, path).toPath()), StandardCharsets.UTF_8);
+	}
+
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2014-2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.asciidoctor;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import org.springframework.restdocs.asciidoctor.SnippetIndex.IndexedSnippet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link SnippetCache}.
+ *
+ * @author agent (agent@local)
+ */
+public class SnippetCacheTests {
+
+	@Rule
+	public TemporaryFolder temp = new TemporaryFolder();
+
+	private final SnippetCache cache = new SnippetCache();
+
+	@Test
+	public void linesOfSnippetAreRead() throws IOException {
+		File snippet = write("snippet.adoc", "[source,bash]\r\n----\n$ curl 'http://localhost:8080/' -i\n----");
+		assertThat(this.cache.getLines(snippet)).containsExactly("[source,bash]", "----",
+				"$ curl 'http://localhost:8080/' -i", "----");
+	}
+
+	@Test
+	public void linesAreReadAsUtf8() throws IOException {
+		File snippet = write("snippet.adoc", "äöü");
+		assertThat(this.cache.getLines(snippet)).containsExactly("äöü");
+	}
+
+	@Test
+	public void unchangedSnippetIsReadFromTheCache() throws IOException {
+		File snippet = write("snippet.adoc", "one");
+		List<String> lines = this.cache.getLines(snippet);
+		assertThat(this.cache.getLines(snippet)).isSameAs(lines);
+	}
+
+	@Test
+	public void modifiedSnippetIsReadAgain() throws IOException {
+		File snippet = write("snippet.adoc", "one");
+		assertThat(this.cache.getLines(snippet)).containsExactly("one");
+		write("snippet.adoc", "one\ntwo");
+		assertThat(this.cache.getLines(snippet)).containsExactly("one", "two");
+	}
+
+	@Test
+	public void missingSnippetProducesNull() {
+		assertThat(this.cache.getLines(new File(this.temp.getRoot(), "missing.adoc"))).isNull();
+	}
+
+	@Test
+	public void deletedSnippetProducesNull() throws IOException {
+		File snippet = write("snippet.adoc", "one");
+		assertThat(this.cache.getLines(snippet)).containsExactly("one");
+		snippet.delete();
+		assertThat(this.cache.getLines(snippet)).isNull();
+	}
+
+	@Test
+	public void indexOfDirectoryIsBuiltOnce() {
+		SnippetIndex index = this.cache.getIndex(this.temp.getRoot());
+		assertThat(this.cache.getIndex(new File(this.temp.getRoot(), "."))).isSameAs(index);
+	}
+
+	@Test
+	public void refreshingAnUnmodifiedDirectoryReusesItsIndex() throws IOException {
+		write("some-operation/snippet.adoc", "one");
+		SnippetIndex index = this.cache.getIndex(this.temp.getRoot());
+		assertThat(this.cache.refreshIndex(this.temp.getRoot())).isSameAs(index);
+	}
+
+	@Test
+	public void refreshedIndexContainsOperationsAddedSinceTheDirectoryWasIndexed() throws IOException {
+		SnippetIndex index = this.cache.getIndex(this.temp.getRoot());
+		assertThat(index.getSnippets("some-operation")).isEmpty();
+		write("some-operation/snippet.adoc", "one");
+		SnippetIndex refreshed = this.cache.refreshIndex(this.temp.getRoot());
+		assertThat(refreshed.getSnippets("some-operation")).extracting(IndexedSnippet::getName)
+				.containsExactly("snippet");
+		assertThat(this.cache.getIndex(this.temp.getRoot())).isSameAs(refreshed);
+	}
+
+	@Test
+	public void refreshedIndexOfDirectoryThatWasMissingIsBuiltOnceTheDirectoryExists() throws IOException {
+		File directory = new File(this.temp.getRoot(), "snippets");
+		assertThat(this.cache.refreshIndex(directory).isDirectoryPresent()).isFalse();
+		assertThat(this.cache.refreshIndex(directory).isDirectoryPresent()).isFalse();
+		write("snippets/some-operation/snippet.adoc", "one");
+		SnippetIndex index = this.cache.refreshIndex(directory);
+		assertThat(index.getSnippets("some-operation")).extracting(IndexedSnippet::getName).containsExactly("snippet");
+		assertThat(this.cache.refreshIndex(directory)).isSameAs(index);
+	}
+
+	@Test
+	public void linesOfIndexedSnippetAreRead() throws IOException {
+		write("some-operation/snippet.adoc", "one\ntwo");
+		IndexedSnippet snippet = this.cache.getIndex(this.temp.getRoot()).getSnippet("some-operation", "snippet");
+		assertThat(this.cache.getLines(snippet)).containsExactly("one", "two");
+	}
+
+	@Test
+	public void unchangedIndexedSnippetIsReadFromTheCacheUsingItsIndexedAttributes() throws IOException {
+		File file = write("some-operation/snippet.adoc", "one");
+		IndexedSnippet snippet = this.cache.getIndex(this.temp.getRoot()).getSnippet("some-operation", "snippet");
+		List<String> lines = this.cache.getLines(snippet);
+		file.setLastModified(snippet.getLastModified() + 10000);
+		assertThat(this.cache.getLines(snippet)).isSameAs(lines);
+		assertThat(this.cache.getLines(file)).isNotSameAs(lines).containsExactly("one");
+	}
+
+	@Test
+	public void indexedSnippetThatHasBeenDeletedProducesNull() throws IOException {
+		File file = write("some-operation/snippet.adoc", "one");
+		IndexedSnippet snippet = this.cache.getIndex(this.temp.getRoot()).getSnippet("some-operation", "snippet");
+		file.delete();
+		assertThat(this.cache.getLines(snippet)).isNull();
+	}
+
+	@Test
+	public void snippetThatIsReadConcurrentlyIsReadOnce() throws Exception {
+		File snippet = write("snippet.adoc", "one");
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<List<String>>> results = new ArrayList<>();
+			for (int i = 0; i < 16; i++) {
+				results.add(executor.submit(() -> this.cache.getLines(snippet)));
+			}
+			List<String> lines = results.get(0).get();
+			for (Future<List<String>> result : results) {
+				assertThat(result.get()).isSameAs(lines);
+			}
+		}
+		finally {
+			executor.shutdown();
+		}
+	}
+
+	private File write(String name, String content) throws IOException {
+		File file = new File(this.temp.getRoot(), name);
+		file.getParentFile().mkdirs();
+		Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+		return file;
+	}
+
+}
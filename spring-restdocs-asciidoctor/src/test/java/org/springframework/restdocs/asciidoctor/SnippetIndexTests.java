@@ -0,0 +1,114 @@
+/*
+ * Copyright 2014-2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.asciidoctor;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import org.springframework.restdocs.asciidoctor.SnippetIndex.IndexedSnippet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link SnippetIndex}.
+ *
+ * @author agent (agent@local)
+ */
+public class SnippetIndexTests {
+
+	@Rule
+	public TemporaryFolder temp = new TemporaryFolder();
+
+	@Test
+	public void snippetsOfAnOperationAreIndexedInFileNameOrder() throws IOException {
+		write("some-operation/http-request.adoc", "request");
+		write("some-operation/curl-request.adoc", "curl");
+		write("some-operation/notes.txt", "notes");
+		SnippetIndex index = SnippetIndex.of(this.temp.getRoot());
+		assertThat(index.getSnippets("some-operation")).extracting(IndexedSnippet::getName)
+				.containsExactly("curl-request", "http-request");
+	}
+
+	@Test
+	public void fileSizeAndLastModifiedTimeOfSnippetsAreIndexed() throws IOException {
+		File snippet = write("some-operation/curl-request.adoc", "curl");
+		SnippetIndex index = SnippetIndex.of(this.temp.getRoot());
+		assertThat(index.isDirectoryPresent()).isTrue();
+		IndexedSnippet indexed = index.getSnippet("some-operation", "curl-request");
+		assertThat(indexed.getFile()).isEqualTo(snippet);
+		assertThat(indexed.getLength()).isEqualTo(4);
+		assertThat(indexed.getLastModified()).isEqualTo(snippet.lastModified());
+	}
+
+	@Test
+	public void indexIsCurrentUntilTheDirectoryIsModified() throws IOException {
+		write("some-operation/curl-request.adoc", "curl");
+		SnippetIndex index = SnippetIndex.of(this.temp.getRoot());
+		assertThat(index.isCurrent()).isTrue();
+		write("some-operation/curl-request.adoc", "curl -i");
+		assertThat(index.isCurrent()).isTrue();
+		this.temp.getRoot().setLastModified(this.temp.getRoot().lastModified() + 10000);
+		assertThat(index.isCurrent()).isFalse();
+	}
+
+	@Test
+	public void indexOfMissingDirectoryIsNotCurrentOnceTheDirectoryExists() throws IOException {
+		File directory = new File(this.temp.getRoot(), "missing");
+		SnippetIndex index = SnippetIndex.of(directory);
+		assertThat(index.isCurrent()).isTrue();
+		directory.mkdirs();
+		assertThat(index.isCurrent()).isFalse();
+	}
+
+	@Test
+	public void operationsInNestedDirectoriesAreIndexed() throws IOException {
+		write("users/get/curl-request.adoc", "curl");
+		SnippetIndex index = SnippetIndex.of(this.temp.getRoot());
+		assertThat(index.getSnippets("users/get")).extracting(IndexedSnippet::getName).containsExactly("curl-request");
+		assertThat(index.getSnippets("users")).isEmpty();
+	}
+
+	@Test
+	public void unknownOperationHasNoSnippets() throws IOException {
+		write("some-operation/curl-request.adoc", "curl");
+		SnippetIndex index = SnippetIndex.of(this.temp.getRoot());
+		assertThat(index.getSnippets("other-operation")).isEmpty();
+		assertThat(index.getSnippet("other-operation", "curl-request")).isNull();
+		assertThat(index.getSnippet("some-operation", "http-request")).isNull();
+	}
+
+	@Test
+	public void missingDirectoryProducesAnEmptyIndex() {
+		SnippetIndex index = SnippetIndex.of(new File(this.temp.getRoot(), "missing"));
+		assertThat(index.isDirectoryPresent()).isFalse();
+		assertThat(index.getSnippets("some-operation")).isEmpty();
+	}
+
+	private File write(String path, String content) throws IOException {
+		File file = new File(this.temp.getRoot(), path);
+		file.getParentFile().mkdirs();
+		Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+		return file;
+	}
+
+}
@@ -48,6 +48,17 @@ public class SnippetsDirectoryResolverTests {
 		assertThat(snippetsDirectory).isEqualTo(new File("../../../target/generated-snippets"));
 	}
 
+	@Test
+	public void mavenSnippetsDirectoryIsResolvedOncePerDocdir() throws IOException {
+		File pom = this.temporaryFolder.newFile("pom.xml");
+		Map<String, Object> attributes = new HashMap<>();
+		attributes.put("docdir", new File(this.temporaryFolder.getRoot(), "src/main/asciidoc").getAbsolutePath());
+		SnippetsDirectoryResolver resolver = new SnippetsDirectoryResolver();
+		File snippetsDirectory = getMavenSnippetsDirectory(resolver, attributes);
+		pom.delete();
+		assertThat(getMavenSnippetsDirectory(resolver, attributes)).isSameAs(snippetsDirectory);
+	}
+
 	@Test
 	public void illegalStateExceptionWhenMavenPomCannotBeFound() throws IOException {
 		Map<String, Object> attributes = new HashMap<>();
@@ -100,9 +111,13 @@ public class SnippetsDirectoryResolverTests {
 	}
 
 	private File getMavenSnippetsDirectory(Map<String, Object> attributes) {
+		return getMavenSnippetsDirectory(new SnippetsDirectoryResolver(), attributes);
+	}
+
+	private File getMavenSnippetsDirectory(SnippetsDirectoryResolver resolver, Map<String, Object> attributes) {
 		System.setProperty("maven.home", "/maven/home");
 		try {
-			return new SnippetsDirectoryResolver().getSnippetsDirectory(attributes);
+			return resolver.getSnippetsDirectory(attributes);
 		}
 		finally {
 			System.clearProperty("maven.home");
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2014-2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.benchmarks;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.restdocs.operation.OperationRequest;
+import org.springframework.restdocs.operation.OperationRequestFactory;
+import org.springframework.restdocs.operation.OperationResponse;
+import org.springframework.restdocs.operation.OperationResponseFactory;
+import org.springframework.restdocs.operation.Parameters;
+import org.springframework.restdocs.payload.FieldDescriptor;
+import org.springframework.restdocs.payload.PayloadDocumentation;
+
+/**
+ * Fixtures for the benchmarks, modelled on the requests and responses of the
+ * {@code rest-notes-*} samples.
+ *
+ * @author agent (agent@local)
+ */
+public final class NotesFixtures {
+
+	/**
+	 * The media type of the HAL payloads.
+	 */
+	public static final MediaType HAL_JSON = new MediaType("application", "hal+json");
+
+	/**
+	 * The URI of the notes resource.
+	 */
+	public static final String NOTES_URI = "http://localhost:8080/notes";
+
+	private NotesFixtures() {
+
+	}
+
+	/**
+	 * Returns the JSON for a request that creates a note.
+	 * @return the request's content
+	 */
+	public static String noteJson() {
+		return "{\"title\":\"REST maturity model\","
+				+ "\"body\":\"https://martinfowler.com/articles/richardsonMaturityModel.html\","
+				+ "\"tags\":[\"http://localhost:8080/tags/1\"]}";
+	}
+
+	/**
+	 * Returns the HAL JSON for a page of {@code notes} notes, as returned by the notes
+	 * resource.
+	 * @param notes the number of notes
+	 * @return the JSON
+	 */
+	public static String notesJson(int notes) {
+		StringBuilder json = new StringBuilder("{\"_embedded\":{\"notes\":[");
+		for (int i = 1; i <= notes; i++) {
+			if (i > 1) {
+				json.append(',');
+			}
+			json.append("{\"title\":\"Note ").append(i).append("\",");
+			json.append("\"body\":\"https://example.com/notes/").append(i).append("/body\",");
+			json.append("\"_links\":{\"self\":{\"href\":\"").append(NOTES_URI).append('/').append(i).append("\"},");
+			json.append("\"note-tags\":{\"href\":\"").append(NOTES_URI).append('/').append(i).append("/tags\"}}}");
+		}
+		json.append("]},\"_links\":{\"self\":{\"href\":\"").append(NOTES_URI).append("\"},");
+		json.append("\"profile\":{\"href\":\"http://localhost:8080/profile/notes\"}}}");
+		return json.toString();
+	}
+
+	/**
+	 * Returns the Atom-style JSON for a page of {@code notes} notes where the links are
+	 * held in a {@code links} array.
+	 * @param notes the number of notes
+	 * @return the JSON
+	 */
+	public static String notesAtomJson(int notes) {
+		StringBuilder json = new StringBuilder("{\"notes\":[");
+		for (int i = 1; i <= notes; i++) {
+			if (i > 1) {
+				json.append(',');
+			}
+			json.append("{\"title\":\"Note ").append(i).append("\",");
+			json.append("\"body\":\"https://example.com/notes/").append(i).append("/body\"}");
+		}
+		json.append("],\"links\":[{\"rel\":\"self\",\"href\":\"").append(NOTES_URI).append("\"},");
+		json.append("{\"rel\":\"profile\",\"href\":\"http://localhost:8080/profile/notes\"}]}");
+		return json.toString();
+	}
+
+	/**
+	 * Returns the XML equivalent of {@link #notesJson(int)}.
+	 * @param notes the number of notes
+	 * @return the XML
+	 */
+	public static String notesXml(int notes) {
+		StringBuilder xml = new StringBuilder("<notes>");
+		for (int i = 1; i <= notes; i++) {
+			xml.append("<note><title>Note ").append(i).append("</title>");
+			xml.append("<body>https://example.com/notes/").append(i).append("/body</body>");
+			xml.append("<link rel=\"self\" href=\"").append(NOTES_URI).append('/').append(i).append("\"/></note>");
+		}
+		xml.append("</notes>");
+		return xml.toString();
+	}
+
+	/**
+	 * Returns the descriptors that document the response of {@link #notesJson(int)}.
+	 * @return the descriptors
+	 */
+	public static List<FieldDescriptor> notesJsonFields() {
+		List<FieldDescriptor> fields = new ArrayList<>();
+		fields.add(PayloadDocumentation.fieldWithPath("_embedded.notes[].title").description("The title of the note"));
+		fields.add(PayloadDocumentation.fieldWithPath("_embedded.notes[].body").description("The body of the note"));
+		fields.add(PayloadDocumentation.subsectionWithPath("_embedded.notes[]._links")
+				.description("Links to other resources"));
+		fields.add(PayloadDocumentation.subsectionWithPath("_links").description("Links to other resources"));
+		return fields;
+	}
+
+	/**
+	 * Returns the descriptors that document the response of {@link #notesXml(int)}.
+	 * @return the descriptors
+	 */
+	public static List<FieldDescriptor> notesXmlFields() {
+		List<FieldDescriptor> fields = new ArrayList<>();
+		fields.add(PayloadDocumentation.fieldWithPath("notes/note/title").description("The title of the note")
+				.type("String"));
+		fields.add(PayloadDocumentation.fieldWithPath("notes/note/body").description("The body of the note")
+				.type("String"));
+		fields.add(PayloadDocumentation.fieldWithPath("notes/note/link").description("A link").type("Element"));
+		return fields;
+	}
+
+	/**
+	 * Creates a request that creates a note.
+	 * @return the request
+	 */
+	public static OperationRequest createNoteRequest() {
+		HttpHeaders headers = new HttpHeaders();
+		headers.setContentType(HAL_JSON);
+		headers.setAccept(Collections.singletonList(HAL_JSON));
+		headers.add(HttpHeaders.HOST, "localhost:8080");
+		return new OperationRequestFactory().create(URI.create(NOTES_URI), HttpMethod.POST,
+				noteJson().getBytes(StandardCharsets.UTF_8), headers, new Parameters(), Collections.emptyList());
+	}
+
+	/**
+	 * Creates a response containing a page of {@code notes} notes.
+	 * @param notes the number of notes
+	 * @return the response
+	 */
+	public static OperationResponse notesResponse(int notes) {
+		HttpHeaders headers = new HttpHeaders();
+		headers.setContentType(HAL_JSON);
+		return new OperationResponseFactory().create(HttpStatus.OK.value(), headers,
+				notesJson(notes).getBytes(StandardCharsets.UTF_8));
+	}
+
+}
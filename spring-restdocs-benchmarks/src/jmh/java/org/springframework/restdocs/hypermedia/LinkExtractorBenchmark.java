@@ -0,0 +1,81 @@
+/*
+ * Copyright 2014-2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.hypermedia;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.restdocs.benchmarks.NotesFixtures;
+import org.springframework.restdocs.operation.OperationResponse;
+import org.springframework.restdocs.operation.OperationResponseFactory;
+
+/**
+ * Benchmarks for the HAL and Atom link extractors, comparing the streaming extraction
+ * with extraction from a fully parsed JSON tree.
+ *
+ * @author agent (agent@local)
+ */
+@State(Scope.Benchmark)
+public class LinkExtractorBenchmark {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@Param({ "hal", "atom" })
+	private String format;
+
+	@Param({ "1", "100", "1000" })
+	private int notes;
+
+	private boolean hal;
+
+	private LinkExtractor extractor;
+
+	private OperationResponse response;
+
+	@Setup
+	public void setUp() {
+		this.hal = "hal".equals(this.format);
+		this.extractor = this.hal ? new HalLinkExtractor() : new AtomLinkExtractor();
+		String content = this.hal ? NotesFixtures.notesJson(this.notes) : NotesFixtures.notesAtomJson(this.notes);
+		this.response = new OperationResponseFactory().create(HttpStatus.OK.value(), new HttpHeaders(),
+				content.getBytes(StandardCharsets.UTF_8));
+	}
+
+	@Benchmark
+	public Map<String, List<Link>> streaming() throws IOException {
+		return this.extractor.extractLinks(this.response);
+	}
+
+	@Benchmark
+	@SuppressWarnings("unchecked")
+	public Map<String, List<Link>> tree() throws IOException {
+		Map<String, Object> json = this.objectMapper.readValue(this.response.getContent(), Map.class);
+		return this.hal ? MapBasedLinkExtraction.extractHalLinks(json) : MapBasedLinkExtraction.extractAtomLinks(json);
+	}
+
+}
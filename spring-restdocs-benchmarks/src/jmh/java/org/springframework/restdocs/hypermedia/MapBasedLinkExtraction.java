@@ -0,0 +1,99 @@
+/*
+ * Copyright 2014-2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.hypermedia;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+
+/**
+ * Extraction of HAL and Atom links from JSON that has been deserialized into a
+ * {@code Map}, as performed before the extractors read their links with a streaming
+ * parser. Used as the baseline of {@link LinkExtractorBenchmark}.
+ *
+ * @author agent (agent@local)
+ */
+final class MapBasedLinkExtraction {
+
+	private MapBasedLinkExtraction() {
+
+	}
+
+	static Map<String, List<Link>> extractHalLinks(Map<String, Object> json) {
+		Map<String, List<Link>> extractedLinks = new LinkedHashMap<>();
+		Object possibleLinks = json.get("_links");
+		if (possibleLinks instanceof Map) {
+			for (Map.Entry<?, ?> entry : ((Map<?, ?>) possibleLinks).entrySet()) {
+				String rel = (String) entry.getKey();
+				List<Link> links = new ArrayList<>();
+				if (entry.getValue() instanceof Collection) {
+					for (Object possibleLink : (Collection<?>) entry.getValue()) {
+						maybeAdd(maybeCreateLink(rel, possibleLink), links);
+					}
+				}
+				else {
+					maybeAdd(maybeCreateLink(rel, entry.getValue()), links);
+				}
+				extractedLinks.put(rel, links);
+			}
+		}
+		return extractedLinks;
+	}
+
+	static Map<String, List<Link>> extractAtomLinks(Map<String, Object> json) {
+		MultiValueMap<String, Link> extractedLinks = new LinkedMultiValueMap<>();
+		Object possibleLinks = json.get("links");
+		if (possibleLinks instanceof Collection) {
+			for (Object possibleLink : (Collection<?>) possibleLinks) {
+				if (possibleLink instanceof Map) {
+					Object rel = ((Map<?, ?>) possibleLink).get("rel");
+					if (rel instanceof String) {
+						Link link = maybeCreateLink((String) rel, possibleLink);
+						if (link != null) {
+							extractedLinks.add(link.getRel(), link);
+						}
+					}
+				}
+			}
+		}
+		return extractedLinks;
+	}
+
+	private static Link maybeCreateLink(String rel, Object possibleLink) {
+		if (possibleLink instanceof Map) {
+			Map<?, ?> linkMap = (Map<?, ?>) possibleLink;
+			Object href = linkMap.get("href");
+			if (href instanceof String) {
+				Object title = linkMap.get("title");
+				return new Link(rel, (String) href, (title instanceof String) ? (String) title : null);
+			}
+		}
+		return null;
+	}
+
+	private static void maybeAdd(Link link, List<Link> links) {
+		if (link != null) {
+			links.add(link);
+		}
+	}
+
+}
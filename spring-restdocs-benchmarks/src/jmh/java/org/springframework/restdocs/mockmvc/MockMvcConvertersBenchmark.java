@@ -0,0 +1,130 @@
+/*
+ * Copyright 2014-2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.mockmvc;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import jakarta.servlet.http.Cookie;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.mock.web.MockMultipartHttpServletRequest;
+import org.springframework.restdocs.benchmarks.NotesFixtures;
+import org.springframework.restdocs.operation.OperationRequest;
+import org.springframework.restdocs.operation.OperationResponse;
+
+/**
+ * Benchmarks for {@link MockMvcRequestConverter} and {@link MockMvcResponseConverter}.
+ *
+ * @author agent (agent@local)
+ */
+@State(Scope.Benchmark)
+public class MockMvcConvertersBenchmark {
+
+	private final MockMvcRequestConverter requestConverter = new MockMvcRequestConverter();
+
+	private final MockMvcResponseConverter responseConverter = new MockMvcResponseConverter();
+
+	@Param({ "1", "100", "1000" })
+	private int notes;
+
+	private MockHttpServletRequest request;
+
+	private MockHttpServletRequest getRequest;
+
+	private MockHttpServletRequest multipartRequest;
+
+	private MockHttpServletResponse response;
+
+	@Setup
+	public void setUp() throws IOException {
+		this.request = createRequest();
+		this.getRequest = createGetRequest();
+		this.multipartRequest = createMultipartRequest();
+		this.response = createResponse(this.notes);
+	}
+
+	@Benchmark
+	public OperationRequest convertRequest() {
+		return this.requestConverter.convert(this.request);
+	}
+
+	@Benchmark
+	public OperationRequest convertGetRequest() {
+		return this.requestConverter.convert(this.getRequest);
+	}
+
+	@Benchmark
+	public OperationRequest convertMultipartRequest() {
+		return this.requestConverter.convert(this.multipartRequest);
+	}
+
+	@Benchmark
+	public OperationResponse convertResponse() {
+		return this.responseConverter.convert(this.response);
+	}
+
+	static MockHttpServletRequest createRequest() {
+		MockHttpServletRequest request = new MockHttpServletRequest("POST", "/notes");
+		request.setServerPort(8080);
+		request.setContentType(NotesFixtures.HAL_JSON.toString());
+		request.setContent(NotesFixtures.noteJson().getBytes(StandardCharsets.UTF_8));
+		request.addHeader(HttpHeaders.CONTENT_TYPE, NotesFixtures.HAL_JSON.toString());
+		request.addHeader(HttpHeaders.ACCEPT, NotesFixtures.HAL_JSON.toString());
+		request.addParameter("page", "0");
+		request.setQueryString("page=0");
+		return request;
+	}
+
+	static MockHttpServletRequest createGetRequest() {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/notes");
+		request.setServerPort(8080);
+		request.addHeader(HttpHeaders.ACCEPT, NotesFixtures.HAL_JSON.toString());
+		request.addParameter("page", "0");
+		request.addParameter("size", "20");
+		request.setCookies(new Cookie("session", "1234"));
+		return request;
+	}
+
+	static MockHttpServletRequest createMultipartRequest() {
+		MockMultipartHttpServletRequest request = new MockMultipartHttpServletRequest();
+		request.setMethod("POST");
+		request.setRequestURI("/notes");
+		request.setServerPort(8080);
+		request.addFile(new MockMultipartFile("note", "note.json", NotesFixtures.HAL_JSON.toString(),
+				NotesFixtures.noteJson().getBytes(StandardCharsets.UTF_8)));
+		return request;
+	}
+
+	static MockHttpServletResponse createResponse(int notes) throws IOException {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		response.setStatus(200);
+		response.setContentType(NotesFixtures.HAL_JSON.toString());
+		response.getOutputStream().write(NotesFixtures.notesJson(notes).getBytes(StandardCharsets.UTF_8));
+		return response;
+	}
+
+}
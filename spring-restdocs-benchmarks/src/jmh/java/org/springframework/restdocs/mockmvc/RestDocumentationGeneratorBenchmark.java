@@ -0,0 +1,85 @@
+/*
+ * Copyright 2014-2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.mockmvc;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Map;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.restdocs.ManualRestDocumentation;
+import org.springframework.restdocs.benchmarks.NotesFixtures;
+import org.springframework.restdocs.generate.RestDocumentationGenerator;
+import org.springframework.restdocs.hypermedia.HypermediaDocumentation;
+import org.springframework.restdocs.operation.preprocess.Preprocessors;
+import org.springframework.restdocs.payload.PayloadDocumentation;
+
+/**
+ * End-to-end benchmark for {@link RestDocumentationGenerator#handle}, converting a
+ * MockMvc request and response, preprocessing them, and writing the default snippets
+ * plus links and response fields snippets to disk.
+ *
+ * @author agent (agent@local)
+ */
+@State(Scope.Benchmark)
+public class RestDocumentationGeneratorBenchmark {
+
+	@Param({ "1", "100", "1000" })
+	private int notes;
+
+	private RestDocumentationGenerator<MockHttpServletRequest, MockHttpServletResponse> generator;
+
+	private MockHttpServletRequest request;
+
+	private MockHttpServletResponse response;
+
+	private Map<String, Object> configuration;
+
+	@Setup
+	@SuppressWarnings("unchecked")
+	public void setUp() throws IOException {
+		ManualRestDocumentation restDocumentation = new ManualRestDocumentation(
+				Files.createTempDirectory("snippets").toString());
+		restDocumentation.beforeTest(getClass(), "handle");
+		this.request = MockMvcConvertersBenchmark.createRequest();
+		this.response = MockMvcConvertersBenchmark.createResponse(this.notes);
+		MockMvcRestDocumentation.documentationConfiguration(restDocumentation).beforeMockMvcCreated(null, null)
+				.postProcessRequest(this.request);
+		this.configuration = (Map<String, Object>) this.request
+				.getAttribute(RestDocumentationResultHandler.ATTRIBUTE_NAME_CONFIGURATION);
+		this.generator = new RestDocumentationGenerator<>("notes", new MockMvcRequestConverter(),
+				new MockMvcResponseConverter(), Preprocessors.preprocessRequest(Preprocessors.prettyPrint()),
+				Preprocessors.preprocessResponse(Preprocessors.prettyPrint()),
+				HypermediaDocumentation.links(
+						HypermediaDocumentation.linkWithRel("self").description("The notes resource"),
+						HypermediaDocumentation.linkWithRel("profile").description("The profile of the resource")),
+				PayloadDocumentation.responseFields(NotesFixtures.notesJsonFields()));
+	}
+
+	@Benchmark
+	public void handle() {
+		this.generator.handle(this.request, this.response, this.configuration);
+	}
+
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2014-2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.operation.preprocess;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import org.springframework.restdocs.benchmarks.NotesFixtures;
+import org.springframework.restdocs.operation.OperationRequest;
+import org.springframework.restdocs.operation.OperationResponse;
+
+/**
+ * Benchmarks for the {@link Preprocessors operation preprocessors}.
+ *
+ * @author agent (agent@local)
+ */
+@State(Scope.Benchmark)
+public class PreprocessorsBenchmark {
+
+	private final OperationPreprocessor prettyPrint = Preprocessors.prettyPrint();
+
+	private final OperationPreprocessor maskLinks = Preprocessors.maskLinks();
+
+	private final OperationPreprocessor truncateContent = Preprocessors.truncateContent(10, 20);
+
+	private final OperationPreprocessor removeHeaders = Preprocessors.removeHeaders("Host");
+
+	private final OperationPreprocessor modifyUris = Preprocessors.modifyUris().scheme("https")
+			.host("api.example.com").removePort();
+
+	@Param({ "1", "100", "1000" })
+	private int notes;
+
+	private OperationRequest request;
+
+	private OperationResponse response;
+
+	@Setup
+	public void setUp() {
+		this.request = NotesFixtures.createNoteRequest();
+		this.response = NotesFixtures.notesResponse(this.notes);
+	}
+
+	@Benchmark
+	public OperationResponse prettyPrint() {
+		return this.prettyPrint.preprocess(this.response);
+	}
+
+	@Benchmark
+	public OperationResponse maskLinks() {
+		return this.maskLinks.preprocess(this.response);
+	}
+
+	@Benchmark
+	public OperationResponse truncateContent() {
+		return this.truncateContent.preprocess(this.response);
+	}
+
+	@Benchmark
+	public OperationResponse modifyUris() {
+		return this.modifyUris.preprocess(this.response);
+	}
+
+	@Benchmark
+	public OperationRequest removeHeaders() {
+		return this.removeHeaders.preprocess(this.request);
+	}
+
+}
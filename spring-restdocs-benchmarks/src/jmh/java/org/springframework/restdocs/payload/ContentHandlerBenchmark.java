@@ -0,0 +1,86 @@
+/*
+ * Copyright 2014-2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.payload;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import org.springframework.http.MediaType;
+import org.springframework.restdocs.benchmarks.NotesFixtures;
+
+/**
+ * Benchmarks for the JSON and XML {@link ContentHandler ContentHandlers} at several
+ * payload sizes.
+ *
+ * @author agent (agent@local)
+ */
+@State(Scope.Benchmark)
+public class ContentHandlerBenchmark {
+
+	@Param({ "json", "xml" })
+	private String format;
+
+	@Param({ "1", "100", "1000" })
+	private int notes;
+
+	private byte[] content;
+
+	private MediaType contentType;
+
+	private List<FieldDescriptor> descriptors;
+
+	@Setup
+	public void setUp() {
+		boolean json = "json".equals(this.format);
+		String content = json ? NotesFixtures.notesJson(this.notes) : NotesFixtures.notesXml(this.notes);
+		this.content = content.getBytes(StandardCharsets.UTF_8);
+		this.contentType = json ? NotesFixtures.HAL_JSON : MediaType.APPLICATION_XML;
+		this.descriptors = json ? NotesFixtures.notesJsonFields() : NotesFixtures.notesXmlFields();
+	}
+
+	@Benchmark
+	public List<FieldDescriptor> findMissingFields() {
+		return createContentHandler().findMissingFields();
+	}
+
+	@Benchmark
+	public String getUndocumentedContent() {
+		return createContentHandler().getUndocumentedContent();
+	}
+
+	@Benchmark
+	public List<Object> resolveFieldTypes() {
+		ContentHandler contentHandler = createContentHandler();
+		List<Object> fieldTypes = new ArrayList<>();
+		for (FieldDescriptor descriptor : this.descriptors) {
+			fieldTypes.add(contentHandler.resolveFieldType(descriptor));
+		}
+		return fieldTypes;
+	}
+
+	private ContentHandler createContentHandler() {
+		return ContentHandler.forContentWithDescriptors(this.content, this.contentType, this.descriptors);
+	}
+
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2014-2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.restassured;
+
+import io.restassured.RestAssured;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import org.springframework.restdocs.benchmarks.NotesFixtures;
+import org.springframework.restdocs.operation.OperationRequest;
+import org.springframework.restdocs.operation.OperationResponse;
+
+/**
+ * Benchmarks for {@link RestAssuredRequestConverter} and
+ * {@link RestAssuredResponseConverter}. The request is captured by a filter that
+ * responds without making a network call.
+ *
+ * @author agent (agent@local)
+ */
+@State(Scope.Benchmark)
+public class RestAssuredConvertersBenchmark {
+
+	private final RestAssuredRequestConverter requestConverter = new RestAssuredRequestConverter();
+
+	private final RestAssuredResponseConverter responseConverter = new RestAssuredResponseConverter();
+
+	@Param({ "1", "100", "1000" })
+	private int notes;
+
+	private FilterableRequestSpecification request;
+
+	private Response response;
+
+	@Setup
+	public void setUp() {
+		String notesJson = NotesFixtures.notesJson(this.notes);
+		this.response = RestAssured.given().filter((requestSpec, responseSpec, context) -> {
+			this.request = requestSpec;
+			return new ResponseBuilder().setStatusCode(200).setContentType(NotesFixtures.HAL_JSON.toString())
+					.setBody(notesJson).build();
+		}).contentType(NotesFixtures.HAL_JSON.toString()).accept(NotesFixtures.HAL_JSON.toString())
+				.queryParam("page", 0).body(NotesFixtures.noteJson()).post(NotesFixtures.NOTES_URI);
+	}
+
+	@Benchmark
+	public OperationRequest convertRequest() {
+		return this.requestConverter.convert(this.request);
+	}
+
+	@Benchmark
+	public OperationResponse convertResponse() {
+		return this.responseConverter.convert(this.response);
+	}
+
+}
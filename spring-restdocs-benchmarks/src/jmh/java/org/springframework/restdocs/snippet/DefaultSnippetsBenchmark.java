@@ -0,0 +1,145 @@
+/*
+ * Copyright 2014-2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.snippet;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import org.springframework.restdocs.ManualRestDocumentation;
+import org.springframework.restdocs.RestDocumentationContext;
+import org.springframework.restdocs.benchmarks.NotesFixtures;
+import org.springframework.restdocs.cli.CliDocumentation;
+import org.springframework.restdocs.headers.HeaderDocumentation;
+import org.springframework.restdocs.http.HttpDocumentation;
+import org.springframework.restdocs.hypermedia.HypermediaDocumentation;
+import org.springframework.restdocs.operation.Operation;
+import org.springframework.restdocs.operation.StandardOperation;
+import org.springframework.restdocs.payload.PayloadDocumentation;
+import org.springframework.restdocs.templates.StandardTemplateResourceResolver;
+import org.springframework.restdocs.templates.TemplateEngine;
+import org.springframework.restdocs.templates.TemplateFormats;
+import org.springframework.restdocs.templates.mustache.AsciidoctorTableCellContentLambda;
+import org.springframework.restdocs.templates.mustache.MustacheTemplateEngine;
+
+/**
+ * Benchmarks for the default snippets. The {@code model} benchmark renders each snippet
+ * with a template that produces no output so that it measures the creation of the
+ * snippet's model. The {@code document} benchmark renders the snippet with the default
+ * Asciidoctor templates to a writer that discards its output.
+ *
+ * @author agent (agent@local)
+ */
+@State(Scope.Benchmark)
+public class DefaultSnippetsBenchmark {
+
+	@Param({ "curl-request", "httpie-request", "http-request", "http-response", "request-body", "response-body",
+			"request-fields", "response-fields", "request-headers", "response-headers", "links" })
+	private String snippetName;
+
+	@Param({ "1", "100" })
+	private int notes;
+
+	private Snippet snippet;
+
+	private Operation modelOperation;
+
+	private Operation documentOperation;
+
+	@Setup
+	public void setUp() throws IOException {
+		this.snippet = createSnippet(this.snippetName);
+		ManualRestDocumentation restDocumentation = new ManualRestDocumentation(
+				Files.createTempDirectory("snippets").toString());
+		restDocumentation.beforeTest(getClass(), this.snippetName);
+		RestDocumentationContext context = restDocumentation.beforeOperation();
+		TemplateEngine noOutput = (name) -> (model) -> "";
+		this.modelOperation = createOperation(context, noOutput);
+		this.documentOperation = createOperation(context,
+				new MustacheTemplateEngine(new StandardTemplateResourceResolver(TemplateFormats.asciidoctor()),
+						StandardCharsets.UTF_8,
+						Collections.singletonMap("tableCellContent", new AsciidoctorTableCellContentLambda())));
+	}
+
+	private Operation createOperation(RestDocumentationContext context, TemplateEngine templateEngine) {
+		Map<String, Object> attributes = new HashMap<>();
+		attributes.put(RestDocumentationContext.class.getName(), context);
+		attributes.put(TemplateEngine.class.getName(), templateEngine);
+		WriterResolver writerResolver = (operationName, snippetName, restDocumentationContext) -> Writer.nullWriter();
+		attributes.put(WriterResolver.class.getName(), writerResolver);
+		return new StandardOperation("notes", NotesFixtures.createNoteRequest(),
+				NotesFixtures.notesResponse(this.notes), attributes);
+	}
+
+	@Benchmark
+	public void model() throws IOException {
+		this.snippet.document(this.modelOperation);
+	}
+
+	@Benchmark
+	public void document() throws IOException {
+		this.snippet.document(this.documentOperation);
+	}
+
+	private static Snippet createSnippet(String name) {
+		switch (name) {
+			case "curl-request":
+				return CliDocumentation.curlRequest();
+			case "httpie-request":
+				return CliDocumentation.httpieRequest();
+			case "http-request":
+				return HttpDocumentation.httpRequest();
+			case "http-response":
+				return HttpDocumentation.httpResponse();
+			case "request-body":
+				return PayloadDocumentation.requestBody();
+			case "response-body":
+				return PayloadDocumentation.responseBody();
+			case "request-fields":
+				return PayloadDocumentation.requestFields(
+						PayloadDocumentation.fieldWithPath("title").description("The title of the note"),
+						PayloadDocumentation.fieldWithPath("body").description("The body of the note"),
+						PayloadDocumentation.fieldWithPath("tags").description("An array of tag resource URIs"));
+			case "response-fields":
+				return PayloadDocumentation.responseFields(NotesFixtures.notesJsonFields());
+			case "request-headers":
+				return HeaderDocumentation.requestHeaders(
+						HeaderDocumentation.headerWithName("Content-Type").description("The content type"),
+						HeaderDocumentation.headerWithName("Accept").description("The accepted media types"));
+			case "response-headers":
+				return HeaderDocumentation.responseHeaders(
+						HeaderDocumentation.headerWithName("Content-Type").description("The content type"));
+			case "links":
+				return HypermediaDocumentation.links(
+						HypermediaDocumentation.linkWithRel("self").description("The notes resource"),
+						HypermediaDocumentation.linkWithRel("profile").description("The profile of the resource"));
+			default:
+				throw new IllegalArgumentException("Unknown snippet '" + name + "'");
+		}
+	}
+
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2014-2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.templates.mustache;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import org.springframework.restdocs.benchmarks.NotesFixtures;
+import org.springframework.restdocs.mustache.Mustache;
+import org.springframework.restdocs.templates.StandardTemplateResourceResolver;
+import org.springframework.restdocs.templates.Template;
+import org.springframework.restdocs.templates.TemplateFormats;
+
+/**
+ * Benchmarks for rendering the default Asciidoctor templates, comparing rendering to a
+ * {@code String} with rendering to a {@code Writer} and measuring the cost of looking up
+ * a compiled template.
+ *
+ * @author agent (agent@local)
+ */
+@State(Scope.Benchmark)
+public class TemplateRenderingBenchmark {
+
+	@Param({ "http-request", "request-fields", "response-body" })
+	private String templateName;
+
+	@Param({ "10", "1000" })
+	private int size;
+
+	private MustacheTemplateEngine templateEngine;
+
+	private Template template;
+
+	private Map<String, Object> model;
+
+	@Setup
+	public void setUp() throws IOException {
+		Map<String, Object> context = Collections.singletonMap("tableCellContent",
+				new AsciidoctorTableCellContentLambda());
+		StandardTemplateResourceResolver resolver = new StandardTemplateResourceResolver(
+				TemplateFormats.asciidoctor());
+		this.templateEngine = new MustacheTemplateEngine(resolver, StandardCharsets.UTF_8,
+				Mustache.compiler().escapeHTML(false), context);
+		this.template = this.templateEngine.compileTemplate(this.templateName);
+		this.model = createModel();
+	}
+
+	private Map<String, Object> createModel() {
+		Map<String, Object> model = new HashMap<>();
+		List<Map<String, Object>> headers = new ArrayList<>();
+		List<Map<String, Object>> fields = new ArrayList<>();
+		for (int i = 0; i < this.size; i++) {
+			headers.add(entry("name", "X-Header-" + i, "value", "value-" + i));
+			Map<String, Object> field = entry("path", "_embedded.notes[].field" + i, "type", "String");
+			field.put("description", "Field " + i + " | with a vertical bar");
+			field.put("optional", false);
+			fields.add(field);
+		}
+		model.put("method", "POST");
+		model.put("path", "/notes");
+		model.put("headers", headers);
+		model.put("requestBody", NotesFixtures.noteJson());
+		model.put("fields", fields);
+		model.put("body", NotesFixtures.notesJson(this.size));
+		return model;
+	}
+
+	private static Map<String, Object> entry(String key1, Object value1, String key2, Object value2) {
+		Map<String, Object> entry = new HashMap<>();
+		entry.put(key1, value1);
+		entry.put(key2, value2);
+		return entry;
+	}
+
+	@Benchmark
+	public String renderToString() {
+		return this.template.render(this.model);
+	}
+
+	@Benchmark
+	public void renderToWriter() throws IOException {
+		this.template.render(this.model, Writer.nullWriter());
+	}
+
+	@Benchmark
+	public void compileAndRenderToWriter() throws IOException {
+		this.templateEngine.compileTemplate(this.templateName).render(this.model, Writer.nullWriter());
+	}
+
+}
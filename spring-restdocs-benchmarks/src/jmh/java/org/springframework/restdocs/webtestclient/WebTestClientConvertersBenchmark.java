@@ -0,0 +1,73 @@
+/*
+ * Copyright 2014-2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.webtestclient;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import org.springframework.restdocs.benchmarks.NotesFixtures;
+import org.springframework.restdocs.operation.OperationRequest;
+import org.springframework.restdocs.operation.OperationResponse;
+import org.springframework.test.web.reactive.server.ExchangeResult;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.reactive.function.server.RequestPredicates;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+/**
+ * Benchmarks for {@link WebTestClientRequestConverter} and
+ * {@link WebTestClientResponseConverter}.
+ *
+ * @author agent (agent@local)
+ */
+@State(Scope.Benchmark)
+public class WebTestClientConvertersBenchmark {
+
+	private final WebTestClientRequestConverter requestConverter = new WebTestClientRequestConverter();
+
+	private final WebTestClientResponseConverter responseConverter = new WebTestClientResponseConverter();
+
+	@Param({ "1", "100", "1000" })
+	private int notes;
+
+	private ExchangeResult result;
+
+	@Setup
+	public void setUp() {
+		String notesJson = NotesFixtures.notesJson(this.notes);
+		this.result = WebTestClient
+				.bindToRouterFunction(RouterFunctions.route(RequestPredicates.POST("/notes"),
+						(request) -> ServerResponse.ok().contentType(NotesFixtures.HAL_JSON).bodyValue(notesJson)))
+				.configureClient().baseUrl("http://localhost:8080").build().post().uri("/notes?page=0")
+				.contentType(NotesFixtures.HAL_JSON).accept(NotesFixtures.HAL_JSON).bodyValue(NotesFixtures.noteJson())
+				.exchange().expectBody().returnResult();
+	}
+
+	@Benchmark
+	public OperationRequest convertRequest() {
+		return this.requestConverter.convert(this.result);
+	}
+
+	@Benchmark
+	public OperationResponse convertResponse() {
+		return this.responseConverter.convert(this.result);
+	}
+
+}
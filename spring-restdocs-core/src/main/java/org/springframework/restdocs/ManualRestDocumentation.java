@@ -1,5 +1,5 @@
 /*
- * Copyright 2014-2019 the original author or authors.
+ * Copyright 2014-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,6 +18,9 @@ package org.springframework.restdocs;
 
 import java.io.File;
 
+import org.springframework.restdocs.observation.DocumentationReport;
+import org.springframework.restdocs.observation.TimingSummaryObserver;
+
 /**
  * {@code ManualRestDocumentation} is used to manually manage the
  * {@link RestDocumentationContext}. Primarly intended for use with TestNG, but suitable
@@ -74,9 +77,14 @@ public final class ManualRestDocumentation implements RestDocumentationContextPr
 
 	/**
 	 * Notification that a test has completed. Clears the {@link RestDocumentationContext}
-	 * that was previously established by a call to {@link #beforeTest(Class, String)}.
+	 * that was previously established by a call to {@link #beforeTest(Class, String)}. If
+	 * the {@link DocumentationReport#shared() shared documentation report} or the
+	 * {@link TimingSummaryObserver#shared() shared timing summary} has observed any
+	 * operations, it is written out.
 	 */
 	public void afterTest() {
+		DocumentationReport.testCompleted(this.context);
+		TimingSummaryObserver.testCompleted(this.context);
 		this.context = null;
 	}
 
@@ -120,6 +120,11 @@ final class CliOperationRequest implements OperationRequest {
 		return this.delegate.getParameters();
 	}
 
+	@Override
+	public Parameters getUniqueParameters() {
+		return this.delegate.getUniqueParameters();
+	}
+
 	@Override
 	public Collection<OperationRequestPart> getParts() {
 		return this.delegate.getParts();
@@ -82,7 +82,7 @@ public class CurlRequestSnippet extends TemplatedSnippet {
 
 	private String getUrl(Operation operation) {
 		OperationRequest request = operation.getRequest();
-		Parameters uniqueParameters = request.getParameters().getUniqueParameters(operation.getRequest().getUri());
+		Parameters uniqueParameters = request.getUniqueParameters();
 		if (!uniqueParameters.isEmpty() && includeParametersInUri(request)) {
 			return String.format("'%s%s%s'", request.getUri(),
 					StringUtils.hasText(request.getUri().getRawQuery()) ? "&" : "?", uniqueParameters.toQueryString());
@@ -189,7 +189,7 @@ public class CurlRequestSnippet extends TemplatedSnippet {
 	}
 
 	private void writeContentUsingParameters(OperationRequest request, List<String> lines) {
-		Parameters uniqueParameters = request.getParameters().getUniqueParameters(request.getUri());
+		Parameters uniqueParameters = request.getUniqueParameters();
 		String queryString = uniqueParameters.toQueryString();
 		if (StringUtils.hasText(queryString)) {
 			lines.add(String.format("-d '%s'", queryString));
@@ -102,7 +102,7 @@ public class HttpieRequestSnippet extends TemplatedSnippet {
 	}
 
 	private String getUrl(OperationRequest request) {
-		Parameters uniqueParameters = request.getParameters().getUniqueParameters(request.getUri());
+		Parameters uniqueParameters = request.getUniqueParameters();
 		if (!uniqueParameters.isEmpty() && includeParametersInUri(request)) {
 			return String.format("'%s%s%s'", request.getUri(),
 					StringUtils.hasText(request.getUri().getRawQuery()) ? "&" : "?", uniqueParameters.toQueryString());
@@ -125,8 +125,8 @@ public class HttpieRequestSnippet extends TemplatedSnippet {
 		if (!request.getParts().isEmpty()) {
 			writer.print("--multipart ");
 		}
-		else if (!request.getParameters().getUniqueParameters(request.getUri()).isEmpty()
-				&& !includeParametersInUri(request) && includeParametersAsFormOptions(request)) {
+		else if (!request.getUniqueParameters().isEmpty() && !includeParametersInUri(request)
+				&& includeParametersAsFormOptions(request)) {
 			writer.print("--form ");
 		}
 	}
@@ -197,7 +197,7 @@ public class HttpieRequestSnippet extends TemplatedSnippet {
 			writeContentUsingParameters(request.getNonPartParameters(), lines);
 		}
 		else if (request.isPutOrPost()) {
-			writeContentUsingParameters(request.getParameters().getUniqueParameters(request.getUri()), lines);
+			writeContentUsingParameters(request.getUniqueParameters(), lines);
 		}
 	}
 
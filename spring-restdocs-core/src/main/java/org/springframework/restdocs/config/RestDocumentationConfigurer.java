@@ -1,5 +1,5 @@
 /*
- * Copyright 2014-2020 the original author or authors.
+ * Copyright 2014-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,19 +17,25 @@
 package org.springframework.restdocs.config;
 
 import java.nio.charset.Charset;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import org.springframework.restdocs.RestDocumentationContext;
 import org.springframework.restdocs.mustache.Mustache;
+import org.springframework.restdocs.observation.DocumentationObserver;
+import org.springframework.restdocs.snippet.AdditionalSnippetFormat;
 import org.springframework.restdocs.snippet.RestDocumentationContextPlaceholderResolverFactory;
 import org.springframework.restdocs.snippet.StandardWriterResolver;
 import org.springframework.restdocs.snippet.WriterResolver;
 import org.springframework.restdocs.templates.StandardTemplateResourceResolver;
 import org.springframework.restdocs.templates.TemplateEngine;
+import org.springframework.restdocs.templates.TemplateFormat;
 import org.springframework.restdocs.templates.TemplateFormats;
+import org.springframework.restdocs.templates.TemplateResourceResolver;
 import org.springframework.restdocs.templates.mustache.AsciidoctorTableCellContentLambda;
 import org.springframework.restdocs.templates.mustache.MustacheTemplateEngine;
 
@@ -50,6 +56,10 @@ public abstract class RestDocumentationConfigurer<S extends AbstractConfigurer,
 
 	private final TemplateEngineConfigurer templateEngineConfigurer = new TemplateEngineConfigurer();
 
+	private final ObserverConfigurer observerConfigurer = new ObserverConfigurer();
+
+	private final AdditionalFormatsConfigurer additionalFormatsConfigurer = new AdditionalFormatsConfigurer();
+
 	/**
 	 * Returns a {@link SnippetConfigurer} that can be used to configure the snippets that
 	 * will be generated.
@@ -87,6 +97,19 @@ public abstract class RestDocumentationConfigurer<S extends AbstractConfigurer,
 		return (T) this;
 	}
 
+	/**
+	 * Configures the {@link DocumentationObserver DocumentationObservers} that will be
+	 * notified as each phase of documenting an operation completes.
+	 * @param observers the observers to use
+	 * @return {@code this}
+	 * @since 3.0.0
+	 */
+	@SuppressWarnings("unchecked")
+	public final T observers(DocumentationObserver... observers) {
+		this.observerConfigurer.setObservers(observers);
+		return (T) this;
+	}
+
 	/**
 	 * Applies this configurer to the given {@code configuration} within the given
 	 * {@code context}.
@@ -95,12 +118,40 @@ public abstract class RestDocumentationConfigurer<S extends AbstractConfigurer,
 	 */
 	protected final void apply(Map<String, Object> configuration, RestDocumentationContext context) {
 		List<AbstractConfigurer> configurers = Arrays.asList(snippets(), operationPreprocessors(),
-				this.templateEngineConfigurer, this.writerResolverConfigurer);
+				this.observerConfigurer, this.templateEngineConfigurer, this.writerResolverConfigurer,
+				this.additionalFormatsConfigurer);
 		for (AbstractConfigurer configurer : configurers) {
 			configurer.apply(configuration, context);
 		}
 	}
 
+	private static TemplateEngine createTemplateEngine(TemplateFormat templateFormat,
+			TemplateResourceResolver resolver, Charset encoding, Map<String, Object> configuration) {
+		MustacheTemplateEngine templateEngine;
+		if (templateFormat.getId().equals(TemplateFormats.html().getId())) {
+			templateEngine = new MustacheTemplateEngine(resolver, encoding, Mustache.compiler().escapeHTML(true),
+					Collections.emptyMap());
+		}
+		else {
+			Map<String, Object> templateContext = new HashMap<>();
+			if (templateFormat.getId().equals(TemplateFormats.asciidoctor().getId())) {
+				templateContext.put("tableCellContent", new AsciidoctorTableCellContentLambda());
+			}
+			templateEngine = new MustacheTemplateEngine(resolver, encoding, Mustache.compiler().escapeHTML(false),
+					templateContext);
+		}
+		templateEngine.setObserver((DocumentationObserver) configuration.get(DocumentationObserver.class.getName()));
+		return templateEngine;
+	}
+
+	private static WriterResolver createWriterResolver(TemplateFormat templateFormat, String encoding,
+			Map<String, Object> configuration) {
+		StandardWriterResolver writerResolver = new StandardWriterResolver(
+				new RestDocumentationContextPlaceholderResolverFactory(), encoding, templateFormat);
+		writerResolver.setObserver((DocumentationObserver) configuration.get(DocumentationObserver.class.getName()));
+		return writerResolver;
+	}
+
 	private static final class TemplateEngineConfigurer extends AbstractConfigurer {
 
 		private TemplateEngine templateEngine;
@@ -111,14 +162,9 @@ public abstract class RestDocumentationConfigurer<S extends AbstractConfigurer,
 			if (engineToUse == null) {
 				SnippetConfiguration snippetConfiguration = (SnippetConfiguration) configuration
 						.get(SnippetConfiguration.class.getName());
-				Map<String, Object> templateContext = new HashMap<>();
-				if (snippetConfiguration.getTemplateFormat().getId().equals(TemplateFormats.asciidoctor().getId())) {
-					templateContext.put("tableCellContent", new AsciidoctorTableCellContentLambda());
-				}
-				engineToUse = new MustacheTemplateEngine(
+				engineToUse = createTemplateEngine(snippetConfiguration.getTemplateFormat(),
 						new StandardTemplateResourceResolver(snippetConfiguration.getTemplateFormat()),
-						Charset.forName(snippetConfiguration.getEncoding()), Mustache.compiler().escapeHTML(false),
-						templateContext);
+						Charset.forName(snippetConfiguration.getEncoding()), configuration);
 			}
 			configuration.put(TemplateEngine.class.getName(), engineToUse);
 		}
@@ -139,8 +185,8 @@ public abstract class RestDocumentationConfigurer<S extends AbstractConfigurer,
 			if (resolverToUse == null) {
 				SnippetConfiguration snippetConfiguration = (SnippetConfiguration) configuration
 						.get(SnippetConfiguration.class.getName());
-				resolverToUse = new StandardWriterResolver(new RestDocumentationContextPlaceholderResolverFactory(),
-						snippetConfiguration.getEncoding(), snippetConfiguration.getTemplateFormat());
+				resolverToUse = createWriterResolver(snippetConfiguration.getTemplateFormat(),
+						snippetConfiguration.getEncoding(), configuration);
 			}
 			configuration.put(WriterResolver.class.getName(), resolverToUse);
 		}
@@ -151,4 +197,56 @@ public abstract class RestDocumentationConfigurer<S extends AbstractConfigurer,
 
 	}
 
+	private static final class AdditionalFormatsConfigurer extends AbstractConfigurer {
+
+		@Override
+		public void apply(Map<String, Object> configuration, RestDocumentationContext context) {
+			SnippetConfiguration snippetConfiguration = (SnippetConfiguration) configuration
+					.get(SnippetConfiguration.class.getName());
+			StandardTemplateResourceResolver primaryResolver = new StandardTemplateResourceResolver(
+					snippetConfiguration.getTemplateFormat());
+			List<AdditionalSnippetFormat> additionalFormats = new ArrayList<>();
+			for (TemplateFormat templateFormat : snippetConfiguration.getAdditionalTemplateFormats()) {
+				StandardTemplateResourceResolver resolver = new StandardTemplateResourceResolver(templateFormat);
+				additionalFormats.add(new AdditionalSnippetFormat(templateFormat,
+						createTemplateEngine(templateFormat, resolver,
+								Charset.forName(snippetConfiguration.getEncoding()), configuration),
+						createWriterResolver(templateFormat, snippetConfiguration.getEncoding(), configuration),
+						(templateName) -> hasEquivalentTemplate(templateName, resolver, primaryResolver)));
+			}
+			if (!additionalFormats.isEmpty()) {
+				configuration.put(AdditionalSnippetFormat.class.getName(), additionalFormats);
+			}
+		}
+
+		private static boolean hasEquivalentTemplate(String templateName, StandardTemplateResourceResolver resolver,
+				StandardTemplateResourceResolver primaryResolver) {
+			if (!resolver.hasTemplateResource(templateName)) {
+				return false;
+			}
+			// A default template does not match a customized primary template
+			return !resolver.isDefaultTemplateResource(templateName)
+					|| primaryResolver.isDefaultTemplateResource(templateName);
+		}
+
+	}
+
+	private static final class ObserverConfigurer extends AbstractConfigurer {
+
+		private DocumentationObserver[] observers = new DocumentationObserver[0];
+
+		@Override
+		public void apply(Map<String, Object> configuration, RestDocumentationContext context) {
+			if (this.observers.length > 0) {
+				configuration.put(DocumentationObserver.class.getName(),
+						DocumentationObserver.composite(this.observers));
+			}
+		}
+
+		private void setObservers(DocumentationObserver[] observers) {
+			this.observers = observers;
+		}
+
+	}
+
 }
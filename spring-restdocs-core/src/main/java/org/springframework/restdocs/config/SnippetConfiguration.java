@@ -1,5 +1,5 @@
 /*
- * Copyright 2014-2016 the original author or authors.
+ * Copyright 2014-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,8 @@
 
 package org.springframework.restdocs.config;
 
+import java.util.List;
+
 import org.springframework.restdocs.templates.TemplateFormat;
 
 /**
@@ -30,9 +32,12 @@ class SnippetConfiguration {
 
 	private final TemplateFormat format;
 
-	SnippetConfiguration(String encoding, TemplateFormat templateFormat) {
+	private final List<TemplateFormat> additionalFormats;
+
+	SnippetConfiguration(String encoding, TemplateFormat templateFormat, List<TemplateFormat> additionalFormats) {
 		this.encoding = encoding;
 		this.format = templateFormat;
+		this.additionalFormats = additionalFormats;
 	}
 
 	String getEncoding() {
@@ -43,4 +48,8 @@ class SnippetConfiguration {
 		return this.format;
 	}
 
+	List<TemplateFormat> getAdditionalTemplateFormats() {
+		return this.additionalFormats;
+	}
+
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2014-2019 the original author or authors.
+ * Copyright 2014-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -62,6 +62,8 @@ public abstract class SnippetConfigurer<PARENT, TYPE> extends AbstractNestedConf
 
 	private TemplateFormat templateFormat = DEFAULT_TEMPLATE_FORMAT;
 
+	private List<TemplateFormat> additionalTemplateFormats = new ArrayList<>();
+
 	/**
 	 * Creates a new {@code SnippetConfigurer} with the given {@code parent}.
 	 * @param parent the parent
@@ -73,7 +75,7 @@ public abstract class SnippetConfigurer<PARENT, TYPE> extends AbstractNestedConf
 	@Override
 	public void apply(Map<String, Object> configuration, RestDocumentationContext context) {
 		configuration.put(SnippetConfiguration.class.getName(),
-				new SnippetConfiguration(this.snippetEncoding, this.templateFormat));
+				new SnippetConfiguration(this.snippetEncoding, this.templateFormat, this.additionalTemplateFormats));
 		configuration.put(RestDocumentationGenerator.ATTRIBUTE_NAME_DEFAULT_SNIPPETS, this.defaultSnippets);
 	}
 
@@ -124,4 +126,20 @@ public abstract class SnippetConfigurer<PARENT, TYPE> extends AbstractNestedConf
 		return (TYPE) this;
 	}
 
+	/**
+	 * Configures additional formats in which the documentation snippets will be
+	 * produced. Each snippet is written in the {@link #withTemplateFormat(TemplateFormat)
+	 * primary format} and then in each of the additional formats, using the same model.
+	 * For example, {@link TemplateFormats#html()} can be used to produce HTML fragments
+	 * alongside Asciidoctor snippets.
+	 * @param formats the additional snippet template formats
+	 * @return {@code this}
+	 * @since 3.0.0
+	 */
+	@SuppressWarnings("unchecked")
+	public TYPE withAdditionalTemplateFormats(TemplateFormat... formats) {
+		this.additionalTemplateFormats = new ArrayList<>(Arrays.asList(formats));
+		return (TYPE) this;
+	}
+
 }
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2014-2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.constraints;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@link ConstraintResolver} that can also resolve the constraints of all of a class's
+ * constrained properties at once.
+ *
+ * @author agent (agent@local)
+ * @since 3.0.0
+ * @see ConstraintDescriptions#descriptionsForAllProperties()
+ */
+public interface ClassConstraintResolver extends ConstraintResolver {
+
+	/**
+	 * Resolves and returns the constraints for all of the constrained properties of the
+	 * given {@code clazz}, keyed by the path of each property. Properties of nested
+	 * types that are validated in cascade may also be included, with a path that is
+	 * prefixed with the path of the property that contains them.
+	 * @param clazz the class
+	 * @return the constraints keyed by property path, never {@code null}
+	 */
+	Map<String, List<Constraint>> resolveForClass(Class<?> clazz);
+
+}
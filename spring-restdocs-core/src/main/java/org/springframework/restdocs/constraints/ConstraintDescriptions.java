@@ -1,5 +1,5 @@
 /*
- * Copyright 2014-2019 the original author or authors.
+ * Copyright 2014-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,9 +16,21 @@
 
 package org.springframework.restdocs.constraints;
 
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Modifier;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.ReflectionUtils;
 
 /**
  * Provides access to descriptions of a class's constraints.
@@ -33,15 +45,19 @@ public class ConstraintDescriptions {
 
 	private final ConstraintDescriptionResolver descriptionResolver;
 
+	private final boolean shared;
+
 	/**
 	 * Create a new {@code ConstraintDescriptions} for the given {@code clazz}.
 	 * Constraints will be resolved using a {@link ValidatorConstraintResolver} and
 	 * descriptions will be resolved using a
-	 * {@link ResourceBundleConstraintDescriptionResolver}.
+	 * {@link ResourceBundleConstraintDescriptionResolver}. The resolvers, and the
+	 * descriptions that they resolve, are shared by all instances created using this
+	 * constructor with the same default locale and thread context class loader.
 	 * @param clazz the class
 	 */
 	public ConstraintDescriptions(Class<?> clazz) {
-		this(clazz, new ValidatorConstraintResolver(), new ResourceBundleConstraintDescriptionResolver());
+		this(clazz, SharedDescriptions.constraintResolver, SharedDescriptions.getDescriptionResolver(), true);
 	}
 
 	/**
@@ -77,9 +93,40 @@ public class ConstraintDescriptions {
 	 */
 	public ConstraintDescriptions(Class<?> clazz, ConstraintResolver constraintResolver,
 			ConstraintDescriptionResolver descriptionResolver) {
+		this(clazz, constraintResolver, descriptionResolver, false);
+	}
+
+	private ConstraintDescriptions(Class<?> clazz, ConstraintResolver constraintResolver,
+			ConstraintDescriptionResolver descriptionResolver, boolean shared) {
 		this.clazz = clazz;
 		this.constraintResolver = constraintResolver;
 		this.descriptionResolver = descriptionResolver;
+		this.shared = shared;
+	}
+
+	/**
+	 * Returns the descriptions for the constraints on each of the given {@code classes},
+	 * resolved in parallel. Constraints will be resolved using a
+	 * {@link ValidatorConstraintResolver} and descriptions will be resolved using a
+	 * {@link ResourceBundleConstraintDescriptionResolver}, both of which are shared with
+	 * instances created using {@link #ConstraintDescriptions(Class)}.
+	 * @param classes the classes
+	 * @return the descriptions for the constraints of each class, as returned by
+	 * {@link #descriptionsForAllProperties()}, keyed by class
+	 * @since 3.0.0
+	 */
+	public static Map<Class<?>, Map<String, List<String>>> descriptionsForClasses(Class<?>... classes) {
+		List<ConstraintDescriptions> constraintDescriptions = new ArrayList<>();
+		for (Class<?> clazz : classes) {
+			constraintDescriptions.add(new ConstraintDescriptions(clazz));
+		}
+		List<Map<String, List<String>>> descriptions = constraintDescriptions.parallelStream()
+				.map(ConstraintDescriptions::descriptionsForAllProperties).toList();
+		Map<Class<?>, Map<String, List<String>>> descriptionsByClass = new LinkedHashMap<>();
+		for (int i = 0; i < classes.length; i++) {
+			descriptionsByClass.put(classes[i], descriptions.get(i));
+		}
+		return descriptionsByClass;
 	}
 
 	/**
@@ -88,7 +135,67 @@ public class ConstraintDescriptions {
 	 * @return the list of constraint descriptions
 	 */
 	public List<String> descriptionsForProperty(String property) {
-		List<Constraint> constraints = this.constraintResolver.resolveForProperty(property, this.clazz);
+		if (!this.shared) {
+			return resolveDescriptions(this.constraintResolver.resolveForProperty(property, this.clazz));
+		}
+		List<String> descriptions = SharedDescriptions.byProperty.computeIfAbsent(
+				Arrays.asList(this.descriptionResolver, this.clazz, property),
+				(key) -> Collections.unmodifiableList(
+						resolveDescriptions(this.constraintResolver.resolveForProperty(property, this.clazz))));
+		return new ArrayList<>(descriptions);
+	}
+
+	/**
+	 * Returns the descriptions for the constraints on all of the class's constrained
+	 * properties, keyed by property path. When the constraint resolver is a
+	 * {@link ClassConstraintResolver}, the class is walked once, including the properties
+	 * of nested types that are validated in cascade. Otherwise, the constraints of each
+	 * of the class's fields and bean properties are resolved individually and nested
+	 * types are not included. Each property's descriptions are sorted as they are by
+	 * {@link #descriptionsForProperty(String)}.
+	 * @return an unmodifiable map of property path to constraint descriptions
+	 * @since 3.0.0
+	 * @see ClassConstraintResolver#resolveForClass(Class)
+	 */
+	public Map<String, List<String>> descriptionsForAllProperties() {
+		if (!this.shared) {
+			return resolveAllDescriptions();
+		}
+		return SharedDescriptions.byClass.computeIfAbsent(Arrays.asList(this.descriptionResolver, this.clazz),
+				(key) -> resolveAllDescriptions());
+	}
+
+	private Map<String, List<String>> resolveAllDescriptions() {
+		Map<String, List<Constraint>> constraints = (this.constraintResolver instanceof ClassConstraintResolver)
+				? ((ClassConstraintResolver) this.constraintResolver).resolveForClass(this.clazz)
+				: resolveForEachProperty();
+		Map<String, List<String>> descriptions = new LinkedHashMap<>();
+		constraints.forEach((property, propertyConstraints) -> descriptions.put(property,
+				Collections.unmodifiableList(resolveDescriptions(propertyConstraints))));
+		return Collections.unmodifiableMap(descriptions);
+	}
+
+	private Map<String, List<Constraint>> resolveForEachProperty() {
+		Set<String> properties = new LinkedHashSet<>();
+		ReflectionUtils.doWithFields(this.clazz, (field) -> properties.add(field.getName()),
+				(field) -> !Modifier.isStatic(field.getModifiers()) && !field.isSynthetic());
+		for (PropertyDescriptor propertyDescriptor : BeanUtils.getPropertyDescriptors(this.clazz)) {
+			if (propertyDescriptor.getReadMethod() == null
+					|| propertyDescriptor.getReadMethod().getDeclaringClass() != Object.class) {
+				properties.add(propertyDescriptor.getName());
+			}
+		}
+		Map<String, List<Constraint>> constraints = new LinkedHashMap<>();
+		for (String property : properties) {
+			List<Constraint> propertyConstraints = this.constraintResolver.resolveForProperty(property, this.clazz);
+			if (!propertyConstraints.isEmpty()) {
+				constraints.put(property, propertyConstraints);
+			}
+		}
+		return constraints;
+	}
+
+	private List<String> resolveDescriptions(List<Constraint> constraints) {
 		List<String> descriptions = new ArrayList<>();
 		for (Constraint constraint : constraints) {
 			descriptions.add(this.descriptionResolver.resolveDescription(constraint));
@@ -97,4 +204,26 @@ public class ConstraintDescriptions {
 		return descriptions;
 	}
 
+	/**
+	 * Holder for the default resolvers and the descriptions resolved using them, shared
+	 * by all instances that use the default resolvers and initialized on first use.
+	 */
+	private static final class SharedDescriptions {
+
+		private static final ConstraintResolver constraintResolver = new ValidatorConstraintResolver();
+
+		private static final Map<Object, ConstraintDescriptionResolver> resolvers = new ConcurrentReferenceHashMap<>();
+
+		private static final Map<Object, List<String>> byProperty = new ConcurrentReferenceHashMap<>();
+
+		private static final Map<Object, Map<String, List<String>>> byClass = new ConcurrentReferenceHashMap<>();
+
+		private static ConstraintDescriptionResolver getDescriptionResolver() {
+			return resolvers.computeIfAbsent(
+					Arrays.asList(Locale.getDefault(), Thread.currentThread().getContextClassLoader()),
+					(key) -> new ResourceBundleConstraintDescriptionResolver());
+		}
+
+	}
+
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2014-2019 the original author or authors.
+ * Copyright 2014-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,9 +16,13 @@
 
 package org.springframework.restdocs.constraints;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.MissingResourceException;
 import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
 
 import jakarta.validation.constraints.AssertFalse;
 import jakarta.validation.constraints.AssertTrue;
@@ -111,6 +115,10 @@ import org.springframework.util.StringUtils;
  * <li>{@link URL}
  * </ul>
  *
+ * <p>
+ * The description for each constraint name is looked up and its placeholders parsed
+ * once, after which it is cached, as is the absence of a description.
+ *
  * @author Andy Wilkinson
  */
 public class ResourceBundleConstraintDescriptionResolver implements ConstraintDescriptionResolver {
@@ -121,6 +129,8 @@ public class ResourceBundleConstraintDescriptionResolver implements ConstraintDe
 
 	private final ResourceBundle userDescriptions;
 
+	private final Map<String, DescriptionTemplate> templates = new ConcurrentHashMap<>();
+
 	/**
 	 * Creates a new {@code ResourceBundleConstraintDescriptionResolver} that will resolve
 	 * descriptions by looking them up in a resource bundle with the base name
@@ -154,21 +164,155 @@ public class ResourceBundleConstraintDescriptionResolver implements ConstraintDe
 
 	@Override
 	public String resolveDescription(Constraint constraint) {
-		String key = constraint.getName() + ".description";
-		return this.propertyPlaceholderHelper.replacePlaceholders(getDescription(key),
-				new ConstraintPlaceholderResolver(constraint));
+		DescriptionTemplate template = this.templates.computeIfAbsent(constraint.getName(), this::compileTemplate);
+		return template.resolve(new ConstraintPlaceholderResolver(constraint));
+	}
+
+	private DescriptionTemplate compileTemplate(String constraintName) {
+		String key = constraintName + ".description";
+		String description = getDescription(key);
+		if (description == null) {
+			return new MissingDescriptionTemplate(key);
+		}
+		return CompiledDescriptionTemplate.compile(description, this.propertyPlaceholderHelper);
 	}
 
 	private String getDescription(String key) {
-		try {
-			if (this.userDescriptions != null) {
-				return this.userDescriptions.getString(key);
+		if (this.userDescriptions != null && this.userDescriptions.containsKey(key)) {
+			return this.userDescriptions.getString(key);
+		}
+		if (this.defaultDescriptions.containsKey(key)) {
+			return this.defaultDescriptions.getString(key);
+		}
+		return null;
+	}
+
+	/**
+	 * A constraint's description, ready to have its placeholders resolved.
+	 */
+	private interface DescriptionTemplate {
+
+		String resolve(PlaceholderResolver placeholderResolver);
+
+	}
+
+	/**
+	 * A {@link DescriptionTemplate} for a constraint that has no description.
+	 */
+	private static final class MissingDescriptionTemplate implements DescriptionTemplate {
+
+		private final String key;
+
+		private MissingDescriptionTemplate(String key) {
+			this.key = key;
+		}
+
+		@Override
+		public String resolve(PlaceholderResolver placeholderResolver) {
+			throw new MissingResourceException("Can't find resource for bundle "
+					+ ResourceBundleConstraintDescriptionResolver.class.getName() + ", key " + this.key,
+					ResourceBundleConstraintDescriptionResolver.class.getName(), this.key);
+		}
+
+	}
+
+	/**
+	 * A {@link DescriptionTemplate} that has been split into its literal text and the
+	 * names of its placeholders. Resolved values that themselves contain placeholders,
+	 * and descriptions with nested placeholders, are handled by a
+	 * {@link PropertyPlaceholderHelper}.
+	 */
+	private static final class CompiledDescriptionTemplate implements DescriptionTemplate {
+
+		private static final String PREFIX = "${";
+
+		private static final String SUFFIX = "}";
+
+		private static final String SIMPLE_PREFIX = "{";
+
+		private final String[] literals;
+
+		private final String[] placeholders;
+
+		private final PropertyPlaceholderHelper propertyPlaceholderHelper;
+
+		private CompiledDescriptionTemplate(String[] literals, String[] placeholders,
+				PropertyPlaceholderHelper propertyPlaceholderHelper) {
+			this.literals = literals;
+			this.placeholders = placeholders;
+			this.propertyPlaceholderHelper = propertyPlaceholderHelper;
+		}
+
+		private static DescriptionTemplate compile(String description,
+				PropertyPlaceholderHelper propertyPlaceholderHelper) {
+			List<String> literals = new ArrayList<>();
+			List<String> placeholders = new ArrayList<>();
+			int literalStart = 0;
+			int startIndex = description.indexOf(PREFIX);
+			while (startIndex != -1) {
+				int endIndex = findPlaceholderEndIndex(description, startIndex + PREFIX.length());
+				if (endIndex == -1) {
+					break;
+				}
+				String placeholder = description.substring(startIndex + PREFIX.length(), endIndex);
+				if (placeholder.contains(PREFIX)) {
+					return (placeholderResolver) -> propertyPlaceholderHelper.replacePlaceholders(description,
+							placeholderResolver);
+				}
+				literals.add(description.substring(literalStart, startIndex));
+				placeholders.add(placeholder);
+				literalStart = endIndex + SUFFIX.length();
+				startIndex = description.indexOf(PREFIX, literalStart);
 			}
+			literals.add(description.substring(literalStart));
+			return new CompiledDescriptionTemplate(literals.toArray(new String[0]),
+					placeholders.toArray(new String[0]), propertyPlaceholderHelper);
 		}
-		catch (MissingResourceException ex) {
-			// Continue and return default description, if available
+
+		private static int findPlaceholderEndIndex(String description, int startIndex) {
+			int index = startIndex;
+			int nestedPlaceholders = 0;
+			while (index < description.length()) {
+				if (description.startsWith(SUFFIX, index)) {
+					if (nestedPlaceholders == 0) {
+						return index;
+					}
+					nestedPlaceholders--;
+					index += SUFFIX.length();
+				}
+				else if (description.startsWith(SIMPLE_PREFIX, index)) {
+					nestedPlaceholders++;
+					index += SIMPLE_PREFIX.length();
+				}
+				else {
+					index++;
+				}
+			}
+			return -1;
 		}
-		return this.defaultDescriptions.getString(key);
+
+		@Override
+		public String resolve(PlaceholderResolver placeholderResolver) {
+			if (this.placeholders.length == 0) {
+				return this.literals[0];
+			}
+			StringBuilder description = new StringBuilder(this.literals[0]);
+			for (int i = 0; i < this.placeholders.length; i++) {
+				String value = placeholderResolver.resolvePlaceholder(this.placeholders[i]);
+				if (value == null) {
+					description.append(PREFIX).append(this.placeholders[i]).append(SUFFIX);
+				}
+				else if (value.contains(PREFIX)) {
+					description.append(this.propertyPlaceholderHelper.replacePlaceholders(value, placeholderResolver));
+				}
+				else {
+					description.append(value);
+				}
+				description.append(this.literals[i + 1]);
+			}
+			return description.toString();
+		}
+
 	}
 
 	private static final class ConstraintPlaceholderResolver implements PlaceholderResolver {
@@ -1,5 +1,5 @@
 /*
- * Copyright 2014-2019 the original author or authors.
+ * Copyright 2014-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,38 +17,61 @@
 package org.springframework.restdocs.constraints;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
 
+import jakarta.validation.Valid;
 import jakarta.validation.Validation;
 import jakarta.validation.Validator;
 import jakarta.validation.ValidatorFactory;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.metadata.BeanDescriptor;
+import jakarta.validation.metadata.CascadableDescriptor;
 import jakarta.validation.metadata.ConstraintDescriptor;
+import jakarta.validation.metadata.ContainerDescriptor;
+import jakarta.validation.metadata.ContainerElementTypeDescriptor;
+import jakarta.validation.metadata.ElementDescriptor;
 import jakarta.validation.metadata.PropertyDescriptor;
 
+import org.springframework.util.ConcurrentReferenceHashMap;
+
 /**
- * A {@link ConstraintResolver} that uses a Bean Validation {@link Validator} to resolve
- * constraints. The name of the constraint is the fully-qualified class name of the
- * constraint annotation. For example, a {@link NotNull} constraint will be named
- * {@code jakarta.validation.constraints.NotNull}.
+ * A {@link ClassConstraintResolver} that uses a Bean Validation {@link Validator} to
+ * resolve constraints. The name of the constraint is the fully-qualified class name of
+ * the constraint annotation. For example, a {@link NotNull} constraint will be named
+ * {@code jakarta.validation.constraints.NotNull}. The {@link BeanDescriptor} of each
+ * class is retrieved from the validator once and then cached.
+ * <p>
+ * When resolving the constraints for a whole class, the properties of nested types that
+ * are validated in cascade, for example because they are annotated with {@link Valid},
+ * are included. Their paths use the same syntax as field paths in a payload, for example
+ * {@code address.street}, {@code addresses[].street}, or {@code addressesByName.*.street}
+ * for a property, a cascaded list element, or a cascaded map value respectively.
  *
  * @author Andy Wilkinson
  *
  */
-public class ValidatorConstraintResolver implements ConstraintResolver {
+public class ValidatorConstraintResolver implements ClassConstraintResolver {
+
+	private final Map<Class<?>, BeanDescriptor> beanDescriptors = new ConcurrentReferenceHashMap<>();
 
 	private final Validator validator;
 
 	/**
 	 * Creates a new {@code ValidatorConstraintResolver} that will use a {@link Validator}
-	 * in its default configuration to resolve constraints.
+	 * in its default configuration to resolve constraints. The validator is created
+	 * lazily from a default {@link ValidatorFactory} that is shared by all resolvers
+	 * created using this constructor.
 	 *
 	 * @see Validation#buildDefaultValidatorFactory()
 	 * @see ValidatorFactory#getValidator()
 	 */
 	public ValidatorConstraintResolver() {
-		this(Validation.buildDefaultValidatorFactory().getValidator());
+		this(DefaultValidator.validator);
 	}
 
 	/**
@@ -62,16 +85,83 @@ public class ValidatorConstraintResolver implements ConstraintResolver {
 
 	@Override
 	public List<Constraint> resolveForProperty(String property, Class<?> clazz) {
-		List<Constraint> constraints = new ArrayList<>();
-		BeanDescriptor beanDescriptor = this.validator.getConstraintsForClass(clazz);
-		PropertyDescriptor propertyDescriptor = beanDescriptor.getConstraintsForProperty(property);
-		if (propertyDescriptor != null) {
-			for (ConstraintDescriptor<?> constraintDescriptor : propertyDescriptor.getConstraintDescriptors()) {
-				constraints.add(new Constraint(constraintDescriptor.getAnnotation().annotationType().getName(),
-						constraintDescriptor.getAttributes()));
+		PropertyDescriptor propertyDescriptor = getBeanDescriptor(clazz).getConstraintsForProperty(property);
+		return (propertyDescriptor != null) ? getConstraints(propertyDescriptor) : new ArrayList<>();
+	}
+
+	@Override
+	public Map<String, List<Constraint>> resolveForClass(Class<?> clazz) {
+		Map<String, List<Constraint>> constraints = new TreeMap<>();
+		resolveForClass("", clazz, constraints, new HashSet<>());
+		return constraints;
+	}
+
+	private void resolveForClass(String prefix, Class<?> clazz, Map<String, List<Constraint>> constraints,
+			Set<Class<?>> classesInPath) {
+		if (classesInPath.add(clazz)) {
+			for (PropertyDescriptor propertyDescriptor : getBeanDescriptor(clazz).getConstrainedProperties()) {
+				resolveForElement(prefix + propertyDescriptor.getPropertyName(), propertyDescriptor, constraints,
+						classesInPath);
 			}
+			classesInPath.remove(clazz);
+		}
+	}
+
+	private <D extends ElementDescriptor & CascadableDescriptor & ContainerDescriptor> void resolveForElement(
+			String path, D descriptor, Map<String, List<Constraint>> constraints, Set<Class<?>> classesInPath) {
+		if (descriptor.hasConstraints()) {
+			constraints.computeIfAbsent(path, (key) -> new ArrayList<>()).addAll(getConstraints(descriptor));
+		}
+		Class<?> elementClass = descriptor.getElementClass();
+		// The element type of a cascaded array has no element class as the array itself
+		// is cascaded
+		if (descriptor.isCascaded() && elementClass != null) {
+			if (elementClass.isArray()) {
+				resolveForClass(path + "[].", elementClass.getComponentType(), constraints, classesInPath);
+			}
+			else if (!isContainer(elementClass)) {
+				resolveForClass(path + ".", elementClass, constraints, classesInPath);
+			}
+		}
+		for (ContainerElementTypeDescriptor elementType : descriptor.getConstrainedContainerElementTypes()) {
+			Class<?> containerClass = elementType.getContainerClass();
+			if (Optional.class.equals(containerClass)) {
+				resolveForElement(path, elementType, constraints, classesInPath);
+			}
+			else if (!Map.class.isAssignableFrom(containerClass)) {
+				resolveForElement(path + "[]", elementType, constraints, classesInPath);
+			}
+			else if (elementType.getTypeArgumentIndex() == 1) {
+				resolveForElement(path + ".*", elementType, constraints, classesInPath);
+			}
+		}
+	}
+
+	private boolean isContainer(Class<?> type) {
+		return Iterable.class.isAssignableFrom(type) || Map.class.isAssignableFrom(type)
+				|| Optional.class.equals(type);
+	}
+
+	private List<Constraint> getConstraints(ElementDescriptor descriptor) {
+		List<Constraint> constraints = new ArrayList<>();
+		for (ConstraintDescriptor<?> constraintDescriptor : descriptor.getConstraintDescriptors()) {
+			constraints.add(new Constraint(constraintDescriptor.getAnnotation().annotationType().getName(),
+					constraintDescriptor.getAttributes()));
 		}
 		return constraints;
 	}
 
+	BeanDescriptor getBeanDescriptor(Class<?> clazz) {
+		return this.beanDescriptors.computeIfAbsent(clazz, this.validator::getConstraintsForClass);
+	}
+
+	/**
+	 * Holder for the default {@link Validator}, initialized on first use.
+	 */
+	private static final class DefaultValidator {
+
+		private static final Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+	}
+
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2014-2019 the original author or authors.
+ * Copyright 2014-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -24,6 +24,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.function.BiFunction;
 
+import org.springframework.restdocs.observation.DocumentationEvent;
+import org.springframework.restdocs.observation.DocumentationEvents;
+import org.springframework.restdocs.observation.DocumentationPhase;
+import org.springframework.restdocs.observation.PhaseRecorder;
+import org.springframework.restdocs.observation.PhaseRecorder.Sample;
 import org.springframework.restdocs.operation.Operation;
 import org.springframework.restdocs.operation.OperationRequest;
 import org.springframework.restdocs.operation.OperationResponse;
@@ -182,11 +187,25 @@ public final class RestDocumentationGenerator<REQ, RESP> {
 	 * @throws RestDocumentationGenerationException if a failure occurs during handling
 	 */
 	public void handle(REQ request, RESP response, Map<String, Object> configuration) {
+		DocumentationEvent event = DocumentationEvents.operation();
 		Map<String, Object> attributes = new HashMap<>(configuration);
-		OperationRequest operationRequest = preprocessRequest(this.requestConverter.convert(request), attributes);
-		OperationResponse operationResponse = preprocessResponse(this.responseConverter.convert(response), attributes);
-		Operation operation = new StandardOperation(this.identifier, operationRequest, operationResponse, attributes);
+		PhaseRecorder recorder = PhaseRecorder.of(attributes, this.identifier);
+		Sample operationSample = recorder.start();
+		Operation operation;
 		try {
+			Sample sample = recorder.start();
+			OperationRequest convertedRequest = this.requestConverter.convert(request);
+			recorder.stop(sample, DocumentationPhase.REQUEST_CONVERSION, null);
+			sample = recorder.start();
+			OperationResponse convertedResponse = this.responseConverter.convert(response);
+			recorder.stop(sample, DocumentationPhase.RESPONSE_CONVERSION, null);
+			sample = recorder.start();
+			OperationRequest operationRequest = preprocessRequest(convertedRequest, attributes);
+			recorder.stop(sample, DocumentationPhase.REQUEST_PREPROCESSING, null);
+			sample = recorder.start();
+			OperationResponse operationResponse = preprocessResponse(convertedResponse, attributes);
+			recorder.stop(sample, DocumentationPhase.RESPONSE_PREPROCESSING, null);
+			operation = new StandardOperation(this.identifier, operationRequest, operationResponse, attributes);
 			for (Snippet snippet : getSnippets(attributes)) {
 				snippet.document(operation);
 			}
@@ -194,6 +213,13 @@ public final class RestDocumentationGenerator<REQ, RESP> {
 		catch (IOException ex) {
 			throw new RestDocumentationGenerationException(ex);
 		}
+		finally {
+			recorder.stop(operationSample, DocumentationPhase.OPERATION, null);
+		}
+		recorder.operationDocumented(operation);
+		event.complete(this.identifier, null,
+				operation.getRequest().getContent().length + operation.getResponse().getContent().length,
+				operation.getResponse().getHeaders().getContentType());
 	}
 
 	/**
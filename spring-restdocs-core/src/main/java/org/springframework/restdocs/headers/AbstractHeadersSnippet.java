@@ -1,5 +1,5 @@
 /*
- * Copyright 2014-2019 the original author or authors.
+ * Copyright 2014-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -110,6 +110,11 @@ public abstract class AbstractHeadersSnippet extends TemplatedSnippet {
 	 */
 	protected abstract Set<String> extractActualHeaders(Operation operation);
 
+	@Override
+	protected int getDescriptorCount() {
+		return this.headerDescriptors.size();
+	}
+
 	/**
 	 * Returns the list of {@link HeaderDescriptor HeaderDescriptors} that will be used to
 	 * generate the documentation.
@@ -78,7 +78,7 @@ public class HttpRequestSnippet extends TemplatedSnippet {
 	private String getPath(OperationRequest request) {
 		String path = request.getUri().getRawPath();
 		String queryString = request.getUri().getRawQuery();
-		Parameters uniqueParameters = request.getParameters().getUniqueParameters(request.getUri());
+		Parameters uniqueParameters = request.getUniqueParameters();
 		if (!uniqueParameters.isEmpty() && includeParametersInUri(request)) {
 			if (StringUtils.hasText(queryString)) {
 				queryString = queryString + "&" + uniqueParameters.toQueryString();
@@ -134,7 +134,7 @@ public class HttpRequestSnippet extends TemplatedSnippet {
 		}
 		else if (isPutOrPost(request)) {
 			if (request.getParts().isEmpty()) {
-				String queryString = request.getParameters().getUniqueParameters(request.getUri()).toQueryString();
+				String queryString = request.getUniqueParameters().toQueryString();
 				if (StringUtils.hasText(queryString)) {
 					writer.println();
 					writer.print(queryString);
@@ -206,8 +206,7 @@ public class HttpRequestSnippet extends TemplatedSnippet {
 
 	private boolean requiresFormEncodingContentTypeHeader(OperationRequest request) {
 		return request.getHeaders().get(HttpHeaders.CONTENT_TYPE) == null && isPutOrPost(request)
-				&& !request.getParameters().getUniqueParameters(request.getUri()).isEmpty()
-				&& !includeParametersInUri(request);
+				&& !request.getUniqueParameters().isEmpty() && !includeParametersInUri(request);
 	}
 
 	private Map<String, String> header(String name, String value) {
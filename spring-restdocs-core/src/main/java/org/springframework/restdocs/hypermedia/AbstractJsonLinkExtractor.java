@@ -1,5 +1,5 @@
 /*
- * Copyright 2014-2019 the original author or authors.
+ * Copyright 2014-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,29 +17,92 @@
 package org.springframework.restdocs.hypermedia;
 
 import java.io.IOException;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import org.springframework.restdocs.operation.OperationResponse;
 
 /**
- * Abstract base class for a {@link LinkExtractor} that extracts links from JSON.
+ * Abstract base class for a {@link LinkExtractor} that extracts links from JSON. The
+ * content is read in a single streaming pass that seeks to the top-level field that
+ * contains the links, skipping all other fields without materializing them.
  *
  * @author Andy Wilkinson
  */
 abstract class AbstractJsonLinkExtractor implements LinkExtractor {
 
-	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final JsonFactory jsonFactory = new JsonFactory();
+
+	private final String linksFieldName;
+
+	/**
+	 * Creates a new {@code AbstractJsonLinkExtractor} that will extract links from the
+	 * top-level field with the given {@code linksFieldName}.
+	 * @param linksFieldName the name of the field that contains the links
+	 */
+	protected AbstractJsonLinkExtractor(String linksFieldName) {
+		this.linksFieldName = linksFieldName;
+	}
 
 	@Override
-	@SuppressWarnings("unchecked")
 	public Map<String, List<Link>> extractLinks(OperationResponse response) throws IOException {
-		Map<String, Object> jsonContent = this.objectMapper.readValue(response.getContent(), Map.class);
-		return extractLinks(jsonContent);
+		try (JsonParser parser = this.jsonFactory.createParser(response.getContent())) {
+			if (parser.nextToken() != JsonToken.START_OBJECT) {
+				throw new JsonParseException(parser, "Content is not a JSON object");
+			}
+			Map<String, List<Link>> extractedLinks = new LinkedHashMap<>();
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+				String name = parser.currentName();
+				parser.nextToken();
+				if (this.linksFieldName.equals(name)) {
+					extractedLinks = extractLinks(parser);
+				}
+				else {
+					parser.skipChildren();
+				}
+			}
+			return extractedLinks;
+		}
 	}
 
-	protected abstract Map<String, List<Link>> extractLinks(Map<String, Object> json);
+	/**
+	 * Extracts links from the value of the links field on which the given {@code parser}
+	 * is positioned. Upon return, the parser must be positioned on the last token of
+	 * that value.
+	 * @param parser the parser
+	 * @return the extracted links
+	 * @throws IOException if the links cannot be read
+	 */
+	protected abstract Map<String, List<Link>> extractLinks(JsonParser parser) throws IOException;
+
+	/**
+	 * Reads the values of the fields with the given {@code fieldNames} from the object on
+	 * which the given {@code parser} is positioned. Fields whose value is not a string
+	 * are read as {@code null} and all other fields are skipped.
+	 * @param parser the parser, positioned on the start of an object
+	 * @param fieldNames the names of the fields to read
+	 * @return the values of the fields, in the order of their names
+	 * @throws IOException if the object cannot be read
+	 */
+	static String[] readStringFields(JsonParser parser, String... fieldNames) throws IOException {
+		String[] values = new String[fieldNames.length];
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			String name = parser.currentName();
+			JsonToken value = parser.nextToken();
+			for (int i = 0; i < fieldNames.length; i++) {
+				if (fieldNames[i].equals(name)) {
+					values[i] = (value == JsonToken.VALUE_STRING) ? parser.getText() : null;
+				}
+			}
+			parser.skipChildren();
+		}
+		return values;
+	}
 
 }
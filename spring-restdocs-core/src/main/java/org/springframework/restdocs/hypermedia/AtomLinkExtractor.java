@@ -1,5 +1,5 @@
 /*
- * Copyright 2014-2019 the original author or authors.
+ * Copyright 2014-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,10 +16,13 @@
 
 package org.springframework.restdocs.hypermedia;
 
-import java.util.Collection;
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 
@@ -28,40 +31,32 @@ import org.springframework.util.MultiValueMap;
  *
  * @author Andy Wilkinson
  */
-@SuppressWarnings("unchecked")
 class AtomLinkExtractor extends AbstractJsonLinkExtractor {
 
+	AtomLinkExtractor() {
+		super("links");
+	}
+
 	@Override
-	public Map<String, List<Link>> extractLinks(Map<String, Object> json) {
+	protected Map<String, List<Link>> extractLinks(JsonParser parser) throws IOException {
 		MultiValueMap<String, Link> extractedLinks = new LinkedMultiValueMap<>();
-		Object possibleLinks = json.get("links");
-		if (possibleLinks instanceof Collection) {
-			Collection<Object> linksCollection = (Collection<Object>) possibleLinks;
-			for (Object linkObject : linksCollection) {
-				if (linkObject instanceof Map) {
-					Link link = maybeCreateLink((Map<String, Object>) linkObject);
-					maybeStoreLink(link, extractedLinks);
+		if (parser.currentToken() != JsonToken.START_ARRAY) {
+			parser.skipChildren();
+			return extractedLinks;
+		}
+		while (parser.nextToken() != JsonToken.END_ARRAY) {
+			if (parser.currentToken() == JsonToken.START_OBJECT) {
+				String[] relHrefAndTitle = readStringFields(parser, "rel", "href", "title");
+				if (relHrefAndTitle[0] != null && relHrefAndTitle[1] != null) {
+					extractedLinks.add(relHrefAndTitle[0],
+							new Link(relHrefAndTitle[0], relHrefAndTitle[1], relHrefAndTitle[2]));
 				}
 			}
+			else {
+				parser.skipChildren();
+			}
 		}
 		return extractedLinks;
 	}
 
-	private static Link maybeCreateLink(Map<String, Object> linkMap) {
-		Object hrefObject = linkMap.get("href");
-		Object relObject = linkMap.get("rel");
-		if (relObject instanceof String && hrefObject instanceof String) {
-			Object titleObject = linkMap.get("title");
-			return new Link((String) relObject, (String) hrefObject,
-					(titleObject instanceof String) ? (String) titleObject : null);
-		}
-		return null;
-	}
-
-	private static void maybeStoreLink(Link link, MultiValueMap<String, Link> extractedLinks) {
-		if (link != null) {
-			extractedLinks.add(link.getRel(), link);
-		}
-	}
-
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2014-2019 the original author or authors.
+ * Copyright 2014-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,31 +17,54 @@
 package org.springframework.restdocs.hypermedia;
 
 import java.io.IOException;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.http.MediaType;
 import org.springframework.restdocs.operation.OperationResponse;
 
 /**
  * {@link LinkExtractor} that delegates to other link extractors based on the response's
- * content type.
+ * content type. Candidate extractors are considered from the most to the least specific
+ * media type and, once resolved, the extractor for a content type is cached.
  *
  * @author Andy Wilkinson
  */
 class ContentTypeLinkExtractor implements LinkExtractor {
 
-	private Map<MediaType, LinkExtractor> linkExtractors = new HashMap<>();
+	private static final Comparator<MediaType> SPECIFICITY = Comparator
+			.comparing(MediaType::isWildcardType)
+			.thenComparing(MediaType::isWildcardSubtype)
+			.thenComparing((mediaType) -> mediaType.getParameters().size(), Comparator.reverseOrder())
+			.thenComparing(MediaType::toString);
+
+	private final Map<MediaType, LinkExtractor> linkExtractors;
+
+	private final Map<MediaType, LinkExtractor> resolvedLinkExtractors = new ConcurrentHashMap<>();
 
 	ContentTypeLinkExtractor() {
-		this.linkExtractors.put(MediaType.APPLICATION_JSON, new AtomLinkExtractor());
-		this.linkExtractors.put(HalLinkExtractor.HAL_MEDIA_TYPE, new HalLinkExtractor());
+		this(createDefaultLinkExtractors());
 	}
 
 	ContentTypeLinkExtractor(Map<MediaType, LinkExtractor> linkExtractors) {
-		this.linkExtractors.putAll(linkExtractors);
+		List<MediaType> mediaTypes = new ArrayList<>(linkExtractors.keySet());
+		mediaTypes.sort(SPECIFICITY);
+		this.linkExtractors = new LinkedHashMap<>();
+		for (MediaType mediaType : mediaTypes) {
+			this.linkExtractors.put(mediaType, linkExtractors.get(mediaType));
+		}
+	}
+
+	private static Map<MediaType, LinkExtractor> createDefaultLinkExtractors() {
+		Map<MediaType, LinkExtractor> linkExtractors = new LinkedHashMap<>();
+		linkExtractors.put(MediaType.APPLICATION_JSON, new AtomLinkExtractor());
+		linkExtractors.put(HalLinkExtractor.HAL_MEDIA_TYPE, new HalLinkExtractor());
+		return linkExtractors;
 	}
 
 	@Override
@@ -57,10 +80,15 @@ class ContentTypeLinkExtractor implements LinkExtractor {
 
 	private LinkExtractor getExtractorForContentType(MediaType contentType) {
 		if (contentType != null) {
-			for (Entry<MediaType, LinkExtractor> entry : this.linkExtractors.entrySet()) {
-				if (contentType.isCompatibleWith(entry.getKey())) {
-					return entry.getValue();
-				}
+			return this.resolvedLinkExtractors.computeIfAbsent(contentType, this::findExtractorForContentType);
+		}
+		return null;
+	}
+
+	private LinkExtractor findExtractorForContentType(MediaType contentType) {
+		for (Entry<MediaType, LinkExtractor> entry : this.linkExtractors.entrySet()) {
+			if (contentType.isCompatibleWith(entry.getKey())) {
+				return entry.getValue();
 			}
 		}
 		return null;
@@ -1,5 +1,5 @@
 /*
- * Copyright 2014-2016 the original author or authors.
+ * Copyright 2014-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,12 +16,14 @@
 
 package org.springframework.restdocs.hypermedia;
 
+import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import org.springframework.http.MediaType;
 
@@ -35,47 +37,40 @@ class HalLinkExtractor extends AbstractJsonLinkExtractor {
 
 	static final MediaType HAL_MEDIA_TYPE = new MediaType("application", "hal+json");
 
+	HalLinkExtractor() {
+		super("_links");
+	}
+
 	@Override
-	public Map<String, List<Link>> extractLinks(Map<String, Object> json) {
+	protected Map<String, List<Link>> extractLinks(JsonParser parser) throws IOException {
 		Map<String, List<Link>> extractedLinks = new LinkedHashMap<>();
-		Object possibleLinks = json.get("_links");
-		if (possibleLinks instanceof Map) {
-			@SuppressWarnings("unchecked")
-			Map<String, Object> links = (Map<String, Object>) possibleLinks;
-			for (Entry<String, Object> entry : links.entrySet()) {
-				String rel = entry.getKey();
-				extractedLinks.put(rel, convertToLinks(entry.getValue(), rel));
-			}
+		if (parser.currentToken() != JsonToken.START_OBJECT) {
+			parser.skipChildren();
+			return extractedLinks;
 		}
-		return extractedLinks;
-	}
-
-	private static List<Link> convertToLinks(Object object, String rel) {
-		List<Link> links = new ArrayList<>();
-		if (object instanceof Collection) {
-			@SuppressWarnings("unchecked")
-			Collection<Object> possibleLinkObjects = (Collection<Object>) object;
-			for (Object possibleLinkObject : possibleLinkObjects) {
-				maybeAddLink(maybeCreateLink(rel, possibleLinkObject), links);
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			String rel = parser.currentName();
+			List<Link> links = new ArrayList<>();
+			if (parser.nextToken() == JsonToken.START_ARRAY) {
+				while (parser.nextToken() != JsonToken.END_ARRAY) {
+					maybeAddLink(maybeReadLink(rel, parser), links);
+				}
 			}
+			else {
+				maybeAddLink(maybeReadLink(rel, parser), links);
+			}
+			extractedLinks.put(rel, links);
 		}
-		else {
-			maybeAddLink(maybeCreateLink(rel, object), links);
-		}
-		return links;
+		return extractedLinks;
 	}
 
-	private static Link maybeCreateLink(String rel, Object possibleLinkObject) {
-		if (possibleLinkObject instanceof Map) {
-			Map<?, ?> possibleLinkMap = (Map<?, ?>) possibleLinkObject;
-			Object hrefObject = possibleLinkMap.get("href");
-			if (hrefObject instanceof String) {
-				Object titleObject = possibleLinkMap.get("title");
-				return new Link(rel, (String) hrefObject,
-						(titleObject instanceof String) ? (String) titleObject : null);
-			}
+	private static Link maybeReadLink(String rel, JsonParser parser) throws IOException {
+		if (parser.currentToken() != JsonToken.START_OBJECT) {
+			parser.skipChildren();
+			return null;
 		}
-		return null;
+		String[] hrefAndTitle = readStringFields(parser, "href", "title");
+		return (hrefAndTitle[0] != null) ? new Link(rel, hrefAndTitle[0], hrefAndTitle[1]) : null;
 	}
 
 	private static void maybeAddLink(Link possibleLink, List<Link> links) {
@@ -1,5 +1,5 @@
 /*
- * Copyright 2014-2019 the original author or authors.
+ * Copyright 2014-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -205,6 +205,11 @@ public class LinksSnippet extends TemplatedSnippet {
 		return newDescriptor;
 	}
 
+	@Override
+	protected int getDescriptorCount() {
+		return this.descriptorsByRel.size();
+	}
+
 	/**
 	 * Returns a {@code Map} of {@link LinkDescriptor LinkDescriptors} keyed by their
 	 * {@link LinkDescriptor#getRel() rels}.
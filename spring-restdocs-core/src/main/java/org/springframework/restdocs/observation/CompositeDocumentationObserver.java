@@ -0,0 +1,80 @@
+/*
+ * Copyright 2014-2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.observation;
+
+import java.util.List;
+
+import org.springframework.restdocs.operation.Operation;
+
+/**
+ * A {@link DocumentationObserver} that delegates to other observers.
+ *
+ * @author agent (agent@local)
+ */
+final class CompositeDocumentationObserver implements DocumentationObserver {
+
+	private final List<DocumentationObserver> delegates;
+
+	private final boolean allocationSamplingEnabled;
+
+	CompositeDocumentationObserver(List<DocumentationObserver> delegates) {
+		this.delegates = delegates;
+		this.allocationSamplingEnabled = delegates.stream()
+				.anyMatch(DocumentationObserver::isAllocationSamplingEnabled);
+	}
+
+	@Override
+	public void phaseCompleted(PhaseObservation observation) {
+		for (DocumentationObserver delegate : this.delegates) {
+			delegate.phaseCompleted(observation);
+		}
+	}
+
+	@Override
+	public void snippetDocumented(SnippetObservation observation) {
+		for (DocumentationObserver delegate : this.delegates) {
+			delegate.snippetDocumented(observation);
+		}
+	}
+
+	@Override
+	public void operationDocumented(Operation operation) {
+		for (DocumentationObserver delegate : this.delegates) {
+			delegate.operationDocumented(operation);
+		}
+	}
+
+	@Override
+	public void templateCacheAccessed(String templateName, boolean hit) {
+		for (DocumentationObserver delegate : this.delegates) {
+			delegate.templateCacheAccessed(templateName, hit);
+		}
+	}
+
+	@Override
+	public void snippetWritten(String operationName, String snippetName, long bytesWritten) {
+		for (DocumentationObserver delegate : this.delegates) {
+			delegate.snippetWritten(operationName, snippetName, bytesWritten);
+		}
+	}
+
+	@Override
+	public boolean isAllocationSamplingEnabled() {
+		return this.allocationSamplingEnabled;
+	}
+
+}
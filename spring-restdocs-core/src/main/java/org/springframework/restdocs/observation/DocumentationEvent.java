@@ -0,0 +1,109 @@
+/*
+ * Copyright 2014-2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.observation;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Base class for the JDK Flight Recorder events that are emitted while documenting an
+ * operation. Each event records the operation, the snippet (if any), and the size and
+ * content type of the payload that was being processed. Events are started using
+ * {@link DocumentationEvents} and are committed by
+ * {@link #complete(String, String, long, Object)}. When an event is not enabled in the
+ * current recording, completing it does nothing.
+ *
+ * @author agent (agent@local)
+ * @since 3.0.0
+ */
+@Category("Spring REST Docs")
+@StackTrace(false)
+public abstract class DocumentationEvent extends Event {
+
+	@Label("Operation")
+	@Description("Name of the operation being documented")
+	String operation;
+
+	@Label("Snippet")
+	@Description("Name of the snippet being produced, if any")
+	String snippet;
+
+	@Label("Payload Size")
+	@Description("Size of the payload that was processed")
+	@DataAmount
+	long payloadSize;
+
+	@Label("Content Type")
+	@Description("Content type of the payload that was processed")
+	String contentType;
+
+	DocumentationEvent() {
+
+	}
+
+	/**
+	 * Completes this event, committing it if it is enabled in the current recording.
+	 * @param operation the name of the operation
+	 * @param snippet the name of the snippet or {@code null}
+	 * @param payloadSize the size of the payload
+	 * @param contentType the content type of the payload or {@code null}
+	 */
+	public final void complete(String operation, String snippet, long payloadSize, Object contentType) {
+		end();
+		if (shouldCommit()) {
+			this.operation = operation;
+			this.snippet = snippet;
+			this.payloadSize = payloadSize;
+			this.contentType = (contentType != null) ? contentType.toString() : null;
+			commit();
+		}
+	}
+
+	@Name("org.springframework.restdocs.Operation")
+	@Label("Operation Documentation")
+	@Description("Documentation of an operation, from request conversion to the last snippet")
+	static final class OperationEvent extends DocumentationEvent {
+
+	}
+
+	@Name("org.springframework.restdocs.SnippetRendering")
+	@Label("Snippet Rendering")
+	@Description("Creation of a snippet's model and rendering of its template")
+	static final class SnippetRenderingEvent extends DocumentationEvent {
+
+	}
+
+	@Name("org.springframework.restdocs.ContentParsing")
+	@Label("Content Parsing")
+	@Description("Parsing of request or response content to document its fields")
+	static final class ContentParsingEvent extends DocumentationEvent {
+
+	}
+
+	@Name("org.springframework.restdocs.SnippetWrite")
+	@Label("Snippet Write")
+	@Description("Writing of a snippet, from resolving its writer to closing it")
+	static final class SnippetWriteEvent extends DocumentationEvent {
+
+	}
+
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2014-2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.observation;
+
+/**
+ * Factory methods for starting the {@link DocumentationEvent JDK Flight Recorder events}
+ * that are emitted while documenting an operation.
+ *
+ * @author agent (agent@local)
+ * @since 3.0.0
+ */
+public final class DocumentationEvents {
+
+	private DocumentationEvents() {
+
+	}
+
+	/**
+	 * Starts an event for the documentation of an operation. Its payload is the
+	 * operation's request and response content and its content type is that of the
+	 * response.
+	 * @return the started event
+	 */
+	public static DocumentationEvent operation() {
+		return start(new DocumentationEvent.OperationEvent());
+	}
+
+	/**
+	 * Starts an event for the rendering of a snippet. Its payload is the operation's
+	 * request and response content and its content type is that of the response.
+	 * @return the started event
+	 */
+	public static DocumentationEvent snippetRendering() {
+		return start(new DocumentationEvent.SnippetRenderingEvent());
+	}
+
+	/**
+	 * Starts an event for the parsing of request or response content.
+	 * @return the started event
+	 */
+	public static DocumentationEvent contentParsing() {
+		return start(new DocumentationEvent.ContentParsingEvent());
+	}
+
+	/**
+	 * Starts an event for the writing of a snippet. Its payload is the bytes that were
+	 * written and its content type identifies the snippet's template format.
+	 * @return the started event
+	 */
+	public static DocumentationEvent snippetWrite() {
+		return start(new DocumentationEvent.SnippetWriteEvent());
+	}
+
+	private static DocumentationEvent start(DocumentationEvent event) {
+		event.begin();
+		return event;
+	}
+
+}
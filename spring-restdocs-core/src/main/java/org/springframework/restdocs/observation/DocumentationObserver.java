@@ -0,0 +1,115 @@
+/*
+ * Copyright 2014-2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.observation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.springframework.restdocs.operation.Operation;
+
+/**
+ * A {@code DocumentationObserver} is notified as each {@link DocumentationPhase phase} of
+ * documenting an operation completes.
+ *
+ * @author agent (agent@local)
+ * @since 3.0.0
+ * @see org.springframework.restdocs.config.RestDocumentationConfigurer
+ */
+@FunctionalInterface
+public interface DocumentationObserver {
+
+	/**
+	 * Called when a phase of documenting an operation has completed.
+	 * @param observation the observation of the phase
+	 */
+	void phaseCompleted(PhaseObservation observation);
+
+	/**
+	 * Called when a snippet has been produced while documenting an operation.
+	 * @param observation the observation of the snippet
+	 */
+	default void snippetDocumented(SnippetObservation observation) {
+
+	}
+
+	/**
+	 * Called when an operation has been documented, after all of its snippets have been
+	 * produced.
+	 * @param operation the operation
+	 */
+	default void operationDocumented(Operation operation) {
+
+	}
+
+	/**
+	 * Called when a template engine has looked up a template in its cache of compiled
+	 * templates.
+	 * @param templateName the name of the template
+	 * @param hit whether the compiled template was found in the cache
+	 */
+	default void templateCacheAccessed(String templateName, boolean hit) {
+
+	}
+
+	/**
+	 * Called when a snippet has been written and its writer has been closed.
+	 * @param operationName the name of the operation
+	 * @param snippetName the name of the snippet
+	 * @param bytesWritten the number of bytes that were written
+	 */
+	default void snippetWritten(String operationName, String snippetName, long bytesWritten) {
+
+	}
+
+	/**
+	 * Returns whether the bytes allocated by the current thread during each phase should
+	 * be sampled. Sampling requires a JVM that supports measuring thread allocation.
+	 * Defaults to {@code false}.
+	 * @return {@code true} to sample allocations, otherwise {@code false}
+	 * @see PhaseObservation#getAllocatedBytes()
+	 */
+	default boolean isAllocationSamplingEnabled() {
+		return false;
+	}
+
+	/**
+	 * Returns a {@code DocumentationObserver} that notifies each of the given
+	 * {@code observers} in turn. Allocations are sampled if any of the observers has
+	 * enabled allocation sampling.
+	 * @param observers the observers
+	 * @return the composite observer
+	 */
+	static DocumentationObserver composite(DocumentationObserver... observers) {
+		return composite(Arrays.asList(observers));
+	}
+
+	/**
+	 * Returns a {@code DocumentationObserver} that notifies each of the given
+	 * {@code observers} in turn. Allocations are sampled if any of the observers has
+	 * enabled allocation sampling.
+	 * @param observers the observers
+	 * @return the composite observer
+	 */
+	static DocumentationObserver composite(List<DocumentationObserver> observers) {
+		if (observers.size() == 1) {
+			return observers.get(0);
+		}
+		return new CompositeDocumentationObserver(new ArrayList<>(observers));
+	}
+
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2014-2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.observation;
+
+/**
+ * The phases of documenting an operation.
+ *
+ * @author agent (agent@local)
+ * @since 3.0.0
+ */
+public enum DocumentationPhase {
+
+	/**
+	 * The whole of the documentation of an operation.
+	 */
+	OPERATION,
+
+	/**
+	 * Conversion of the request into an
+	 * {@link org.springframework.restdocs.operation.OperationRequest}.
+	 */
+	REQUEST_CONVERSION,
+
+	/**
+	 * Conversion of the response into an
+	 * {@link org.springframework.restdocs.operation.OperationResponse}.
+	 */
+	RESPONSE_CONVERSION,
+
+	/**
+	 * Preprocessing of the request.
+	 */
+	REQUEST_PREPROCESSING,
+
+	/**
+	 * Preprocessing of the response.
+	 */
+	RESPONSE_PREPROCESSING,
+
+	/**
+	 * The whole of the production of a snippet, including resolving and closing the
+	 * writer to which the snippet is written.
+	 */
+	SNIPPET,
+
+	/**
+	 * Creation of the model for a snippet's template.
+	 */
+	MODEL_CREATION,
+
+	/**
+	 * Compilation of a snippet's template and rendering of it to the snippet's writer.
+	 */
+	TEMPLATE_RENDERING
+
+}
@@ -0,0 +1,421 @@
+/*
+ * Copyright 2014-2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.observation;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import org.springframework.restdocs.RestDocumentationContext;
+import org.springframework.restdocs.operation.Operation;
+import org.springframework.util.Assert;
+import org.springframework.web.util.HtmlUtils;
+
+/**
+ * A {@link DocumentationObserver} that produces a report of the cost of documenting a
+ * test run. The report lists the slowest operations, the largest request and response
+ * bodies, and the snippets with the most descriptors, along with the total number of
+ * bytes written and the hit rate of the template cache. It is written as JSON to
+ * {@code restdocs-report.json} and as HTML to {@code restdocs-report.html}.
+ * <p>
+ * The number of bytes written and the template cache's statistics are accumulated as
+ * the report is notified of each snippet being {@link #snippetWritten written} and of
+ * each {@link #templateCacheAccessed access} to the template cache. These notifications
+ * are sent by the template engine and writer resolver that Spring REST Docs configures
+ * by default. A custom
+ * {@link org.springframework.restdocs.snippet.StandardWriterResolver} or
+ * {@link org.springframework.restdocs.templates.mustache.MustacheTemplateEngine} must be
+ * given the report as its observer.
+ * <p>
+ * The {@link #shared() shared} report is written to the snippets' output directory each
+ * time a test that is using {@link org.springframework.restdocs.ManualRestDocumentation}
+ * (directly or through {@link org.springframework.restdocs.JUnitRestDocumentation} or
+ * {@link org.springframework.restdocs.RestDocumentationExtension}) completes, so that,
+ * at the end of the run, it describes every operation that was documented.
+ *
+ * @author agent (agent@local)
+ * @since 3.0.0
+ */
+public class DocumentationReport implements DocumentationObserver {
+
+	/**
+	 * The name of the file to which the report is written as JSON.
+	 */
+	public static final String JSON_FILE_NAME = "restdocs-report.json";
+
+	/**
+	 * The name of the file to which the report is written as HTML.
+	 */
+	public static final String HTML_FILE_NAME = "restdocs-report.html";
+
+	private static final int DEFAULT_LIMIT = 10;
+
+	private static final DocumentationReport sharedReport = new DocumentationReport();
+
+	private final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)
+			.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+	private final LongAdder bytesWritten = new LongAdder();
+
+	private final LongAdder templateCacheHits = new LongAdder();
+
+	private final LongAdder templateCacheMisses = new LongAdder();
+
+	private final Ranking<OperationTiming> slowestOperations;
+
+	private final Ranking<Body> largestBodies;
+
+	private final Ranking<SnippetDescriptors> mostDescriptors;
+
+	private long operations;
+
+	private long snippets;
+
+	private boolean modified;
+
+	/**
+	 * Creates a new {@code DocumentationReport} that will list the 10 slowest
+	 * operations, largest bodies, and snippets with the most descriptors.
+	 */
+	public DocumentationReport() {
+		this(DEFAULT_LIMIT);
+	}
+
+	/**
+	 * Creates a new {@code DocumentationReport} that will list the given number of
+	 * slowest operations, largest bodies, and snippets with the most descriptors.
+	 * @param limit the number of entries in each list
+	 */
+	public DocumentationReport(int limit) {
+		Assert.isTrue(limit > 0, "limit must be greater than zero");
+		this.slowestOperations = new Ranking<>(limit, Comparator.comparingLong((timing) -> timing.durationNanos));
+		this.largestBodies = new Ranking<>(limit, Comparator.comparingLong((body) -> body.length));
+		this.mostDescriptors = new Ranking<>(limit, Comparator.comparingInt((snippet) -> snippet.descriptorCount));
+	}
+
+	/**
+	 * Returns the shared report that is written each time a test completes.
+	 * @return the shared report
+	 * @see #testCompleted(RestDocumentationContext)
+	 */
+	public static DocumentationReport shared() {
+		return sharedReport;
+	}
+
+	/**
+	 * Notification that a test using the given {@code context} has completed. If the
+	 * {@link #shared() shared} report has observed any operations since it was last
+	 * written, it is written to the context's output directory.
+	 * @param context the context of the test
+	 */
+	public static void testCompleted(RestDocumentationContext context) {
+		if (context != null && context.getOutputDirectory() != null) {
+			try {
+				sharedReport.writeIfModified(context.getOutputDirectory());
+			}
+			catch (IOException ex) {
+				// Best effort so that documentation tests are unaffected
+			}
+		}
+	}
+
+	@Override
+	public void phaseCompleted(PhaseObservation observation) {
+		if (observation.getPhase() == DocumentationPhase.OPERATION) {
+			RestDocumentationContext context = observation.getContext();
+			String test = (context != null && context.getTestClass() != null)
+					? context.getTestClass().getName() + "." + context.getTestMethodName() : null;
+			synchronized (this) {
+				this.slowestOperations
+						.add(new OperationTiming(observation.getOperationName(), test, observation.getDurationNanos()));
+			}
+		}
+	}
+
+	@Override
+	public synchronized void snippetDocumented(SnippetObservation observation) {
+		this.snippets++;
+		this.mostDescriptors.add(new SnippetDescriptors(observation.getOperationName(),
+				observation.getSnippetName(), observation.getDescriptorCount()));
+	}
+
+	@Override
+	public synchronized void operationDocumented(Operation operation) {
+		this.operations++;
+		this.modified = true;
+		this.largestBodies.add(new Body(operation.getName(), "request", operation.getRequest().getContent().length));
+		this.largestBodies
+				.add(new Body(operation.getName(), "response", operation.getResponse().getContent().length));
+	}
+
+	@Override
+	public void templateCacheAccessed(String templateName, boolean hit) {
+		if (hit) {
+			this.templateCacheHits.increment();
+		}
+		else {
+			this.templateCacheMisses.increment();
+		}
+	}
+
+	@Override
+	public void snippetWritten(String operationName, String snippetName, long bytesWritten) {
+		this.bytesWritten.add(bytesWritten);
+	}
+
+	/**
+	 * Writes the report to the given {@code directory} as both JSON and HTML.
+	 * @param directory the directory to write to
+	 * @throws IOException if writing fails
+	 */
+	public synchronized void write(File directory) throws IOException {
+		if (!directory.isDirectory() && !directory.mkdirs()) {
+			throw new IOException("Failed to create directory '" + directory + "'");
+		}
+		Map<String, Object> report = toMap();
+		try (Writer writer = createWriter(new File(directory, JSON_FILE_NAME))) {
+			writeJson(report, writer);
+		}
+		try (Writer writer = createWriter(new File(directory, HTML_FILE_NAME))) {
+			writeHtml(report, writer);
+		}
+		this.modified = false;
+	}
+
+	private synchronized void writeIfModified(File directory) throws IOException {
+		if (this.modified) {
+			write(directory);
+		}
+	}
+
+	/**
+	 * Writes the report as JSON to the given {@code writer}.
+	 * @param writer the writer to write to
+	 * @throws IOException if writing fails
+	 */
+	public synchronized void writeJson(Writer writer) throws IOException {
+		writeJson(toMap(), writer);
+	}
+
+	/**
+	 * Writes the report as HTML to the given {@code writer}.
+	 * @param writer the writer to write to
+	 * @throws IOException if writing fails
+	 */
+	public synchronized void writeHtml(Writer writer) throws IOException {
+		writeHtml(toMap(), writer);
+	}
+
+	private Writer createWriter(File file) throws IOException {
+		return new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8);
+	}
+
+	private void writeJson(Map<String, Object> report, Writer writer) throws IOException {
+		this.objectMapper.writeValue(writer, report);
+	}
+
+	private Map<String, Object> toMap() {
+		Map<String, Object> report = new LinkedHashMap<>();
+		report.put("operations", this.operations);
+		report.put("snippets", this.snippets);
+		report.put("bytesWritten", this.bytesWritten.sum());
+		long cacheHits = this.templateCacheHits.sum();
+		long cacheMisses = this.templateCacheMisses.sum();
+		Map<String, Object> templateCache = new LinkedHashMap<>();
+		templateCache.put("hits", cacheHits);
+		templateCache.put("misses", cacheMisses);
+		long lookups = cacheHits + cacheMisses;
+		templateCache.put("hitRate", (lookups > 0) ? (double) cacheHits / lookups : 0.0);
+		report.put("templateCache", templateCache);
+		List<Map<String, Object>> slowestOperations = new ArrayList<>();
+		for (OperationTiming timing : this.slowestOperations.toList()) {
+			Map<String, Object> entry = new LinkedHashMap<>();
+			entry.put("operation", timing.operationName);
+			entry.put("test", timing.test);
+			entry.put("durationMillis", timing.durationNanos / 1_000_000.0);
+			slowestOperations.add(entry);
+		}
+		report.put("slowestOperations", slowestOperations);
+		List<Map<String, Object>> largestBodies = new ArrayList<>();
+		for (Body body : this.largestBodies.toList()) {
+			Map<String, Object> entry = new LinkedHashMap<>();
+			entry.put("operation", body.operationName);
+			entry.put("type", body.type);
+			entry.put("bytes", body.length);
+			largestBodies.add(entry);
+		}
+		report.put("largestBodies", largestBodies);
+		List<Map<String, Object>> mostDescriptors = new ArrayList<>();
+		for (SnippetDescriptors snippet : this.mostDescriptors.toList()) {
+			Map<String, Object> entry = new LinkedHashMap<>();
+			entry.put("operation", snippet.operationName);
+			entry.put("snippet", snippet.snippetName);
+			entry.put("descriptors", snippet.descriptorCount);
+			mostDescriptors.add(entry);
+		}
+		report.put("mostDescriptors", mostDescriptors);
+		return report;
+	}
+
+	@SuppressWarnings("unchecked")
+	private void writeHtml(Map<String, Object> report, Writer writer) throws IOException {
+		writer.write("<!DOCTYPE html>\n<html>\n<head>\n<meta charset=\"UTF-8\">\n"
+				+ "<title>REST Docs Documentation Report</title>\n</head>\n<body>\n");
+		writer.write("<h1>REST Docs Documentation Report</h1>\n");
+		Map<String, Object> templateCache = (Map<String, Object>) report.get("templateCache");
+		writer.write("<table>\n");
+		writeSummaryRow(writer, "Operations", report.get("operations"));
+		writeSummaryRow(writer, "Snippets", report.get("snippets"));
+		writeSummaryRow(writer, "Bytes written", report.get("bytesWritten"));
+		writeSummaryRow(writer, "Template cache hits", templateCache.get("hits"));
+		writeSummaryRow(writer, "Template cache misses", templateCache.get("misses"));
+		writeSummaryRow(writer, "Template cache hit rate",
+				String.format(Locale.ROOT, "%.1f%%", ((Number) templateCache.get("hitRate")).doubleValue() * 100));
+		writer.write("</table>\n");
+		writeTable(writer, "Slowest operations", (List<Map<String, Object>>) report.get("slowestOperations"),
+				"operation", "test", "durationMillis");
+		writeTable(writer, "Largest bodies", (List<Map<String, Object>>) report.get("largestBodies"), "operation",
+				"type", "bytes");
+		writeTable(writer, "Snippets with the most descriptors",
+				(List<Map<String, Object>>) report.get("mostDescriptors"), "operation", "snippet", "descriptors");
+		writer.write("</body>\n</html>\n");
+	}
+
+	private void writeTable(Writer writer, String title, List<Map<String, Object>> entries, String... columns)
+			throws IOException {
+		writer.write("<h2>" + HtmlUtils.htmlEscape(title) + "</h2>\n<table>\n");
+		writeRow(writer, "th", (Object[]) columns);
+		for (Map<String, Object> entry : entries) {
+			Object[] values = new Object[columns.length];
+			for (int i = 0; i < columns.length; i++) {
+				values[i] = entry.get(columns[i]);
+			}
+			writeRow(writer, "td", values);
+		}
+		writer.write("</table>\n");
+	}
+
+	private void writeSummaryRow(Writer writer, String label, Object value) throws IOException {
+		writer.write("<tr><th>" + HtmlUtils.htmlEscape(label) + "</th><td>"
+				+ HtmlUtils.htmlEscape(String.valueOf(value)) + "</td></tr>\n");
+	}
+
+	private void writeRow(Writer writer, String cell, Object... values) throws IOException {
+		writer.write("<tr>");
+		for (Object value : values) {
+			String text = (value != null) ? value.toString() : "";
+			writer.write("<" + cell + ">" + HtmlUtils.htmlEscape(text) + "</" + cell + ">");
+		}
+		writer.write("</tr>\n");
+	}
+
+	private static final class Ranking<T> {
+
+		private final int limit;
+
+		private final Comparator<T> comparator;
+
+		private final PriorityQueue<T> entries;
+
+		private Ranking(int limit, Comparator<T> comparator) {
+			this.limit = limit;
+			this.comparator = comparator;
+			this.entries = new PriorityQueue<>(limit + 1, comparator);
+		}
+
+		private void add(T entry) {
+			if (this.entries.size() < this.limit) {
+				this.entries.add(entry);
+			}
+			else if (this.comparator.compare(entry, this.entries.peek()) > 0) {
+				this.entries.poll();
+				this.entries.add(entry);
+			}
+		}
+
+		private List<T> toList() {
+			List<T> list = new ArrayList<>(this.entries);
+			list.sort(this.comparator.reversed());
+			return list;
+		}
+
+	}
+
+	private static final class OperationTiming {
+
+		private final String operationName;
+
+		private final String test;
+
+		private final long durationNanos;
+
+		private OperationTiming(String operationName, String test, long durationNanos) {
+			this.operationName = operationName;
+			this.test = test;
+			this.durationNanos = durationNanos;
+		}
+
+	}
+
+	private static final class Body {
+
+		private final String operationName;
+
+		private final String type;
+
+		private final long length;
+
+		private Body(String operationName, String type, long length) {
+			this.operationName = operationName;
+			this.type = type;
+			this.length = length;
+		}
+
+	}
+
+	private static final class SnippetDescriptors {
+
+		private final String operationName;
+
+		private final String snippetName;
+
+		private final int descriptorCount;
+
+		private SnippetDescriptors(String operationName, String snippetName, int descriptorCount) {
+			this.operationName = operationName;
+			this.snippetName = snippetName;
+			this.descriptorCount = descriptorCount;
+		}
+
+	}
+
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2014-2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.observation;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.BaseUnits;
+
+import org.springframework.util.Assert;
+
+/**
+ * A {@link DocumentationObserver} that records each phase in a Micrometer
+ * {@link MeterRegistry}. The duration of each phase is recorded using a {@link Timer}
+ * named {@code restdocs.phase}. When allocation sampling is enabled, the bytes allocated
+ * during each phase are recorded using a {@link DistributionSummary} named
+ * {@code restdocs.phase.allocated}. Both meters are tagged with the {@code phase} and
+ * the {@code snippet} ({@code none} when the phase is not specific to a snippet). They
+ * are not tagged with the name of the operation as doing so would create a meter for
+ * every operation that is documented.
+ *
+ * @author agent (agent@local)
+ * @since 3.0.0
+ */
+public class MicrometerDocumentationObserver implements DocumentationObserver {
+
+	private static final String NONE = "none";
+
+	private final MeterRegistry registry;
+
+	private final boolean allocationSamplingEnabled;
+
+	/**
+	 * Creates a new {@code MicrometerDocumentationObserver} that will record phase
+	 * durations in the given {@code registry}.
+	 * @param registry the registry
+	 */
+	public MicrometerDocumentationObserver(MeterRegistry registry) {
+		this(registry, false);
+	}
+
+	/**
+	 * Creates a new {@code MicrometerDocumentationObserver} that will record phase
+	 * durations and, if {@code sampleAllocations} is {@code true}, allocations in the
+	 * given {@code registry}.
+	 * @param registry the registry
+	 * @param sampleAllocations whether to sample allocations
+	 */
+	public MicrometerDocumentationObserver(MeterRegistry registry, boolean sampleAllocations) {
+		Assert.notNull(registry, "registry must not be null");
+		this.registry = registry;
+		this.allocationSamplingEnabled = sampleAllocations;
+	}
+
+	@Override
+	public boolean isAllocationSamplingEnabled() {
+		return this.allocationSamplingEnabled;
+	}
+
+	@Override
+	public void phaseCompleted(PhaseObservation observation) {
+		String phase = observation.getPhase().name().toLowerCase(Locale.ROOT);
+		String snippet = (observation.getSnippetName() != null) ? observation.getSnippetName() : NONE;
+		Timer.builder("restdocs.phase").description("Time taken by a phase of documenting an operation")
+				.tag("phase", phase).tag("snippet", snippet)
+				.register(this.registry).record(observation.getDurationNanos(), TimeUnit.NANOSECONDS);
+		if (observation.getAllocatedBytes() >= 0) {
+			DistributionSummary.builder("restdocs.phase.allocated")
+					.description("Bytes allocated by a phase of documenting an operation").baseUnit(BaseUnits.BYTES)
+					.tag("phase", phase).tag("snippet", snippet)
+					.register(this.registry).record(observation.getAllocatedBytes());
+		}
+	}
+
+}
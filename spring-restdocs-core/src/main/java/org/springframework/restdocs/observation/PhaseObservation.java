@@ -0,0 +1,125 @@
+/*
+ * Copyright 2014-2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.observation;
+
+import java.time.Duration;
+
+import org.springframework.restdocs.RestDocumentationContext;
+
+/**
+ * An observation of a completed {@link DocumentationPhase phase} of documenting an
+ * operation.
+ *
+ * @author agent (agent@local)
+ * @since 3.0.0
+ */
+public final class PhaseObservation {
+
+	private final DocumentationPhase phase;
+
+	private final String operationName;
+
+	private final String snippetName;
+
+	private final long durationNanos;
+
+	private final long allocatedBytes;
+
+	private final RestDocumentationContext context;
+
+	/**
+	 * Creates a new {@code PhaseObservation}.
+	 * @param phase the phase that was observed
+	 * @param operationName the name of the operation
+	 * @param snippetName the name of the snippet or {@code null} if the phase is not
+	 * specific to a snippet
+	 * @param durationNanos the duration of the phase in nanoseconds
+	 * @param allocatedBytes the bytes allocated during the phase or {@code -1} if
+	 * allocations were not sampled
+	 * @param context the documentation context or {@code null} if it is not available
+	 */
+	public PhaseObservation(DocumentationPhase phase, String operationName, String snippetName, long durationNanos,
+			long allocatedBytes, RestDocumentationContext context) {
+		this.phase = phase;
+		this.operationName = operationName;
+		this.snippetName = snippetName;
+		this.durationNanos = durationNanos;
+		this.allocatedBytes = allocatedBytes;
+		this.context = context;
+	}
+
+	/**
+	 * Returns the phase that was observed.
+	 * @return the phase
+	 */
+	public DocumentationPhase getPhase() {
+		return this.phase;
+	}
+
+	/**
+	 * Returns the name of the operation that was being documented.
+	 * @return the operation name
+	 */
+	public String getOperationName() {
+		return this.operationName;
+	}
+
+	/**
+	 * Returns the name of the snippet that was being produced, or {@code null} if the
+	 * phase is not specific to a snippet.
+	 * @return the snippet name or {@code null}
+	 */
+	public String getSnippetName() {
+		return this.snippetName;
+	}
+
+	/**
+	 * Returns the duration of the phase.
+	 * @return the duration
+	 */
+	public Duration getDuration() {
+		return Duration.ofNanos(this.durationNanos);
+	}
+
+	/**
+	 * Returns the duration of the phase in nanoseconds.
+	 * @return the duration in nanoseconds
+	 */
+	public long getDurationNanos() {
+		return this.durationNanos;
+	}
+
+	/**
+	 * Returns the number of bytes allocated by the documenting thread during the phase,
+	 * or {@code -1} if allocations were not sampled.
+	 * @return the allocated bytes or {@code -1}
+	 * @see DocumentationObserver#isAllocationSamplingEnabled()
+	 */
+	public long getAllocatedBytes() {
+		return this.allocatedBytes;
+	}
+
+	/**
+	 * Returns the context in which the operation was documented, or {@code null} if it
+	 * is not available.
+	 * @return the context or {@code null}
+	 */
+	public RestDocumentationContext getContext() {
+		return this.context;
+	}
+
+}
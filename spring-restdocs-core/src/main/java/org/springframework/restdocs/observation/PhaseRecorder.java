@@ -0,0 +1,148 @@
+/*
+ * Copyright 2014-2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.observation;
+
+import java.util.Map;
+
+import org.springframework.restdocs.RestDocumentationContext;
+import org.springframework.restdocs.operation.Operation;
+
+/**
+ * Records the duration and, optionally, the allocations of the phases of documenting an
+ * operation and notifies the configured {@link DocumentationObserver} as each phase
+ * completes. When no observer has been configured, recording is a no-op.
+ *
+ * @author agent (agent@local)
+ * @since 3.0.0
+ */
+public final class PhaseRecorder {
+
+	private static final Sample DISABLED_SAMPLE = new Sample(0, -1);
+
+	private static final PhaseRecorder DISABLED = new PhaseRecorder(null, null, null);
+
+	private final DocumentationObserver observer;
+
+	private final String operationName;
+
+	private final RestDocumentationContext context;
+
+	private final boolean sampleAllocations;
+
+	private PhaseRecorder(DocumentationObserver observer, String operationName, RestDocumentationContext context) {
+		this.observer = observer;
+		this.operationName = operationName;
+		this.context = context;
+		this.sampleAllocations = observer != null && observer.isAllocationSamplingEnabled();
+	}
+
+	/**
+	 * Returns a {@code PhaseRecorder} for the operation with the given
+	 * {@code operationName} that notifies the {@link DocumentationObserver} found in the
+	 * given {@code attributes}. If the attributes do not contain an observer, the
+	 * returned recorder does nothing.
+	 * @param attributes the operation's attributes or configuration
+	 * @param operationName the name of the operation
+	 * @return the recorder
+	 */
+	public static PhaseRecorder of(Map<String, Object> attributes, String operationName) {
+		DocumentationObserver observer = (DocumentationObserver) attributes
+				.get(DocumentationObserver.class.getName());
+		if (observer == null) {
+			return DISABLED;
+		}
+		return new PhaseRecorder(observer, operationName,
+				(RestDocumentationContext) attributes.get(RestDocumentationContext.class.getName()));
+	}
+
+	/**
+	 * Starts a phase.
+	 * @return the sample to pass to {@link #stop(Sample, DocumentationPhase, String)}
+	 * when the phase completes
+	 */
+	public Sample start() {
+		if (this.observer == null) {
+			return DISABLED_SAMPLE;
+		}
+		return new Sample(System.nanoTime(),
+				this.sampleAllocations ? ThreadAllocation.currentThreadAllocatedBytes() : -1);
+	}
+
+	/**
+	 * Stops the given {@code sample}, notifying the observer that the given
+	 * {@code phase} has completed.
+	 * @param sample the sample started at the beginning of the phase
+	 * @param phase the phase that has completed
+	 * @param snippetName the name of the snippet or {@code null} if the phase is not
+	 * specific to a snippet
+	 */
+	public void stop(Sample sample, DocumentationPhase phase, String snippetName) {
+		if (this.observer == null) {
+			return;
+		}
+		long durationNanos = System.nanoTime() - sample.startNanos;
+		long allocatedBytes = -1;
+		if (sample.startAllocatedBytes >= 0) {
+			long endAllocatedBytes = ThreadAllocation.currentThreadAllocatedBytes();
+			if (endAllocatedBytes >= 0) {
+				allocatedBytes = endAllocatedBytes - sample.startAllocatedBytes;
+			}
+		}
+		this.observer.phaseCompleted(new PhaseObservation(phase, this.operationName, snippetName, durationNanos,
+				allocatedBytes, this.context));
+	}
+
+	/**
+	 * Notifies the observer that the snippet with the given {@code snippetName} has been
+	 * produced using the given number of descriptors.
+	 * @param snippetName the name of the snippet
+	 * @param descriptorCount the number of descriptors
+	 */
+	public void snippetDocumented(String snippetName, int descriptorCount) {
+		if (this.observer != null) {
+			this.observer.snippetDocumented(
+					new SnippetObservation(this.operationName, snippetName, descriptorCount, this.context));
+		}
+	}
+
+	/**
+	 * Notifies the observer that the given {@code operation} has been documented.
+	 * @param operation the operation
+	 */
+	public void operationDocumented(Operation operation) {
+		if (this.observer != null) {
+			this.observer.operationDocumented(operation);
+		}
+	}
+
+	/**
+	 * A sample taken at the start of a phase.
+	 */
+	public static final class Sample {
+
+		private final long startNanos;
+
+		private final long startAllocatedBytes;
+
+		private Sample(long startNanos, long startAllocatedBytes) {
+			this.startNanos = startNanos;
+			this.startAllocatedBytes = startAllocatedBytes;
+		}
+
+	}
+
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2014-2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.observation;
+
+import org.springframework.restdocs.RestDocumentationContext;
+
+/**
+ * An observation of a snippet that has been produced while documenting an operation.
+ *
+ * @author agent (agent@local)
+ * @since 3.0.0
+ */
+public final class SnippetObservation {
+
+	private final String operationName;
+
+	private final String snippetName;
+
+	private final int descriptorCount;
+
+	private final RestDocumentationContext context;
+
+	/**
+	 * Creates a new {@code SnippetObservation}.
+	 * @param operationName the name of the operation
+	 * @param snippetName the name of the snippet
+	 * @param descriptorCount the number of descriptors used by the snippet
+	 * @param context the documentation context or {@code null} if it is not available
+	 */
+	public SnippetObservation(String operationName, String snippetName, int descriptorCount,
+			RestDocumentationContext context) {
+		this.operationName = operationName;
+		this.snippetName = snippetName;
+		this.descriptorCount = descriptorCount;
+		this.context = context;
+	}
+
+	/**
+	 * Returns the name of the operation that was documented.
+	 * @return the operation name
+	 */
+	public String getOperationName() {
+		return this.operationName;
+	}
+
+	/**
+	 * Returns the name of the snippet that was produced.
+	 * @return the snippet name
+	 */
+	public String getSnippetName() {
+		return this.snippetName;
+	}
+
+	/**
+	 * Returns the number of descriptors, such as field or link descriptors, that the
+	 * snippet used to document the operation.
+	 * @return the number of descriptors
+	 */
+	public int getDescriptorCount() {
+		return this.descriptorCount;
+	}
+
+	/**
+	 * Returns the context in which the operation was documented, or {@code null} if it
+	 * is not available.
+	 * @return the context or {@code null}
+	 */
+	public RestDocumentationContext getContext() {
+		return this.context;
+	}
+
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2014-2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.observation;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Access to the number of bytes that have been allocated by the current thread.
+ *
+ * @author agent (agent@local)
+ */
+final class ThreadAllocation {
+
+	private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN = getThreadMXBean();
+
+	private ThreadAllocation() {
+
+	}
+
+	/**
+	 * Returns the number of bytes that have been allocated by the current thread, or
+	 * {@code -1} if allocation measurement is not supported or is disabled.
+	 * @return the allocated bytes or {@code -1}
+	 */
+	static long currentThreadAllocatedBytes() {
+		if (THREAD_MX_BEAN == null) {
+			return -1;
+		}
+		try {
+			return THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
+		}
+		catch (UnsupportedOperationException ex) {
+			return -1;
+		}
+	}
+
+	private static com.sun.management.ThreadMXBean getThreadMXBean() {
+		try {
+			ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+			if (threadMXBean instanceof com.sun.management.ThreadMXBean) {
+				com.sun.management.ThreadMXBean sunThreadMXBean = (com.sun.management.ThreadMXBean) threadMXBean;
+				if (sunThreadMXBean.isThreadAllocatedMemorySupported()
+						&& sunThreadMXBean.isThreadAllocatedMemoryEnabled()) {
+					return sunThreadMXBean;
+				}
+			}
+		}
+		catch (LinkageError ex) {
+			// Continue
+		}
+		return null;
+	}
+
+}
@@ -0,0 +1,239 @@
+/*
+ * Copyright 2014-2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.observation;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.restdocs.RestDocumentationContext;
+
+/**
+ * A {@link DocumentationObserver} that aggregates the time spent in each phase, per
+ * snippet, and produces a plain-text summary.
+ * <p>
+ * The {@link #shared() shared} observer's summary is written to a file named
+ * {@code restdocs-timings.txt} alongside the snippets' output directory (typically
+ * {@code generated-snippets}) each time a test that is using
+ * {@link org.springframework.restdocs.ManualRestDocumentation} (directly or through
+ * {@link org.springframework.restdocs.JUnitRestDocumentation} or
+ * {@link org.springframework.restdocs.RestDocumentationExtension}) completes, so that,
+ * at the end of the run, it summarizes every operation that was documented.
+ *
+ * @author agent (agent@local)
+ * @since 3.0.0
+ */
+public class TimingSummaryObserver implements DocumentationObserver {
+
+	/**
+	 * The name of the file to which the summary is written.
+	 */
+	public static final String SUMMARY_FILE_NAME = "restdocs-timings.txt";
+
+	private static final TimingSummaryObserver sharedObserver = new TimingSummaryObserver();
+
+	private final Map<Key, Statistics> statistics = new ConcurrentHashMap<>();
+
+	private final AtomicBoolean modified = new AtomicBoolean();
+
+	private final boolean allocationSamplingEnabled;
+
+	/**
+	 * Creates a new {@code TimingSummaryObserver} that does not sample allocations.
+	 */
+	public TimingSummaryObserver() {
+		this(false);
+	}
+
+	/**
+	 * Creates a new {@code TimingSummaryObserver} that will sample allocations if
+	 * {@code sampleAllocations} is {@code true}.
+	 * @param sampleAllocations whether to sample allocations
+	 */
+	public TimingSummaryObserver(boolean sampleAllocations) {
+		this.allocationSamplingEnabled = sampleAllocations;
+	}
+
+	/**
+	 * Returns the shared observer whose summary is written each time a test completes.
+	 * The shared observer does not sample allocations.
+	 * @return the shared observer
+	 * @see #testCompleted(RestDocumentationContext)
+	 */
+	public static TimingSummaryObserver shared() {
+		return sharedObserver;
+	}
+
+	/**
+	 * Notification that a test using the given {@code context} has completed. If the
+	 * {@link #shared() shared} observer has received any observations since its summary
+	 * was last written, the summary is written alongside the context's output directory.
+	 * @param context the context of the test
+	 */
+	public static void testCompleted(RestDocumentationContext context) {
+		if (context != null && context.getOutputDirectory() != null) {
+			try {
+				sharedObserver.writeIfModified(context.getOutputDirectory());
+			}
+			catch (IOException ex) {
+				// Best effort so that documentation tests are unaffected
+			}
+		}
+	}
+
+	@Override
+	public boolean isAllocationSamplingEnabled() {
+		return this.allocationSamplingEnabled;
+	}
+
+	@Override
+	public void phaseCompleted(PhaseObservation observation) {
+		this.statistics.computeIfAbsent(new Key(observation.getPhase(), observation.getSnippetName()),
+				(key) -> new Statistics()).record(observation);
+		this.modified.set(true);
+	}
+
+	/**
+	 * Writes a summary of the observations received thus far to a file named
+	 * {@value #SUMMARY_FILE_NAME} alongside the given snippets' {@code outputDirectory}.
+	 * @param outputDirectory the snippets' output directory
+	 * @throws IOException if writing fails
+	 */
+	public void write(File outputDirectory) throws IOException {
+		File summaryFile = getSummaryFile(outputDirectory);
+		File parent = summaryFile.getParentFile();
+		if (parent != null && !parent.isDirectory() && !parent.mkdirs()) {
+			throw new IOException("Failed to create directory '" + parent + "'");
+		}
+		try (Writer writer = new OutputStreamWriter(new FileOutputStream(summaryFile), StandardCharsets.UTF_8)) {
+			writeSummary(writer);
+		}
+	}
+
+	private void writeIfModified(File outputDirectory) throws IOException {
+		if (this.modified.compareAndSet(true, false)) {
+			write(outputDirectory);
+		}
+	}
+
+	/**
+	 * Writes a summary of the observations received thus far to the given
+	 * {@code writer}. Each line of the summary describes a phase, or a phase of a
+	 * particular snippet, with the phases that took the most time in total listed first.
+	 * @param writer the writer to write to
+	 * @throws IOException if writing fails
+	 */
+	public void writeSummary(Writer writer) throws IOException {
+		List<Map.Entry<Key, Statistics>> entries = new ArrayList<>(this.statistics.entrySet());
+		entries.sort(Comparator.comparingLong((Map.Entry<Key, Statistics> entry) -> entry.getValue().totalNanos.sum())
+				.reversed());
+		PrintWriter printer = new PrintWriter(writer);
+		printer.printf(Locale.ROOT, "%-24s %-32s %8s %12s %12s %12s %16s%n", "Phase", "Snippet", "Count",
+				"Total (ms)", "Mean (ms)", "Max (ms)", "Allocated (KB)");
+		for (Map.Entry<Key, Statistics> entry : entries) {
+			Key key = entry.getKey();
+			Statistics statistics = entry.getValue();
+			long count = statistics.count.sum();
+			long totalNanos = statistics.totalNanos.sum();
+			long allocatedBytes = statistics.allocatedBytes.sum();
+			printer.printf(Locale.ROOT, "%-24s %-32s %8d %12.3f %12.3f %12.3f %16s%n", key.phase,
+					(key.snippetName != null) ? key.snippetName : "-", count, millis(totalNanos),
+					millis(totalNanos / count), millis(statistics.maxNanos.get()),
+					(statistics.allocationSamples.sum() > 0) ? String.valueOf(allocatedBytes / 1024) : "-");
+		}
+		printer.flush();
+	}
+
+	static File getSummaryFile(File outputDirectory) {
+		File parent = outputDirectory.getAbsoluteFile().getParentFile();
+		return (parent != null) ? new File(parent, SUMMARY_FILE_NAME) : new File(SUMMARY_FILE_NAME);
+	}
+
+	private static double millis(long nanos) {
+		return nanos / 1_000_000.0;
+	}
+
+	private static final class Key {
+
+		private final DocumentationPhase phase;
+
+		private final String snippetName;
+
+		private Key(DocumentationPhase phase, String snippetName) {
+			this.phase = phase;
+			this.snippetName = snippetName;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (obj == null || getClass() != obj.getClass()) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return this.phase == other.phase && Objects.equals(this.snippetName, other.snippetName);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(this.phase, this.snippetName);
+		}
+
+	}
+
+	private static final class Statistics {
+
+		private final LongAdder count = new LongAdder();
+
+		private final LongAdder totalNanos = new LongAdder();
+
+		private final AtomicLong maxNanos = new AtomicLong();
+
+		private final LongAdder allocatedBytes = new LongAdder();
+
+		private final LongAdder allocationSamples = new LongAdder();
+
+		private void record(PhaseObservation observation) {
+			long durationNanos = observation.getDurationNanos();
+			this.count.increment();
+			this.totalNanos.add(durationNanos);
+			this.maxNanos.accumulateAndGet(durationNanos, Math::max);
+			if (observation.getAllocatedBytes() >= 0) {
+				this.allocatedBytes.add(observation.getAllocatedBytes());
+				this.allocationSamples.increment();
+			}
+		}
+
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2014-2018 the original author or authors.
+ * Copyright 2014-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -66,6 +66,17 @@ public interface OperationRequest {
 	 */
 	Parameters getParameters();
 
+	/**
+	 * Returns the request's parameters that do not appear in the query string of its
+	 * {@link #getUri() URI}. The returned parameters should not be modified.
+	 * @return the unique parameters
+	 * @since 3.0.0
+	 * @see Parameters#getUniqueParameters(URI)
+	 */
+	default Parameters getUniqueParameters() {
+		return getParameters().getUniqueParameters(getUri());
+	}
+
 	/**
 	 * Returns the request's parts, provided that it is a multipart request. If not, then
 	 * an empty {@link Collection} is returned.
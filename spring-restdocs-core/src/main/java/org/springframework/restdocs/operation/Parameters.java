@@ -1,5 +1,5 @@
 /*
- * Copyright 2014-2019 the original author or authors.
+ * Copyright 2014-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,14 +16,12 @@
 
 package org.springframework.restdocs.operation;
 
-import java.io.UnsupportedEncodingException;
 import java.net.URI;
-import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 
 import org.springframework.util.LinkedMultiValueMap;
-import org.springframework.util.StringUtils;
 
 /**
  * The parameters received in a request.
@@ -33,6 +31,8 @@ import org.springframework.util.StringUtils;
 @SuppressWarnings("serial")
 public class Parameters extends LinkedMultiValueMap<String, String> {
 
+	private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+
 	/**
 	 * Converts the parameters to a query string suitable for use in a URI or the body of
 	 * a form-encoded request.
@@ -90,26 +90,45 @@ public class Parameters extends LinkedMultiValueMap<String, String> {
 	}
 
 	private static void append(StringBuilder sb, String key, String value) {
-		doAppend(sb, urlEncodeUTF8(key) + "=" + urlEncodeUTF8(value));
-	}
-
-	private static void doAppend(StringBuilder sb, String toAppend) {
 		if (sb.length() > 0) {
-			sb.append("&");
+			sb.append('&');
 		}
-		sb.append(toAppend);
+		appendUrlEncoded(sb, key);
+		sb.append('=');
+		appendUrlEncoded(sb, value);
 	}
 
-	private static String urlEncodeUTF8(String s) {
-		if (!StringUtils.hasLength(s)) {
-			return "";
+	private static void appendUrlEncoded(StringBuilder sb, String s) {
+		if (s == null) {
+			return;
 		}
-		try {
-			return URLEncoder.encode(s, "UTF-8");
-		}
-		catch (UnsupportedEncodingException ex) {
-			throw new IllegalStateException("Unable to URL encode " + s + " using UTF-8", ex);
+		int index = 0;
+		while (index < s.length()) {
+			char c = s.charAt(index);
+			if (isUnreserved(c)) {
+				sb.append(c);
+				index++;
+			}
+			else if (c == ' ') {
+				sb.append('+');
+				index++;
+			}
+			else {
+				int end = index + 1;
+				while (end < s.length() && !isUnreserved(s.charAt(end)) && s.charAt(end) != ' ') {
+					end++;
+				}
+				for (byte b : s.substring(index, end).getBytes(StandardCharsets.UTF_8)) {
+					sb.append('%').append(HEX_DIGITS[(b >> 4) & 0xF]).append(HEX_DIGITS[b & 0xF]);
+				}
+				index = end;
+			}
 		}
 	}
 
+	private static boolean isUnreserved(char c) {
+		return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '.' || c == '-'
+				|| c == '*' || c == '_';
+	}
+
 }
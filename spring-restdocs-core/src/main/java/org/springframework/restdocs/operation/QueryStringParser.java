@@ -1,5 +1,5 @@
 /*
- * Copyright 2014-2019 the original author or authors.
+ * Copyright 2014-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,12 +16,9 @@
 
 package org.springframework.restdocs.operation;
 
-import java.io.UnsupportedEncodingException;
+import java.io.ByteArrayOutputStream;
 import java.net.URI;
-import java.net.URLDecoder;
-import java.util.LinkedList;
-import java.util.List;
-import java.util.Scanner;
+import java.nio.charset.StandardCharsets;
 
 /**
  * A parser for the query string of a URI.
@@ -46,41 +43,87 @@ public class QueryStringParser {
 
 	private Parameters parse(String query) {
 		Parameters parameters = new Parameters();
-		try (Scanner scanner = new Scanner(query)) {
-			scanner.useDelimiter("&");
-			while (scanner.hasNext()) {
-				processParameter(scanner.next(), parameters);
+		int start = 0;
+		while (start < query.length()) {
+			int end = query.indexOf('&', start);
+			if (end == -1) {
+				end = query.length();
 			}
+			if (end > start) {
+				processParameter(query, start, end, parameters);
+			}
+			start = end + 1;
 		}
 		return parameters;
 	}
 
-	private void processParameter(String parameter, Parameters parameters) {
-		String[] components = parameter.split("=");
-		if (components.length > 0 && components.length < 3) {
-			if (components.length == 2) {
-				String name = components[0];
-				String value = components[1];
-				parameters.add(decode(name), decode(value));
-			}
-			else {
-				List<String> values = parameters.computeIfAbsent(components[0], (p) -> new LinkedList<String>());
-				values.add("");
+	private void processParameter(String query, int start, int end, Parameters parameters) {
+		int trimmedEnd = end;
+		while (trimmedEnd > start && query.charAt(trimmedEnd - 1) == '=') {
+			trimmedEnd--;
+		}
+		int separator = query.indexOf('=', start);
+		if (separator == -1 || separator >= trimmedEnd) {
+			if (trimmedEnd == start) {
+				throw malformedParameter(query, start, end);
 			}
+			parameters.add(decode(query, start, trimmedEnd), "");
 		}
 		else {
-			throw new IllegalArgumentException("The parameter '" + parameter + "' is malformed");
+			int nextSeparator = query.indexOf('=', separator + 1);
+			if (nextSeparator != -1 && nextSeparator < trimmedEnd) {
+				throw malformedParameter(query, start, end);
+			}
+			parameters.add(decode(query, start, separator), decode(query, separator + 1, trimmedEnd));
 		}
 	}
 
-	private String decode(String encoded) {
-		try {
-			return URLDecoder.decode(encoded, "UTF-8");
+	private IllegalArgumentException malformedParameter(String query, int start, int end) {
+		return new IllegalArgumentException("The parameter '" + query.substring(start, end) + "' is malformed");
+	}
+
+	private String decode(String encoded, int start, int end) {
+		int index = start;
+		while (index < end && encoded.charAt(index) != '%' && encoded.charAt(index) != '+') {
+			index++;
 		}
-		catch (UnsupportedEncodingException ex) {
-			throw new IllegalStateException("Unable to URL encode " + encoded + " using UTF-8", ex);
+		if (index == end) {
+			return encoded.substring(start, end);
 		}
+		StringBuilder decoded = new StringBuilder(end - start);
+		decoded.append(encoded, start, index);
+		ByteArrayOutputStream bytes = null;
+		while (index < end) {
+			char c = encoded.charAt(index);
+			if (c == '%') {
+				if (bytes == null) {
+					bytes = new ByteArrayOutputStream((end - index) / 3);
+				}
+				while (index < end && encoded.charAt(index) == '%') {
+					if (index + 2 >= end) {
+						throw new IllegalArgumentException(
+								"Incomplete escape sequence in '" + encoded.substring(start, end) + "'");
+					}
+					bytes.write((hexValue(encoded, index + 1) << 4) + hexValue(encoded, index + 2));
+					index += 3;
+				}
+				decoded.append(new String(bytes.toByteArray(), StandardCharsets.UTF_8));
+				bytes.reset();
+			}
+			else {
+				decoded.append((c == '+') ? ' ' : c);
+				index++;
+			}
+		}
+		return decoded.toString();
+	}
 
+	private int hexValue(String encoded, int index) {
+		int value = Character.digit(encoded.charAt(index), 16);
+		if (value == -1) {
+			throw new IllegalArgumentException("Illegal hex character in escape sequence in '" + encoded + "'");
+		}
+		return value;
 	}
 
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2014-2019 the original author or authors.
+ * Copyright 2014-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -24,7 +24,10 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 
 /**
- * Standard implementation of {@link OperationRequest}.
+ * Standard implementation of {@link OperationRequest}. The request's
+ * {@link #getUniqueParameters() unique parameters} are computed when they are first
+ * retrieved and are then reused, so the request's parameters should not be modified once
+ * the request has been created.
  *
  * @author Andy Wilkinson
  */
@@ -40,6 +43,8 @@ class StandardOperationRequest extends AbstractOperationMessage implements Opera
 
 	private Collection<RequestCookie> cookies;
 
+	private volatile Parameters uniqueParameters;
+
 	/**
 	 * Creates a new request with the given {@code uri} and {@code method}. The request
 	 * will have the given {@code headers}, {@code parameters}, {@code parts}, and
@@ -72,6 +77,16 @@ class StandardOperationRequest extends AbstractOperationMessage implements Opera
 		return this.parameters;
 	}
 
+	@Override
+	public Parameters getUniqueParameters() {
+		Parameters uniqueParameters = this.uniqueParameters;
+		if (uniqueParameters == null) {
+			uniqueParameters = new UnmodifiableParameters(this.parameters.getUniqueParameters(this.uri));
+			this.uniqueParameters = uniqueParameters;
+		}
+		return uniqueParameters;
+	}
+
 	@Override
 	public Collection<OperationRequestPart> getParts() {
 		return Collections.unmodifiableCollection(this.parts);
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2014-2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.operation;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.util.MultiValueMap;
+
+/**
+ * An unmodifiable view of {@link Parameters}. Any attempt to modify the parameters
+ * results in an {@link UnsupportedOperationException}.
+ *
+ * @author agent (agent@local)
+ */
+@SuppressWarnings("serial")
+final class UnmodifiableParameters extends Parameters {
+
+	private final Map<String, List<String>> view;
+
+	/**
+	 * Creates a new {@code UnmodifiableParameters} containing a copy of the given
+	 * {@code parameters}.
+	 * @param parameters the parameters to copy
+	 */
+	UnmodifiableParameters(Parameters parameters) {
+		Map<String, List<String>> copy = new LinkedHashMap<>();
+		for (Map.Entry<String, List<String>> parameter : parameters.entrySet()) {
+			copy.put(parameter.getKey(), Collections.unmodifiableList(new ArrayList<>(parameter.getValue())));
+		}
+		super.putAll(copy);
+		this.view = Collections.unmodifiableMap(copy);
+	}
+
+	@Override
+	public void add(String key, String value) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void addAll(String key, List<? extends String> values) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void addAll(MultiValueMap<String, String> values) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void set(String key, String value) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void setAll(Map<String, String> values) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public List<String> put(String key, List<String> value) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void putAll(Map<? extends String, ? extends List<String>> map) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public List<String> remove(Object key) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void clear() {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public Set<String> keySet() {
+		return this.view.keySet();
+	}
+
+	@Override
+	public Collection<List<String>> values() {
+		return this.view.values();
+	}
+
+	@Override
+	public Set<Map.Entry<String, List<String>>> entrySet() {
+		return this.view.entrySet();
+	}
+
+}
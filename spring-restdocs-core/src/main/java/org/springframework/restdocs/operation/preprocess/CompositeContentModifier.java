@@ -0,0 +1,111 @@
+/*
+ * Copyright 2014-2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.operation.preprocess;
+
+import java.nio.charset.Charset;
+import java.util.List;
+
+import org.springframework.http.MediaType;
+
+/**
+ * A {@link ContentModifier} that applies multiple {@link ContentModifier
+ * ContentModifiers} in turn. Consecutive {@link TextContentModifier
+ * TextContentModifiers} that use the same charset are applied to text that is decoded
+ * once and encoded once.
+ *
+ * @author agent (agent@local)
+ */
+class CompositeContentModifier implements ContentModifier {
+
+	private final List<ContentModifier> delegates;
+
+	/**
+	 * Creates a new {@code CompositeContentModifier} that will apply the given
+	 * {@code delegates} in order.
+	 * @param delegates the delegates
+	 */
+	CompositeContentModifier(List<ContentModifier> delegates) {
+		this.delegates = delegates;
+	}
+
+	@Override
+	public byte[] modifyContent(byte[] originalContent, MediaType contentType) {
+		DecodedContent content = new DecodedContent(originalContent);
+		for (ContentModifier delegate : this.delegates) {
+			if (delegate instanceof TextContentModifier) {
+				TextContentModifier textModifier = (TextContentModifier) delegate;
+				content.modifyText(textModifier, textModifier.getCharset(contentType));
+			}
+			else {
+				content.modifyBytes(delegate, contentType);
+			}
+		}
+		return content.getBytes();
+	}
+
+	/**
+	 * Content that is held as bytes and, while text modifications are being applied, as
+	 * decoded text.
+	 */
+	private static final class DecodedContent {
+
+		private byte[] bytes;
+
+		private Charset charset;
+
+		private String decoded;
+
+		private CharSequence text;
+
+		private DecodedContent(byte[] bytes) {
+			this.bytes = bytes;
+		}
+
+		private void modifyText(TextContentModifier modifier, Charset charset) {
+			if (this.text != null && !charset.equals(this.charset)) {
+				encode();
+			}
+			if (this.text == null) {
+				this.charset = charset;
+				this.decoded = new String(this.bytes, charset);
+				this.text = this.decoded;
+			}
+			this.text = modifier.modifyText(this.text);
+		}
+
+		private void modifyBytes(ContentModifier modifier, MediaType contentType) {
+			this.bytes = modifier.modifyContent(getBytes(), contentType);
+		}
+
+		private byte[] getBytes() {
+			if (this.text != null) {
+				encode();
+			}
+			return this.bytes;
+		}
+
+		private void encode() {
+			if (this.text != this.decoded) {
+				this.bytes = this.text.toString().getBytes(this.charset);
+			}
+			this.text = null;
+			this.decoded = null;
+		}
+
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2014-2015 the original author or authors.
+ * Copyright 2014-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,9 @@
 
 package org.springframework.restdocs.operation.preprocess;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.springframework.restdocs.operation.OperationRequest;
 import org.springframework.restdocs.operation.OperationRequestFactory;
 import org.springframework.restdocs.operation.OperationResponse;
@@ -58,4 +61,40 @@ public class ContentModifyingOperationPreprocessor implements OperationPreproces
 		return this.responseFactory.createFrom(response, modifiedContent);
 	}
 
+	/**
+	 * Fuses each run of consecutive {@code ContentModifyingOperationPreprocessors} in the
+	 * given {@code preprocessors} into a single preprocessor that applies their
+	 * {@link ContentModifier ContentModifiers} in turn. This avoids the creation of an
+	 * intermediate request or response for each modifier and allows consecutive
+	 * {@link TextContentModifier TextContentModifiers} to share decoded content.
+	 * @param preprocessors the preprocessors to fuse
+	 * @return the fused preprocessors
+	 */
+	static List<OperationPreprocessor> fuse(List<OperationPreprocessor> preprocessors) {
+		List<OperationPreprocessor> fused = new ArrayList<>(preprocessors.size());
+		List<ContentModifier> contentModifiers = new ArrayList<>();
+		for (OperationPreprocessor preprocessor : preprocessors) {
+			if (preprocessor.getClass() == ContentModifyingOperationPreprocessor.class) {
+				contentModifiers.add(((ContentModifyingOperationPreprocessor) preprocessor).contentModifier);
+			}
+			else {
+				addFused(contentModifiers, fused);
+				fused.add(preprocessor);
+			}
+		}
+		addFused(contentModifiers, fused);
+		return fused;
+	}
+
+	private static void addFused(List<ContentModifier> contentModifiers, List<OperationPreprocessor> fused) {
+		if (contentModifiers.size() == 1) {
+			fused.add(new ContentModifyingOperationPreprocessor(contentModifiers.get(0)));
+		}
+		else if (contentModifiers.size() > 1) {
+			fused.add(new ContentModifyingOperationPreprocessor(
+					new CompositeContentModifier(new ArrayList<>(contentModifiers))));
+		}
+		contentModifiers.clear();
+	}
+
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2014-2015 the original author or authors.
+ * Copyright 2014-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -36,12 +36,14 @@ class DelegatingOperationRequestPreprocessor implements OperationRequestPreproce
 	/**
 	 * Creates a new {@code DelegatingOperationRequestPreprocessor} that will delegate to
 	 * the given {@code delegates} by calling
-	 * {@link OperationPreprocessor#preprocess(OperationRequest)}.
+	 * {@link OperationPreprocessor#preprocess(OperationRequest)}. Consecutive
+	 * {@link ContentModifyingOperationPreprocessor ContentModifyingOperationPreprocessors}
+	 * are fused so that their content modifications are applied together.
 	 * @param delegates the delegates
 	 */
 	DelegatingOperationRequestPreprocessor(List<OperationPreprocessor> delegates) {
 		Assert.notNull(delegates, "delegates must be non-null");
-		this.delegates = delegates;
+		this.delegates = ContentModifyingOperationPreprocessor.fuse(delegates);
 	}
 
 	@Override
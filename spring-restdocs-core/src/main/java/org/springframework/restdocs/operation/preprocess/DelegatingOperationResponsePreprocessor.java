@@ -1,5 +1,5 @@
 /*
- * Copyright 2014-2015 the original author or authors.
+ * Copyright 2014-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -35,12 +35,14 @@ class DelegatingOperationResponsePreprocessor implements OperationResponsePrepro
 	/**
 	 * Creates a new {@code DelegatingOperationResponsePreprocessor} that will delegate to
 	 * the given {@code delegates} by calling
-	 * {@link OperationPreprocessor#preprocess(OperationResponse)}.
+	 * {@link OperationPreprocessor#preprocess(OperationResponse)}. Consecutive
+	 * {@link ContentModifyingOperationPreprocessor ContentModifyingOperationPreprocessors}
+	 * are fused so that their content modifications are applied together.
 	 * @param delegates the delegates
 	 */
 	DelegatingOperationResponsePreprocessor(List<OperationPreprocessor> delegates) {
 		Assert.notNull(delegates, "delegates must be non-null");
-		this.delegates = delegates;
+		this.delegates = ContentModifyingOperationPreprocessor.fuse(delegates);
 	}
 
 	@Override
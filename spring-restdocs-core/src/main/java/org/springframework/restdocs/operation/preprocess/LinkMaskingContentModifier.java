@@ -1,5 +1,5 @@
 /*
- * Copyright 2014-2019 the original author or authors.
+ * Copyright 2014-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,7 @@
 
 package org.springframework.restdocs.operation.preprocess;
 
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.regex.Pattern;
 
@@ -26,13 +27,13 @@ import org.springframework.http.MediaType;
  *
  * @author Andy Wilkinson
  */
-class LinkMaskingContentModifier implements ContentModifier {
+class LinkMaskingContentModifier implements TextContentModifier {
 
 	private static final String DEFAULT_MASK = "...";
 
 	private static final Pattern LINK_HREF = Pattern.compile("\"href\"\\s*:\\s*\"(.*?)\"", Pattern.DOTALL);
 
-	private final ContentModifier contentModifier;
+	private final TextContentModifier contentModifier;
 
 	LinkMaskingContentModifier() {
 		this(DEFAULT_MASK);
@@ -43,8 +44,13 @@ class LinkMaskingContentModifier implements ContentModifier {
 	}
 
 	@Override
-	public byte[] modifyContent(byte[] originalContent, MediaType contentType) {
-		return this.contentModifier.modifyContent(originalContent, contentType);
+	public Charset getCharset(MediaType contentType) {
+		return this.contentModifier.getCharset(contentType);
+	}
+
+	@Override
+	public CharSequence modifyText(CharSequence text) {
+		return this.contentModifier.modifyText(text);
 	}
 
 }
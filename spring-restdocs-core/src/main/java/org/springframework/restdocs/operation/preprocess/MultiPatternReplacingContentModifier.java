@@ -0,0 +1,226 @@
+/*
+ * Copyright 2014-2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.operation.preprocess;
+
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.http.MediaType;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link ContentModifier} that modifies the content by replacing occurrences of
+ * multiple regular expression {@link Pattern Patterns}. The patterns are combined into a
+ * single pattern so that all of the replacements are made in a single scan of the
+ * content. At any given position in the content, the first of the patterns that matches
+ * is replaced. As with {@link PatternReplacingContentModifier}, when a pattern contains
+ * a capturing group only the text matched by its first group is replaced. A pattern
+ * that contains a back reference, or that defines a named group with the same name as
+ * a group of another pattern, cannot be combined.
+ *
+ * @author agent (agent@local)
+ */
+class MultiPatternReplacingContentModifier implements TextContentModifier {
+
+	private final Pattern pattern;
+
+	private final int[] patternGroups;
+
+	private final int[] replacementGroups;
+
+	private final String[] replacements;
+
+	private final Charset fallbackCharset;
+
+	/**
+	 * Creates a new {@link MultiPatternReplacingContentModifier} that will replace
+	 * occurrences of each of the given {@code replacements} patterns with its
+	 * replacement. The patterns are considered in the map's iteration order. The content
+	 * is handled using the charset from its content type. When no content type is
+	 * specified the JVM's {@link Charset#defaultCharset() default charset is used}.
+	 * @param replacements the patterns and their replacements
+	 */
+	MultiPatternReplacingContentModifier(Map<Pattern, String> replacements) {
+		this(replacements, Charset.defaultCharset());
+	}
+
+	/**
+	 * Creates a new {@link MultiPatternReplacingContentModifier} that will replace
+	 * occurrences of each of the given {@code replacements} patterns with its
+	 * replacement. The patterns are considered in the map's iteration order. The content
+	 * is handled using the charset from its content type. When no content type is
+	 * specified the given {@code fallbackCharset} is used.
+	 * @param replacements the patterns and their replacements
+	 * @param fallbackCharset the charset to use as a fallback
+	 */
+	MultiPatternReplacingContentModifier(Map<Pattern, String> replacements, Charset fallbackCharset) {
+		Assert.notEmpty(replacements, "replacements must not be empty");
+		this.patternGroups = new int[replacements.size()];
+		this.replacementGroups = new int[replacements.size()];
+		this.replacements = new String[replacements.size()];
+		StringBuilder combined = new StringBuilder();
+		Set<String> groupNames = new HashSet<>();
+		int index = 0;
+		int group = 1;
+		for (Entry<Pattern, String> replacement : replacements.entrySet()) {
+			Pattern pattern = replacement.getKey();
+			if (index > 0) {
+				combined.append('|');
+			}
+			combined.append('(').append(toEmbeddable(pattern, groupNames)).append(')');
+			int groupCount = pattern.matcher("").groupCount();
+			this.patternGroups[index] = group;
+			this.replacementGroups[index] = (groupCount > 0) ? group + 1 : group;
+			this.replacements[index] = replacement.getValue();
+			group += groupCount + 1;
+			index++;
+		}
+		this.pattern = Pattern.compile(combined.toString());
+		this.fallbackCharset = fallbackCharset;
+	}
+
+	private static String toEmbeddable(Pattern pattern, Set<String> groupNames) {
+		int flags = pattern.flags();
+		Assert.isTrue((flags & Pattern.CANON_EQ) == 0,
+				() -> "Pattern '" + pattern + "' uses CANON_EQ and cannot be combined with other patterns");
+		if ((flags & Pattern.LITERAL) != 0) {
+			return Pattern.quote(pattern.pattern());
+		}
+		for (String groupName : getGroupNames(pattern)) {
+			Assert.isTrue(groupNames.add(groupName), () -> "Pattern '" + pattern + "' defines a group named '"
+					+ groupName + "' that is also defined by another pattern and cannot be combined with it");
+		}
+		String inlineFlags = getInlineFlags(flags);
+		if (inlineFlags.isEmpty()) {
+			return pattern.pattern();
+		}
+		String source = ((flags & Pattern.COMMENTS) != 0) ? pattern.pattern() + "\n" : pattern.pattern();
+		return "(?" + inlineFlags + ":" + source + ")";
+	}
+
+	// Returns the names of the pattern's named groups, skipping escaped characters,
+	// quoted sections, and character classes, and rejects any back references
+	private static List<String> getGroupNames(Pattern pattern) {
+		String regex = pattern.pattern();
+		List<String> groupNames = new ArrayList<>();
+		boolean quoted = false;
+		int characterClassDepth = 0;
+		int i = 0;
+		while (i < regex.length()) {
+			char c = regex.charAt(i);
+			if (quoted) {
+				quoted = !regex.startsWith("\\E", i);
+				i += quoted ? 1 : 2;
+			}
+			else if (c == '\\' && i + 1 < regex.length()) {
+				char escaped = regex.charAt(i + 1);
+				Assert.isTrue(!isBackReference(regex, i + 1), () -> "Pattern '" + pattern
+						+ "' contains a back reference and cannot be combined with other patterns");
+				quoted = escaped == 'Q';
+				i += 2;
+			}
+			else if (c == '[') {
+				characterClassDepth++;
+				i++;
+			}
+			else if (c == ']' && characterClassDepth > 0) {
+				characterClassDepth--;
+				i++;
+			}
+			else if (characterClassDepth == 0 && isNamedGroup(regex, i)) {
+				int end = regex.indexOf('>', i + 3);
+				groupNames.add(regex.substring(i + 3, end));
+				i = end + 1;
+			}
+			else {
+				i++;
+			}
+		}
+		return groupNames;
+	}
+
+	private static boolean isBackReference(String regex, int index) {
+		char c = regex.charAt(index);
+		return (c >= '1' && c <= '9') || (c == 'k' && regex.startsWith("<", index + 1));
+	}
+
+	private static boolean isNamedGroup(String regex, int index) {
+		return regex.startsWith("(?<", index) && index + 3 < regex.length()
+				&& Character.isLetter(regex.charAt(index + 3)) && regex.indexOf('>', index + 3) != -1;
+	}
+
+	private static String getInlineFlags(int flags) {
+		StringBuilder inlineFlags = new StringBuilder();
+		appendIfSet(inlineFlags, flags, Pattern.CASE_INSENSITIVE, 'i');
+		appendIfSet(inlineFlags, flags, Pattern.UNIX_LINES, 'd');
+		appendIfSet(inlineFlags, flags, Pattern.MULTILINE, 'm');
+		appendIfSet(inlineFlags, flags, Pattern.DOTALL, 's');
+		appendIfSet(inlineFlags, flags, Pattern.UNICODE_CASE, 'u');
+		appendIfSet(inlineFlags, flags, Pattern.COMMENTS, 'x');
+		appendIfSet(inlineFlags, flags, Pattern.UNICODE_CHARACTER_CLASS, 'U');
+		return inlineFlags.toString();
+	}
+
+	private static void appendIfSet(StringBuilder inlineFlags, int flags, int flag, char inlineFlag) {
+		if ((flags & flag) != 0) {
+			inlineFlags.append(inlineFlag);
+		}
+	}
+
+	@Override
+	public Charset getCharset(MediaType contentType) {
+		return (contentType != null && contentType.getCharset() != null) ? contentType.getCharset()
+				: this.fallbackCharset;
+	}
+
+	@Override
+	public CharSequence modifyText(CharSequence text) {
+		Matcher matcher = this.pattern.matcher(text);
+		if (!matcher.find()) {
+			return text;
+		}
+		StringBuilder builder = new StringBuilder(text.length());
+		int previous = 0;
+		do {
+			int index = getMatchingIndex(matcher);
+			int group = this.replacementGroups[index];
+			builder.append(text, previous, matcher.start(group));
+			builder.append(this.replacements[index]);
+			previous = matcher.end(group);
+		}
+		while (matcher.find());
+		builder.append(text, previous, text.length());
+		return builder;
+	}
+
+	private int getMatchingIndex(Matcher matcher) {
+		for (int i = 0; i < this.patternGroups.length; i++) {
+			if (matcher.start(this.patternGroups[i]) >= 0) {
+				return i;
+			}
+		}
+		throw new IllegalStateException("No pattern matched");
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2014-2016 the original author or authors.
+ * Copyright 2014-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -29,7 +29,7 @@ import org.springframework.http.MediaType;
  * @author Andy Wilkinson
  * @author Dewet Diener
  */
-class PatternReplacingContentModifier implements ContentModifier {
+class PatternReplacingContentModifier implements TextContentModifier {
 
 	private final Pattern pattern;
 
@@ -65,30 +65,33 @@ class PatternReplacingContentModifier implements ContentModifier {
 	}
 
 	@Override
-	public byte[] modifyContent(byte[] content, MediaType contentType) {
-		Charset charset = (contentType != null && contentType.getCharset() != null) ? contentType.getCharset()
+	public Charset getCharset(MediaType contentType) {
+		return (contentType != null && contentType.getCharset() != null) ? contentType.getCharset()
 				: this.fallbackCharset;
-		String original = new String(content, charset);
-		Matcher matcher = this.pattern.matcher(original);
-		StringBuilder builder = new StringBuilder();
+	}
+
+	@Override
+	public CharSequence modifyText(CharSequence text) {
+		Matcher matcher = this.pattern.matcher(text);
+		if (!matcher.find()) {
+			return text;
+		}
+		StringBuilder builder = new StringBuilder(text.length());
 		int previous = 0;
-		while (matcher.find()) {
-			String prefix;
+		do {
 			if (matcher.groupCount() > 0) {
-				prefix = original.substring(previous, matcher.start(1));
+				builder.append(text, previous, matcher.start(1));
 				previous = matcher.end(1);
 			}
 			else {
-				prefix = original.substring(previous, matcher.start());
+				builder.append(text, previous, matcher.start());
 				previous = matcher.end();
 			}
-			builder.append(prefix);
 			builder.append(this.replacement);
 		}
-		if (previous < original.length()) {
-			builder.append(original.substring(previous));
-		}
-		return builder.toString().getBytes(charset);
+		while (matcher.find());
+		builder.append(text, previous, text.length());
+		return builder;
 	}
 
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2014-2019 the original author or authors.
+ * Copyright 2014-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,6 +17,7 @@
 package org.springframework.restdocs.operation.preprocess;
 
 import java.util.Arrays;
+import java.util.Map;
 import java.util.regex.Pattern;
 
 import org.springframework.restdocs.operation.Operation;
@@ -67,6 +68,35 @@ public final class Preprocessors {
 		return new ContentModifyingOperationPreprocessor(new PrettyPrintingContentModifier());
 	}
 
+	/**
+	 * Returns an {@code OperationPreprocessor} that will truncate the content of the
+	 * request or response. JSON arrays are limited to their first {@code maxElements}
+	 * elements and XML elements are limited to their first {@code maxElements} child
+	 * elements. Content that has been removed is replaced with an elision marker.
+	 * @param maxElements the maximum number of elements
+	 * @return the preprocessor
+	 * @since 3.0.0
+	 */
+	public static OperationPreprocessor truncateContent(int maxElements) {
+		return new ContentModifyingOperationPreprocessor(new TruncatingContentModifier(maxElements));
+	}
+
+	/**
+	 * Returns an {@code OperationPreprocessor} that will truncate the content of the
+	 * request or response. JSON arrays are limited to their first {@code maxElements}
+	 * elements and XML elements are limited to their first {@code maxElements} child
+	 * elements. JSON string values and XML text that are longer than
+	 * {@code maxStringLength} are shortened. Content that has been removed is replaced
+	 * with an elision marker.
+	 * @param maxElements the maximum number of elements
+	 * @param maxStringLength the maximum length of a string value
+	 * @return the preprocessor
+	 * @since 3.0.0
+	 */
+	public static OperationPreprocessor truncateContent(int maxElements, int maxStringLength) {
+		return new ContentModifyingOperationPreprocessor(new TruncatingContentModifier(maxElements, maxStringLength));
+	}
+
 	/**
 	 * Returns an {@code OperationPreprocessor} that will remove any header from the
 	 * request or response with a name that is equal to one of the given
@@ -122,6 +152,21 @@ public final class Preprocessors {
 		return new ContentModifyingOperationPreprocessor(new PatternReplacingContentModifier(pattern, replacement));
 	}
 
+	/**
+	 * Returns an {@code OperationPreprocessor} that will modify the content of the
+	 * request or response by replacing occurrences of each of the given
+	 * {@code replacements} patterns with its replacement. Unlike chaining multiple
+	 * {@link #replacePattern(Pattern, String)} preprocessors, the patterns are combined
+	 * and the content is scanned once. At any position in the content, the first
+	 * pattern, in the map's iteration order, that matches is replaced.
+	 * @param replacements the patterns and their replacements
+	 * @return the preprocessor
+	 * @since 3.0.0
+	 */
+	public static OperationPreprocessor replacePatterns(Map<Pattern, String> replacements) {
+		return new ContentModifyingOperationPreprocessor(new MultiPatternReplacingContentModifier(replacements));
+	}
+
 	/**
 	 * Returns a {@code ParametersModifyingOperationPreprocessor} that can then be
 	 * configured to modify the parameters of the request.
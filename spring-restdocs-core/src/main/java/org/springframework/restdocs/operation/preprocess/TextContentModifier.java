@@ -0,0 +1,58 @@
+/*
+ * Copyright 2014-2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.operation.preprocess;
+
+import java.nio.charset.Charset;
+
+import org.springframework.http.MediaType;
+
+/**
+ * A {@link ContentModifier} that modifies content that has been decoded as text.
+ * Consecutive {@code TextContentModifiers} that use the same charset can be applied to
+ * the same decoded text, avoiding the need to decode and encode the content for each of
+ * them.
+ *
+ * @author agent (agent@local)
+ * @see CompositeContentModifier
+ */
+interface TextContentModifier extends ContentModifier {
+
+	/**
+	 * Returns the charset that should be used to decode and encode content of the given
+	 * {@code contentType}.
+	 * @param contentType the type of the content, may be {@code null}
+	 * @return the charset
+	 */
+	Charset getCharset(MediaType contentType);
+
+	/**
+	 * Returns modified text based on the given {@code text}. The given {@code text}
+	 * should be returned when no modification is required.
+	 * @param text the text to modify
+	 * @return the modified text
+	 */
+	CharSequence modifyText(CharSequence text);
+
+	@Override
+	default byte[] modifyContent(byte[] originalContent, MediaType contentType) {
+		Charset charset = getCharset(contentType);
+		String original = new String(originalContent, charset);
+		CharSequence modified = modifyText(original);
+		return (modified != original) ? modified.toString().getBytes(charset) : originalContent;
+	}
+
+}
@@ -0,0 +1,303 @@
+/*
+ * Copyright 2014-2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.operation.preprocess;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+
+import javax.xml.stream.XMLEventFactory;
+import javax.xml.stream.XMLEventReader;
+import javax.xml.stream.XMLEventWriter;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.events.Characters;
+import javax.xml.stream.events.StartDocument;
+import javax.xml.stream.events.XMLEvent;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import org.springframework.http.MediaType;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link ContentModifier} that truncates the content so that large payloads can be
+ * documented without producing unwieldy snippets. JSON arrays are limited to their first
+ * {@code maxElements} elements, XML elements are limited to their first
+ * {@code maxElements} child elements, and string values and text that are longer than
+ * {@code maxStringLength} are truncated. Truncated content is followed by an elision
+ * marker. The content is truncated in a single streaming pass without building a tree
+ * of the whole payload.
+ *
+ * @author agent (agent@local)
+ */
+class TruncatingContentModifier implements ContentModifier {
+
+	private static final String ELISION = "...";
+
+	private final List<Truncator> truncators;
+
+	/**
+	 * Creates a new {@code TruncatingContentModifier} that will limit JSON arrays and
+	 * XML child elements to the given {@code maxElements}. String values are not
+	 * truncated.
+	 * @param maxElements the maximum number of elements
+	 */
+	TruncatingContentModifier(int maxElements) {
+		this(maxElements, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Creates a new {@code TruncatingContentModifier} that will limit JSON arrays and
+	 * XML child elements to the given {@code maxElements} and string values and text to
+	 * the given {@code maxStringLength}.
+	 * @param maxElements the maximum number of elements
+	 * @param maxStringLength the maximum length of a string value
+	 */
+	TruncatingContentModifier(int maxElements, int maxStringLength) {
+		Assert.isTrue(maxElements >= 0, "maxElements must not be negative");
+		Assert.isTrue(maxStringLength >= 0, "maxStringLength must not be negative");
+		this.truncators = Collections.unmodifiableList(Arrays.asList(
+				new JsonTruncator(maxElements, maxStringLength), new XmlTruncator(maxElements, maxStringLength)));
+	}
+
+	@Override
+	public byte[] modifyContent(byte[] originalContent, MediaType contentType) {
+		if (originalContent.length > 0) {
+			for (Truncator truncator : this.truncators) {
+				try {
+					return truncator.truncate(originalContent);
+				}
+				catch (Exception ex) {
+					// Continue
+				}
+			}
+		}
+		return originalContent;
+	}
+
+	private static String truncate(String text, int maxLength) {
+		return (text.length() > maxLength) ? text.substring(0, maxLength) + ELISION : text;
+	}
+
+	private interface Truncator {
+
+		byte[] truncate(byte[] content) throws Exception;
+
+	}
+
+	private static final class JsonTruncator implements Truncator {
+
+		private final JsonFactory jsonFactory = new JsonFactory();
+
+		private final int maxElements;
+
+		private final int maxStringLength;
+
+		private JsonTruncator(int maxElements, int maxStringLength) {
+			this.maxElements = maxElements;
+			this.maxStringLength = maxStringLength;
+		}
+
+		@Override
+		public byte[] truncate(byte[] original) throws IOException {
+			ByteArrayOutputStream truncated = new ByteArrayOutputStream();
+			try (JsonParser parser = this.jsonFactory.createParser(original);
+					JsonGenerator generator = this.jsonFactory.createGenerator(truncated)) {
+				if (parser.nextToken() == null) {
+					throw new IOException("Content is not JSON");
+				}
+				copyValue(parser, generator);
+				if (parser.nextToken() != null) {
+					throw new IOException("Unexpected trailing content");
+				}
+			}
+			return truncated.toByteArray();
+		}
+
+		private void copyValue(JsonParser parser, JsonGenerator generator) throws IOException {
+			JsonToken token = parser.currentToken();
+			if (token == JsonToken.START_ARRAY) {
+				copyArray(parser, generator);
+			}
+			else if (token == JsonToken.START_OBJECT) {
+				copyObject(parser, generator);
+			}
+			else if (token == JsonToken.VALUE_STRING) {
+				generator.writeString(TruncatingContentModifier.truncate(parser.getText(), this.maxStringLength));
+			}
+			else {
+				generator.copyCurrentEvent(parser);
+			}
+		}
+
+		private void copyArray(JsonParser parser, JsonGenerator generator) throws IOException {
+			generator.writeStartArray();
+			int elements = 0;
+			while (parser.nextToken() != JsonToken.END_ARRAY) {
+				if (elements < this.maxElements) {
+					copyValue(parser, generator);
+				}
+				else {
+					parser.skipChildren();
+				}
+				elements++;
+			}
+			if (elements > this.maxElements) {
+				generator.writeString(ELISION);
+			}
+			generator.writeEndArray();
+		}
+
+		private void copyObject(JsonParser parser, JsonGenerator generator) throws IOException {
+			generator.writeStartObject();
+			while (parser.nextToken() != JsonToken.END_OBJECT) {
+				generator.writeFieldName(parser.currentName());
+				parser.nextToken();
+				copyValue(parser, generator);
+			}
+			generator.writeEndObject();
+		}
+
+	}
+
+	private static final class XmlTruncator implements Truncator {
+
+		private final XMLInputFactory inputFactory = createInputFactory();
+
+		private final XMLOutputFactory outputFactory = XMLOutputFactory.newInstance();
+
+		private final XMLEventFactory eventFactory = XMLEventFactory.newInstance();
+
+		private final int maxElements;
+
+		private final int maxStringLength;
+
+		private XmlTruncator(int maxElements, int maxStringLength) {
+			this.maxElements = maxElements;
+			this.maxStringLength = maxStringLength;
+		}
+
+		private static XMLInputFactory createInputFactory() {
+			XMLInputFactory inputFactory = XMLInputFactory.newInstance();
+			inputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+			inputFactory.setProperty(XMLInputFactory.IS_REPLACING_ENTITY_REFERENCES, false);
+			inputFactory.setProperty(XMLInputFactory.IS_COALESCING, true);
+			return inputFactory;
+		}
+
+		@Override
+		public byte[] truncate(byte[] original) throws XMLStreamException {
+			XMLEventReader reader = this.inputFactory.createXMLEventReader(new ByteArrayInputStream(original));
+			try {
+				ByteArrayOutputStream truncated = new ByteArrayOutputStream();
+				XMLEventWriter writer = this.outputFactory.createXMLEventWriter(truncated, getEncoding(reader));
+				copy(reader, writer);
+				writer.close();
+				return truncated.toByteArray();
+			}
+			finally {
+				reader.close();
+			}
+		}
+
+		private String getEncoding(XMLEventReader reader) throws XMLStreamException {
+			XMLEvent first = reader.peek();
+			if (first != null && first.isStartDocument() && ((StartDocument) first).encodingSet()) {
+				return ((StartDocument) first).getCharacterEncodingScheme();
+			}
+			return "UTF-8";
+		}
+
+		private void copy(XMLEventReader reader, XMLEventWriter writer) throws XMLStreamException {
+			Deque<ChildElements> open = new ArrayDeque<>();
+			boolean rootSeen = false;
+			while (reader.hasNext()) {
+				XMLEvent event = reader.nextEvent();
+				ChildElements siblings = open.peek();
+				if (event.isStartElement()) {
+					if (siblings == null) {
+						rootSeen = true;
+					}
+					else if (siblings.count++ >= this.maxElements) {
+						skipElement(reader);
+						continue;
+					}
+					writer.add(event);
+					open.push(new ChildElements());
+				}
+				else if (event.isEndElement()) {
+					if (open.pop().count > this.maxElements) {
+						writer.add(this.eventFactory.createComment(" " + ELISION + " "));
+					}
+					writer.add(event);
+				}
+				else if (event.isCharacters()) {
+					if (siblings == null || siblings.count <= this.maxElements) {
+						writer.add(truncate(event.asCharacters()));
+					}
+				}
+				else {
+					writer.add(event);
+				}
+			}
+			if (!rootSeen) {
+				throw new XMLStreamException("Content is not XML");
+			}
+		}
+
+		private XMLEvent truncate(Characters characters) {
+			String data = characters.getData();
+			if (characters.isWhiteSpace() || data.length() <= this.maxStringLength) {
+				return characters;
+			}
+			String truncated = TruncatingContentModifier.truncate(data, this.maxStringLength);
+			return characters.isCData() ? this.eventFactory.createCData(truncated)
+					: this.eventFactory.createCharacters(truncated);
+		}
+
+		private void skipElement(XMLEventReader reader) throws XMLStreamException {
+			int depth = 1;
+			while (depth > 0) {
+				XMLEvent event = reader.nextEvent();
+				if (event.isStartElement()) {
+					depth++;
+				}
+				else if (event.isEndElement()) {
+					depth--;
+				}
+			}
+		}
+
+		private static final class ChildElements {
+
+			private int count;
+
+		}
+
+	}
+
+}
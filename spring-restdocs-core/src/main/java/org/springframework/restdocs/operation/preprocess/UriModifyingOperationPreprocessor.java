@@ -1,5 +1,5 @@
 /*
- * Copyright 2014-2019 the original author or authors.
+ * Copyright 2014-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,6 +17,7 @@
 package org.springframework.restdocs.operation.preprocess;
 
 import java.net.URI;
+import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -55,10 +56,11 @@ import org.springframework.web.util.UriComponentsBuilder;
  */
 public class UriModifyingOperationPreprocessor implements OperationPreprocessor {
 
-	private final UriModifyingContentModifier contentModifier = new UriModifyingContentModifier();
+	private final OperationRequestFactory requestFactory = new OperationRequestFactory();
+
+	private final OperationResponseFactory responseFactory = new OperationResponseFactory();
 
-	private final OperationPreprocessor contentModifyingDelegate = new ContentModifyingOperationPreprocessor(
-			this.contentModifier);
+	private final UriModifyingContentModifier contentModifier = new UriModifyingContentModifier();
 
 	private String scheme;
 
@@ -134,15 +136,18 @@ public class UriModifyingOperationPreprocessor implements OperationPreprocessor
 		HttpHeaders modifiedHeaders = modify(request.getHeaders());
 		modifiedHeaders.set(HttpHeaders.HOST,
 				modifiedUri.getHost() + ((modifiedUri.getPort() != -1) ? ":" + modifiedUri.getPort() : ""));
-		return this.contentModifyingDelegate.preprocess(new OperationRequestFactory().create(
-				uriBuilder.build(true).toUri(), request.getMethod(), request.getContent(), modifiedHeaders,
-				request.getParameters(), modify(request.getParts()), request.getCookies()));
+		byte[] modifiedContent = this.contentModifier.modifyContent(request.getContent(),
+				modifiedHeaders.getContentType());
+		return this.requestFactory.create(modifiedUri, request.getMethod(), modifiedContent, modifiedHeaders,
+				request.getParameters(), modify(request.getParts()), request.getCookies());
 	}
 
 	@Override
 	public OperationResponse preprocess(OperationResponse response) {
-		return this.contentModifyingDelegate.preprocess(new OperationResponseFactory().create(response.getStatusCode(),
-				modify(response.getHeaders()), response.getContent()));
+		HttpHeaders modifiedHeaders = modify(response.getHeaders());
+		byte[] modifiedContent = this.contentModifier.modifyContent(response.getContent(),
+				modifiedHeaders.getContentType());
+		return this.responseFactory.create(response.getStatusCode(), modifiedHeaders, modifiedContent);
 	}
 
 	private HttpHeaders modify(HttpHeaders headers) {
@@ -170,60 +175,69 @@ public class UriModifyingOperationPreprocessor implements OperationPreprocessor
 
 		private static final Pattern SCHEME_HOST_PORT_PATTERN = Pattern.compile("(http[s]?)://([^/:#?]+)(:[0-9]+)?");
 
-		private String scheme;
+		private static final List<MediaType> BINARY_MEDIA_TYPES = Arrays.asList(new MediaType("image", "*"),
+				new MediaType("audio", "*"), new MediaType("video", "*"), new MediaType("font", "*"),
+				MediaType.APPLICATION_OCTET_STREAM, MediaType.APPLICATION_PDF, new MediaType("application", "zip"),
+				new MediaType("application", "gzip"));
 
-		private String host;
-
-		private String port;
+		private final String[] replacements = new String[3];
 
 		private void setScheme(String scheme) {
-			this.scheme = scheme;
+			this.replacements[0] = scheme;
 		}
 
 		private void setHost(String host) {
-			this.host = host;
+			this.replacements[1] = host;
 		}
 
 		private void setPort(String port) {
-			this.port = port;
+			this.replacements[2] = StringUtils.hasText(port) ? ":" + port : port;
 		}
 
 		@Override
 		public byte[] modifyContent(byte[] content, MediaType contentType) {
-			String input;
-			if (contentType != null && contentType.getCharset() != null) {
-				input = new String(content, contentType.getCharset());
-			}
-			else {
-				input = new String(content);
+			if (content.length == 0 || isBinary(contentType)) {
+				return content;
 			}
+			Charset charset = (contentType != null && contentType.getCharset() != null) ? contentType.getCharset()
+					: Charset.defaultCharset();
+			String input = new String(content, charset);
+			String modified = modify(input);
+			return (modified != input) ? modified.getBytes(charset) : content;
+		}
 
-			return modify(input).getBytes();
+		private boolean isBinary(MediaType contentType) {
+			if (contentType != null) {
+				for (MediaType binaryMediaType : BINARY_MEDIA_TYPES) {
+					if (binaryMediaType.includes(contentType)) {
+						return true;
+					}
+				}
+			}
+			return false;
 		}
 
 		private String modify(String input) {
-			List<String> replacements = Arrays.asList(this.scheme, this.host,
-					StringUtils.hasText(this.port) ? ":" + this.port : this.port);
-
-			int previous = 0;
-
+			if (!input.contains("http")) {
+				return input;
+			}
 			Matcher matcher = SCHEME_HOST_PORT_PATTERN.matcher(input);
-			StringBuilder builder = new StringBuilder();
-			while (matcher.find()) {
+			if (!matcher.find()) {
+				return input;
+			}
+			StringBuilder builder = new StringBuilder(input.length());
+			int previous = 0;
+			do {
 				for (int i = 1; i <= matcher.groupCount(); i++) {
 					if (matcher.start(i) >= 0) {
-						builder.append(input.substring(previous, matcher.start(i)));
-					}
-					if (matcher.start(i) >= 0) {
+						builder.append(input, previous, matcher.start(i));
 						previous = matcher.end(i);
 					}
-					builder.append(getReplacement(matcher.group(i), replacements.get(i - 1)));
+					builder.append(getReplacement(matcher.group(i), this.replacements[i - 1]));
 				}
 			}
-
-			if (previous < input.length()) {
-				builder.append(input.substring(previous));
-			}
+			while (matcher.find());
+			builder.append(input, previous, input.length());
 			return builder.toString();
 		}
 
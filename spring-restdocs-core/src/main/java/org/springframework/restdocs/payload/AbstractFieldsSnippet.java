@@ -1,5 +1,5 @@
 /*
- * Copyright 2014-2019 the original author or authors.
+ * Copyright 2014-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -23,6 +23,8 @@ import java.util.List;
 import java.util.Map;
 
 import org.springframework.http.MediaType;
+import org.springframework.restdocs.observation.DocumentationEvent;
+import org.springframework.restdocs.observation.DocumentationEvents;
 import org.springframework.restdocs.operation.Operation;
 import org.springframework.restdocs.snippet.Attributes;
 import org.springframework.restdocs.snippet.Attributes.Attribute;
@@ -154,8 +156,10 @@ public abstract class AbstractFieldsSnippet extends TemplatedSnippet {
 			content = verifyContent(
 					this.subsectionExtractor.extractSubsection(content, contentType, this.fieldDescriptors));
 		}
+		DocumentationEvent event = DocumentationEvents.contentParsing();
 		ContentHandler contentHandler = ContentHandler.forContentWithDescriptors(content, contentType,
 				this.fieldDescriptors);
+		event.complete(operation.getName(), getSnippetName(), content.length, contentType);
 
 		validateFieldDocumentation(contentHandler);
 
@@ -236,6 +240,11 @@ public abstract class AbstractFieldsSnippet extends TemplatedSnippet {
 	 */
 	protected abstract byte[] getContent(Operation operation) throws IOException;
 
+	@Override
+	protected int getDescriptorCount() {
+		return this.fieldDescriptors.size();
+	}
+
 	/**
 	 * Returns the list of {@link FieldDescriptor FieldDescriptors} that will be used to
 	 * generate the documentation.
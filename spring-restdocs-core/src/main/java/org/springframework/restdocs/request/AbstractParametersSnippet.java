@@ -126,6 +126,11 @@ public abstract class AbstractParametersSnippet extends TemplatedSnippet {
 	 */
 	protected abstract void verificationFailed(Set<String> undocumentedParameters, Set<String> missingParameters);
 
+	@Override
+	protected int getDescriptorCount() {
+		return this.descriptorsByName.size();
+	}
+
 	/**
 	 * Returns a {@code Map} of {@link ParameterDescriptor ParameterDescriptors} that will
 	 * be used to generate the documentation key by their
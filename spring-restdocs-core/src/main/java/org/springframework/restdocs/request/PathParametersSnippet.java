@@ -1,5 +1,5 @@
 /*
- * Copyright 2014-2020 the original author or authors.
+ * Copyright 2014-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,8 +22,6 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import org.springframework.restdocs.generate.RestDocumentationGenerator;
 import org.springframework.restdocs.operation.Operation;
@@ -40,8 +38,6 @@ import org.springframework.util.Assert;
  */
 public class PathParametersSnippet extends AbstractParametersSnippet {
 
-	private static final Pattern NAMES_PATTERN = Pattern.compile("\\{([^/]+?)\\}");
-
 	/**
 	 * Creates a new {@code PathParametersSnippet} that will document the request's path
 	 * parameters using the given {@code descriptors}. Undocumented parameters will
@@ -96,41 +92,25 @@ public class PathParametersSnippet extends AbstractParametersSnippet {
 	@Override
 	protected Map<String, Object> createModel(Operation operation) {
 		Map<String, Object> model = super.createModel(operation);
-		model.put("path", removeQueryStringIfPresent(extractUrlTemplate(operation)));
+		model.put("path", extractUrlTemplate(operation).getPath());
 		return model;
 	}
 
-	private String removeQueryStringIfPresent(String urlTemplate) {
-		int index = urlTemplate.indexOf('?');
-		if (index == -1) {
-			return urlTemplate;
-		}
-		return urlTemplate.substring(0, index);
-	}
-
 	@Override
 	protected Set<String> extractActualParameters(Operation operation) {
-		String urlTemplate = removeQueryStringIfPresent(extractUrlTemplate(operation));
-		Matcher matcher = NAMES_PATTERN.matcher(urlTemplate);
 		Set<String> actualParameters = new HashSet<>();
-		while (matcher.find()) {
-			String match = matcher.group(1);
-			actualParameters.add(getParameterName(match));
+		for (String name : extractUrlTemplate(operation).getParameterNames()) {
+			actualParameters.add(name);
 		}
 		return actualParameters;
 	}
 
-	private String extractUrlTemplate(Operation operation) {
+	private UrlTemplate extractUrlTemplate(Operation operation) {
 		String urlTemplate = (String) operation.getAttributes()
 				.get(RestDocumentationGenerator.ATTRIBUTE_NAME_URL_TEMPLATE);
 		Assert.notNull(urlTemplate, "urlTemplate not found. If you are using MockMvc did "
 				+ "you use RestDocumentationRequestBuilders to build the request?");
-		return urlTemplate;
-	}
-
-	private static String getParameterName(String match) {
-		int colonIndex = match.indexOf(':');
-		return (colonIndex != -1) ? match.substring(0, colonIndex) : match;
+		return UrlTemplate.of(urlTemplate);
 	}
 
 	@Override
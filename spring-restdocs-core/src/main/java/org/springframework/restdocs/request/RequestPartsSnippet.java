@@ -1,5 +1,5 @@
 /*
- * Copyright 2014-2019 the original author or authors.
+ * Copyright 2014-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -141,6 +141,11 @@ public class RequestPartsSnippet extends TemplatedSnippet {
 		return model;
 	}
 
+	@Override
+	protected int getDescriptorCount() {
+		return this.descriptorsByName.size();
+	}
+
 	private void verifyRequestPartDescriptors(Operation operation) {
 		Set<String> actualRequestParts = extractActualRequestParts(operation);
 		Set<String> expectedRequestParts = new HashSet<>();
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2014-2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.request;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+/**
+ * A compiled representation of a URL template, such as {@code /users/{id}/orders}.
+ * Templates are parsed once and cached by their source so that they can be reused when
+ * documenting multiple operations with the same URL template.
+ *
+ * @author agent (agent@local)
+ */
+final class UrlTemplate {
+
+	private static final Pattern NAMES_PATTERN = Pattern.compile("\\{([^/]+?)\\}");
+
+	private static final Map<String, UrlTemplate> cache = new ConcurrentReferenceHashMap<>();
+
+	private final String path;
+
+	private final Set<String> parameterNames;
+
+	private UrlTemplate(String template) {
+		this.path = removeQueryStringIfPresent(template);
+		Set<String> parameterNames = new LinkedHashSet<>();
+		Matcher matcher = NAMES_PATTERN.matcher(this.path);
+		while (matcher.find()) {
+			String match = matcher.group(1);
+			int colonIndex = match.indexOf(':');
+			parameterNames.add((colonIndex != -1) ? match.substring(0, colonIndex) : match);
+		}
+		this.parameterNames = Collections.unmodifiableSet(parameterNames);
+	}
+
+	/**
+	 * Returns the {@code UrlTemplate} for the given {@code template}, parsing it if it
+	 * has not been parsed before.
+	 * @param template the template
+	 * @return the url template
+	 */
+	static UrlTemplate of(String template) {
+		return cache.computeIfAbsent(template, UrlTemplate::new);
+	}
+
+	private static String removeQueryStringIfPresent(String urlTemplate) {
+		int index = urlTemplate.indexOf('?');
+		if (index == -1) {
+			return urlTemplate;
+		}
+		return urlTemplate.substring(0, index);
+	}
+
+	/**
+	 * Returns the path of the template, excluding any query string.
+	 * @return the path
+	 */
+	String getPath() {
+		return this.path;
+	}
+
+	/**
+	 * Returns the names of the template's parameters, in the order in which they first
+	 * appear in the path.
+	 * @return the parameter names
+	 */
+	Set<String> getParameterNames() {
+		return this.parameterNames;
+	}
+
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2014-2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.snippet;
+
+import java.util.function.Predicate;
+
+import org.springframework.restdocs.templates.TemplateEngine;
+import org.springframework.restdocs.templates.TemplateFormat;
+
+/**
+ * A format in which a {@link TemplatedSnippet} is produced in addition to its primary
+ * format. The model that is created to document an operation is rendered once for the
+ * primary format and then once for each additional format, using the format's own
+ * {@link TemplateEngine} and {@link WriterResolver}. A snippet is only produced in an
+ * additional format that {@link #hasTemplate(String) has a template} for it.
+ *
+ * @author agent (agent@local)
+ * @since 3.0.0
+ */
+public final class AdditionalSnippetFormat {
+
+	private final TemplateFormat templateFormat;
+
+	private final TemplateEngine templateEngine;
+
+	private final WriterResolver writerResolver;
+
+	private final Predicate<String> templates;
+
+	/**
+	 * Creates a new {@code AdditionalSnippetFormat} for the given
+	 * {@code templateFormat}. Its snippets will be rendered using the given
+	 * {@code templateEngine} and written using the given {@code writerResolver}. The
+	 * given {@code templates} predicate is used to determine whether the format has a
+	 * template with a particular name.
+	 * @param templateFormat the template format
+	 * @param templateEngine the template engine
+	 * @param writerResolver the writer resolver
+	 * @param templates the predicate that tests whether the format has a template
+	 */
+	public AdditionalSnippetFormat(TemplateFormat templateFormat, TemplateEngine templateEngine,
+			WriterResolver writerResolver, Predicate<String> templates) {
+		this.templateFormat = templateFormat;
+		this.templateEngine = templateEngine;
+		this.writerResolver = writerResolver;
+		this.templates = templates;
+	}
+
+	/**
+	 * Returns the template format.
+	 * @return the template format
+	 */
+	public TemplateFormat getTemplateFormat() {
+		return this.templateFormat;
+	}
+
+	/**
+	 * Returns the template engine that is used to render snippets in this format.
+	 * @return the template engine
+	 */
+	public TemplateEngine getTemplateEngine() {
+		return this.templateEngine;
+	}
+
+	/**
+	 * Returns the writer resolver that is used to write snippets in this format.
+	 * @return the writer resolver
+	 */
+	public WriterResolver getWriterResolver() {
+		return this.writerResolver;
+	}
+
+	/**
+	 * Returns whether this format has a template with the given {@code templateName}.
+	 * @param templateName the name of the template
+	 * @return {@code true} if the format has the template, otherwise {@code false}
+	 */
+	public boolean hasTemplate(String templateName) {
+		return this.templates.test(templateName);
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2014-2019 the original author or authors.
+ * Copyright 2014-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,11 +18,16 @@ package org.springframework.restdocs.snippet;
 
 import java.io.File;
 import java.io.FileOutputStream;
+import java.io.FilterOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.Writer;
 
 import org.springframework.restdocs.RestDocumentationContext;
+import org.springframework.restdocs.observation.DocumentationEvent;
+import org.springframework.restdocs.observation.DocumentationEvents;
+import org.springframework.restdocs.observation.DocumentationObserver;
 import org.springframework.restdocs.templates.TemplateFormat;
 import org.springframework.util.PropertyPlaceholderHelper;
 import org.springframework.util.PropertyPlaceholderHelper.PlaceholderResolver;
@@ -42,6 +47,8 @@ public final class StandardWriterResolver implements WriterResolver {
 
 	private TemplateFormat templateFormat;
 
+	private DocumentationObserver observer;
+
 	/**
 	 * Creates a new {@code StandardWriterResolver} that will use a
 	 * {@link PlaceholderResolver} created from the given
@@ -63,18 +70,33 @@ public final class StandardWriterResolver implements WriterResolver {
 	@Override
 	public Writer resolve(String operationName, String snippetName, RestDocumentationContext context)
 			throws IOException {
+		DocumentationEvent event = DocumentationEvents.snippetWrite();
 		PlaceholderResolver placeholderResolver = this.placeholderResolverFactory.create(context);
 		String outputDirectory = replacePlaceholders(placeholderResolver, operationName);
 		String fileName = replacePlaceholders(placeholderResolver, snippetName) + "."
 				+ this.templateFormat.getFileExtension();
 		File outputFile = resolveFile(outputDirectory, fileName, context);
+		OutputStream output;
 		if (outputFile != null) {
 			createDirectoriesIfNecessary(outputFile);
-			return new OutputStreamWriter(new FileOutputStream(outputFile), this.encoding);
+			output = new FileOutputStream(outputFile);
 		}
 		else {
-			return new OutputStreamWriter(System.out, this.encoding);
+			output = System.out;
 		}
+		return new OutputStreamWriter(new CountingOutputStream(output, event, operationName, snippetName),
+				this.encoding);
+	}
+
+	/**
+	 * Sets the observer that will be notified, as each snippet is written, of the number
+	 * of bytes that were written.
+	 * @param observer the observer or {@code null}
+	 * @since 3.0.0
+	 * @see DocumentationObserver#snippetWritten(String, String, long)
+	 */
+	public void setObserver(DocumentationObserver observer) {
+		this.observer = observer;
 	}
 
 	private String replacePlaceholders(PlaceholderResolver resolver, String input) {
@@ -104,4 +126,47 @@ public final class StandardWriterResolver implements WriterResolver {
 		}
 	}
 
+	private final class CountingOutputStream extends FilterOutputStream {
+
+		private final DocumentationEvent event;
+
+		private final String operationName;
+
+		private final String snippetName;
+
+		private long count;
+
+		private CountingOutputStream(OutputStream delegate, DocumentationEvent event, String operationName,
+				String snippetName) {
+			super(delegate);
+			this.event = event;
+			this.operationName = operationName;
+			this.snippetName = snippetName;
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			this.out.write(b);
+			this.count++;
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			this.out.write(b, off, len);
+			this.count += len;
+		}
+
+		@Override
+		public void close() throws IOException {
+			super.close();
+			this.event.complete(this.operationName, this.snippetName, this.count,
+					StandardWriterResolver.this.templateFormat.getId());
+			DocumentationObserver observer = StandardWriterResolver.this.observer;
+			if (observer != null) {
+				observer.snippetWritten(this.operationName, this.snippetName, this.count);
+			}
+		}
+
+	}
+
 }
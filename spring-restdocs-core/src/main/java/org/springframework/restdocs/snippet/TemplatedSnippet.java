@@ -1,5 +1,5 @@
 /*
- * Copyright 2014-2019 the original author or authors.
+ * Copyright 2014-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,16 +19,24 @@ package org.springframework.restdocs.snippet;
 import java.io.IOException;
 import java.io.Writer;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.springframework.restdocs.RestDocumentationContext;
+import org.springframework.restdocs.observation.DocumentationEvent;
+import org.springframework.restdocs.observation.DocumentationEvents;
+import org.springframework.restdocs.observation.DocumentationPhase;
+import org.springframework.restdocs.observation.PhaseRecorder;
+import org.springframework.restdocs.observation.PhaseRecorder.Sample;
 import org.springframework.restdocs.operation.Operation;
 import org.springframework.restdocs.templates.Template;
 import org.springframework.restdocs.templates.TemplateEngine;
 
 /**
  * Base class for a {@link Snippet} that is produced using a {@link Template} and
- * {@link TemplateEngine}.
+ * {@link TemplateEngine}. When {@link AdditionalSnippetFormat additional formats} have
+ * been configured, the model is created once and is then also rendered in each of those
+ * formats that has a template for the snippet.
  *
  * @author Andy Wilkinson
  */
@@ -71,15 +79,52 @@ public abstract class TemplatedSnippet implements Snippet {
 
 	@Override
 	public void document(Operation operation) throws IOException {
+		DocumentationEvent event = DocumentationEvents.snippetRendering();
 		RestDocumentationContext context = (RestDocumentationContext) operation.getAttributes()
 				.get(RestDocumentationContext.class.getName());
 		WriterResolver writerResolver = (WriterResolver) operation.getAttributes().get(WriterResolver.class.getName());
-		try (Writer writer = writerResolver.resolve(operation.getName(), this.snippetName, context)) {
-			Map<String, Object> model = createModel(operation);
-			model.putAll(this.attributes);
-			TemplateEngine templateEngine = (TemplateEngine) operation.getAttributes()
-					.get(TemplateEngine.class.getName());
-			writer.append(templateEngine.compileTemplate(this.templateName).render(model));
+		PhaseRecorder recorder = PhaseRecorder.of(operation.getAttributes(), operation.getName());
+		Sample snippetSample = recorder.start();
+		try {
+			Map<String, Object> model;
+			try (Writer writer = writerResolver.resolve(operation.getName(), this.snippetName, context)) {
+				Sample sample = recorder.start();
+				model = createModel(operation);
+				model.putAll(this.attributes);
+				recorder.stop(sample, DocumentationPhase.MODEL_CREATION, this.snippetName);
+				sample = recorder.start();
+				TemplateEngine templateEngine = (TemplateEngine) operation.getAttributes()
+						.get(TemplateEngine.class.getName());
+				templateEngine.compileTemplate(this.templateName).render(model, writer);
+				recorder.stop(sample, DocumentationPhase.TEMPLATE_RENDERING, this.snippetName);
+			}
+			@SuppressWarnings("unchecked")
+			List<AdditionalSnippetFormat> additionalFormats = (List<AdditionalSnippetFormat>) operation
+					.getAttributes().get(AdditionalSnippetFormat.class.getName());
+			if (additionalFormats != null) {
+				for (AdditionalSnippetFormat additionalFormat : additionalFormats) {
+					if (!additionalFormat.hasTemplate(this.templateName)) {
+						continue;
+					}
+					Sample sample = recorder.start();
+					render(model, additionalFormat, operation.getName(), context);
+					recorder.stop(sample, DocumentationPhase.TEMPLATE_RENDERING, this.snippetName);
+				}
+			}
+		}
+		finally {
+			recorder.stop(snippetSample, DocumentationPhase.SNIPPET, this.snippetName);
+		}
+		recorder.snippetDocumented(this.snippetName, getDescriptorCount());
+		event.complete(operation.getName(), this.snippetName,
+				operation.getRequest().getContent().length + operation.getResponse().getContent().length,
+				operation.getResponse().getHeaders().getContentType());
+	}
+
+	private void render(Map<String, Object> model, AdditionalSnippetFormat format, String operationName,
+			RestDocumentationContext context) throws IOException {
+		try (Writer writer = format.getWriterResolver().resolve(operationName, this.snippetName, context)) {
+			format.getTemplateEngine().compileTemplate(this.templateName).render(model, writer);
 		}
 	}
 
@@ -94,6 +139,18 @@ public abstract class TemplatedSnippet implements Snippet {
 	 */
 	protected abstract Map<String, Object> createModel(Operation operation);
 
+	/**
+	 * Returns the number of descriptors that this snippet uses to document an operation,
+	 * for example the number of fields that it describes. The count is made available to
+	 * any {@link org.springframework.restdocs.observation.DocumentationObserver}. Returns
+	 * {@code 0} by default.
+	 * @return the number of descriptors
+	 * @since 3.0.0
+	 */
+	protected int getDescriptorCount() {
+		return 0;
+	}
+
 	/**
 	 * Returns the additional attributes that will be included in the model during
 	 * template rendering.
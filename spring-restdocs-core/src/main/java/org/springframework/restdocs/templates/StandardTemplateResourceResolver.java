@@ -1,5 +1,5 @@
 /*
- * Copyright 2014-2019 the original author or authors.
+ * Copyright 2014-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,8 +16,13 @@
 
 package org.springframework.restdocs.templates;
 
+import java.util.Map;
+import java.util.Optional;
+
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.Resource;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
 
 /**
  * Standard implementation of {@link TemplateResourceResolver}.
@@ -33,12 +38,19 @@ import org.springframework.core.io.Resource;
  * <code>org/springframework/restdocs/templates/${templateFormatId}/default-${name}.snippet</code>
  * </li>
  * </ol>
+ * <p>
+ * The outcome of resolving a template with a particular name, including the failure to
+ * find one, is cached for the class loader that was used to look it up.
  *
  * @author Andy Wilkinson
  * @see TemplateFormat#getId()
  */
 public class StandardTemplateResourceResolver implements TemplateResourceResolver {
 
+	private static final String TEMPLATES_LOCATION = "org/springframework/restdocs/templates/";
+
+	private final Map<ClassLoader, Map<String, Optional<Resource>>> resolved = new ConcurrentReferenceHashMap<>();
+
 	private final TemplateFormat templateFormat;
 
 	/**
@@ -52,33 +64,68 @@ public class StandardTemplateResourceResolver implements TemplateResourceResolve
 
 	@Override
 	public Resource resolveTemplateResource(String name) {
-		Resource formatSpecificCustomTemplate = getFormatSpecificCustomTemplate(name);
+		return resolveTemplateResource(ClassUtils.getDefaultClassLoader(), name).orElseThrow(
+				() -> new IllegalStateException("Template named '" + name + "' could not be resolved"));
+	}
+
+	/**
+	 * Returns whether a template with the given {@code name} can be resolved.
+	 * @param name the name of the template
+	 * @return {@code true} if the template can be resolved, otherwise {@code false}
+	 * @since 3.0.0
+	 */
+	public boolean hasTemplateResource(String name) {
+		return resolveTemplateResource(ClassUtils.getDefaultClassLoader(), name).isPresent();
+	}
+
+	/**
+	 * Returns whether the template with the given {@code name} resolves to a default
+	 * template rather than to a custom template.
+	 * @param name the name of the template
+	 * @return {@code true} if the template resolves to a default template, otherwise
+	 * {@code false}
+	 * @since 3.0.0
+	 */
+	public boolean isDefaultTemplateResource(String name) {
+		ClassLoader classLoader = ClassUtils.getDefaultClassLoader();
+		return resolveTemplateResource(classLoader, name)
+				.map((resource) -> resource.equals(getDefaultTemplate(classLoader, name))).orElse(false);
+	}
+
+	private Optional<Resource> resolveTemplateResource(ClassLoader classLoader, String name) {
+		return this.resolved.computeIfAbsent(classLoader, (key) -> new ConcurrentReferenceHashMap<>())
+				.computeIfAbsent(name, (key) -> findTemplateResource(classLoader, name));
+	}
+
+	private Optional<Resource> findTemplateResource(ClassLoader classLoader, String name) {
+		Resource formatSpecificCustomTemplate = getFormatSpecificCustomTemplate(classLoader, name);
 		if (formatSpecificCustomTemplate.exists()) {
-			return formatSpecificCustomTemplate;
+			return Optional.of(formatSpecificCustomTemplate);
 		}
-		Resource customTemplate = getCustomTemplate(name);
+		Resource customTemplate = getCustomTemplate(classLoader, name);
 		if (customTemplate.exists()) {
-			return customTemplate;
+			return Optional.of(customTemplate);
 		}
-		Resource defaultTemplate = getDefaultTemplate(name);
+		Resource defaultTemplate = getDefaultTemplate(classLoader, name);
 		if (defaultTemplate.exists()) {
-			return defaultTemplate;
+			return Optional.of(defaultTemplate);
 		}
-		throw new IllegalStateException("Template named '" + name + "' could not be resolved");
+		return Optional.empty();
 	}
 
-	private Resource getFormatSpecificCustomTemplate(String name) {
-		return new ClassPathResource(String.format("org/springframework/restdocs/templates/%s/%s.snippet",
-				this.templateFormat.getId(), name));
+	private Resource getFormatSpecificCustomTemplate(ClassLoader classLoader, String name) {
+		return new ClassPathResource(
+				String.format(TEMPLATES_LOCATION + "%s/%s.snippet", this.templateFormat.getId(), name), classLoader);
 	}
 
-	private Resource getCustomTemplate(String name) {
-		return new ClassPathResource(String.format("org/springframework/restdocs/templates/%s.snippet", name));
+	private Resource getCustomTemplate(ClassLoader classLoader, String name) {
+		return new ClassPathResource(String.format(TEMPLATES_LOCATION + "%s.snippet", name), classLoader);
 	}
 
-	private Resource getDefaultTemplate(String name) {
-		return new ClassPathResource(String.format("org/springframework/restdocs/templates/%s/default-%s.snippet",
-				this.templateFormat.getId(), name));
+	private Resource getDefaultTemplate(ClassLoader classLoader, String name) {
+		return new ClassPathResource(
+				String.format(TEMPLATES_LOCATION + "%s/default-%s.snippet", this.templateFormat.getId(), name),
+				classLoader);
 	}
 
 }
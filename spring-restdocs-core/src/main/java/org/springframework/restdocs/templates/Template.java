@@ -1,5 +1,5 @@
 /*
- * Copyright 2014-2018 the original author or authors.
+ * Copyright 2014-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,10 +16,13 @@
 
 package org.springframework.restdocs.templates;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.util.Map;
 
 /**
- * A compiled {@code Template} that can be rendered to a {@link String}.
+ * A compiled {@code Template} that can be rendered to a {@link String} or a
+ * {@link Writer}.
  *
  * @author Andy Wilkinson
  *
@@ -34,4 +37,18 @@ public interface Template {
 	 */
 	String render(Map<String, Object> context);
 
+	/**
+	 * Renders the template to the given {@code writer} using the given {@code context}
+	 * for variable/property resolution. The default implementation writes the result of
+	 * {@link #render(Map)}. Implementations are encouraged to write directly to the
+	 * {@code writer} rather than first rendering the whole template to a {@code String}.
+	 * @param context the context to use
+	 * @param writer the writer to render the template to
+	 * @throws IOException if writing fails
+	 * @since 3.0.0
+	 */
+	default void render(Map<String, Object> context, Writer writer) throws IOException {
+		writer.append(render(context));
+	}
+
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2014-2018 the original author or authors.
+ * Copyright 2014-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -28,6 +28,8 @@ public abstract class TemplateFormats {
 
 	private static final TemplateFormat MARKDOWN = new MarkdownTemplateFormat();
 
+	private static final TemplateFormat HTML = new HtmlTemplateFormat();
+
 	private TemplateFormats() {
 
 	}
@@ -50,6 +52,19 @@ public abstract class TemplateFormats {
 		return MARKDOWN;
 	}
 
+	/**
+	 * Returns the HTML template format with the ID {@code html} and the file extension
+	 * {@code html}. Snippets in this format are fragments that mirror the HTML that
+	 * Asciidoctor produces for the equivalent {@link #asciidoctor() Asciidoctor}
+	 * snippets. They are intended to be produced in addition to the Asciidoctor snippets
+	 * and embedded as-is by the {@code operation} block macro.
+	 * @return the template format
+	 * @since 3.0.0
+	 */
+	public static TemplateFormat html() {
+		return HTML;
+	}
+
 	private abstract static class AbstractTemplateFormat implements TemplateFormat {
 
 		private final String name;
@@ -89,4 +104,12 @@ public abstract class TemplateFormats {
 
 	}
 
+	private static final class HtmlTemplateFormat extends AbstractTemplateFormat {
+
+		private HtmlTemplateFormat() {
+			super("html", "html");
+		}
+
+	}
+
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2014-2019 the original author or authors.
+ * Copyright 2014-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,7 @@
 
 package org.springframework.restdocs.templates.mustache;
 
+import java.io.Writer;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -57,9 +58,18 @@ public class MustacheTemplate implements Template {
 
 	@Override
 	public String render(Map<String, Object> context) {
+		return this.delegate.execute(combine(context));
+	}
+
+	@Override
+	public void render(Map<String, Object> context, Writer writer) {
+		this.delegate.execute(combine(context), writer);
+	}
+
+	private Map<String, Object> combine(Map<String, Object> context) {
 		Map<String, Object> combinedContext = new HashMap<>(this.context);
 		combinedContext.putAll(context);
-		return this.delegate.execute(combinedContext);
+		return combinedContext;
 	}
 
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2014-2020 the original author or authors.
+ * Copyright 2014-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,6 +18,7 @@ package org.springframework.restdocs.templates.mustache;
 
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.Reader;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.Collections;
@@ -26,15 +27,19 @@ import java.util.Map;
 import org.springframework.core.io.Resource;
 import org.springframework.restdocs.mustache.Mustache;
 import org.springframework.restdocs.mustache.Mustache.Compiler;
+import org.springframework.restdocs.observation.DocumentationObserver;
 import org.springframework.restdocs.templates.Template;
 import org.springframework.restdocs.templates.TemplateEngine;
 import org.springframework.restdocs.templates.TemplateResourceResolver;
+import org.springframework.util.ConcurrentReferenceHashMap;
 
 /**
  * A <a href="https://mustache.github.io">Mustache</a>-based {@link TemplateEngine}
  * implemented using <a href="https://github.com/samskivert/jmustache">JMustache</a>.
  * <p>
  * Note that JMustache has been repackaged and embedded to prevent classpath conflicts.
+ * <p>
+ * Compiled templates are cached by their resolved resource.
  *
  * @author Andy Wilkinson
  */
@@ -48,6 +53,10 @@ public class MustacheTemplateEngine implements TemplateEngine {
 
 	private final Map<String, Object> context;
 
+	private final Map<Resource, Template> templates = new ConcurrentReferenceHashMap<>();
+
+	private DocumentationObserver observer;
+
 	/**
 	 * Creates a new {@code MustacheTemplateEngine} that will use the given
 	 * {@code templateResourceResolver} to resolve template paths. Templates will be read
@@ -137,9 +146,35 @@ public class MustacheTemplateEngine implements TemplateEngine {
 	@Override
 	public Template compileTemplate(String name) throws IOException {
 		Resource templateResource = this.templateResourceResolver.resolveTemplateResource(name);
-		return new MustacheTemplate(
-				this.compiler.compile(new InputStreamReader(templateResource.getInputStream(), this.templateEncoding)),
-				this.context);
+		Template template = this.templates.get(templateResource);
+		boolean hit = template != null;
+		if (!hit) {
+			template = compileTemplate(templateResource);
+			this.templates.put(templateResource, template);
+		}
+		DocumentationObserver observer = this.observer;
+		if (observer != null) {
+			observer.templateCacheAccessed(name, hit);
+		}
+		return template;
+	}
+
+	private Template compileTemplate(Resource templateResource) throws IOException {
+		try (Reader reader = new InputStreamReader(templateResource.getInputStream(), this.templateEncoding)) {
+			return new MustacheTemplate(this.compiler.compile(reader), this.context);
+		}
+	}
+
+	/**
+	 * Sets the observer that will be notified each time that
+	 * {@link #compileTemplate(String)} looks up a template in the cache of compiled
+	 * templates.
+	 * @param observer the observer or {@code null}
+	 * @since 3.0.0
+	 * @see DocumentationObserver#templateCacheAccessed(String, boolean)
+	 */
+	public void setObserver(DocumentationObserver observer) {
+		this.observer = observer;
 	}
 
 	/**
@@ -1,5 +1,5 @@
 /*
- * Copyright 2014-2019 the original author or authors.
+ * Copyright 2014-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,8 +18,10 @@ package org.springframework.restdocs;
 
 import java.io.IOException;
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.junit.Test;
@@ -28,7 +30,11 @@ import org.mockito.InOrder;
 import org.mockito.Mockito;
 
 import org.springframework.http.HttpHeaders;
+import org.springframework.restdocs.generate.RestDocumentationGenerationException;
 import org.springframework.restdocs.generate.RestDocumentationGenerator;
+import org.springframework.restdocs.observation.DocumentationObserver;
+import org.springframework.restdocs.observation.DocumentationPhase;
+import org.springframework.restdocs.observation.PhaseObservation;
 import org.springframework.restdocs.operation.Operation;
 import org.springframework.restdocs.operation.OperationRequest;
 import org.springframework.restdocs.operation.OperationRequestFactory;
@@ -43,7 +49,10 @@ import org.springframework.restdocs.operation.preprocess.Preprocessors;
 import org.springframework.restdocs.snippet.Snippet;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -166,6 +175,38 @@ public class RestDocumentationGeneratorTests {
 		verifySnippetInvocation(additionalSnippet2, configuration);
 	}
 
+	@Test
+	public void phasesAreObservedWhenObserverIsConfigured() throws IOException {
+		given(this.requestConverter.convert(this.request)).willReturn(this.operationRequest);
+		given(this.responseConverter.convert(this.response)).willReturn(this.operationResponse);
+		List<PhaseObservation> observations = new ArrayList<>();
+		HashMap<String, Object> configuration = new HashMap<>();
+		configuration.put(DocumentationObserver.class.getName(), (DocumentationObserver) observations::add);
+		new RestDocumentationGenerator<>("id", this.requestConverter, this.responseConverter, this.snippet)
+				.handle(this.request, this.response, configuration);
+		assertThat(observations).extracting(PhaseObservation::getPhase).containsExactly(
+				DocumentationPhase.REQUEST_CONVERSION, DocumentationPhase.RESPONSE_CONVERSION,
+				DocumentationPhase.REQUEST_PREPROCESSING, DocumentationPhase.RESPONSE_PREPROCESSING,
+				DocumentationPhase.OPERATION);
+		assertThat(observations).extracting(PhaseObservation::getOperationName).containsOnly("id");
+		assertThat(observations).extracting(PhaseObservation::getSnippetName).containsOnlyNulls();
+		assertThat(observations).extracting(PhaseObservation::getAllocatedBytes).containsOnly(-1L);
+	}
+
+	@Test
+	public void operationPhaseIsObservedWhenASnippetFails() throws IOException {
+		given(this.requestConverter.convert(this.request)).willReturn(this.operationRequest);
+		given(this.responseConverter.convert(this.response)).willReturn(this.operationResponse);
+		willThrow(new IOException()).given(this.snippet).document(any(Operation.class));
+		List<PhaseObservation> observations = new ArrayList<>();
+		HashMap<String, Object> configuration = new HashMap<>();
+		configuration.put(DocumentationObserver.class.getName(), (DocumentationObserver) observations::add);
+		assertThatExceptionOfType(RestDocumentationGenerationException.class)
+				.isThrownBy(() -> new RestDocumentationGenerator<>("id", this.requestConverter,
+						this.responseConverter, this.snippet).handle(this.request, this.response, configuration));
+		assertThat(observations).extracting(PhaseObservation::getPhase).endsWith(DocumentationPhase.OPERATION);
+	}
+
 	private void verifySnippetInvocation(Snippet snippet, Map<String, Object> attributes) throws IOException {
 		ArgumentCaptor<Operation> operation = ArgumentCaptor.forClass(Operation.class);
 		verify(snippet).document(operation.capture());
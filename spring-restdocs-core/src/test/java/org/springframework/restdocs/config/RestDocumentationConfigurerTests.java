@@ -1,5 +1,5 @@
 /*
- * Copyright 2014-2020 the original author or authors.
+ * Copyright 2014-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,14 +16,21 @@
 
 package org.springframework.restdocs.config;
 
+import java.io.File;
+import java.io.IOException;
 import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
@@ -34,19 +41,29 @@ import org.springframework.restdocs.cli.CliDocumentation;
 import org.springframework.restdocs.cli.CurlRequestSnippet;
 import org.springframework.restdocs.cli.HttpieRequestSnippet;
 import org.springframework.restdocs.generate.RestDocumentationGenerator;
+import org.springframework.restdocs.http.HttpDocumentation;
 import org.springframework.restdocs.http.HttpRequestSnippet;
 import org.springframework.restdocs.http.HttpResponseSnippet;
+import org.springframework.restdocs.mustache.Escapers;
+import org.springframework.restdocs.mustache.Mustache.Compiler;
+import org.springframework.restdocs.observation.DocumentationObserver;
+import org.springframework.restdocs.observation.PhaseObservation;
+import org.springframework.restdocs.operation.Operation;
 import org.springframework.restdocs.operation.OperationRequest;
 import org.springframework.restdocs.operation.OperationRequestFactory;
 import org.springframework.restdocs.operation.OperationResponse;
 import org.springframework.restdocs.operation.OperationResponseFactory;
+import org.springframework.restdocs.operation.Parameters;
+import org.springframework.restdocs.operation.StandardOperation;
 import org.springframework.restdocs.operation.preprocess.OperationRequestPreprocessor;
 import org.springframework.restdocs.operation.preprocess.OperationResponsePreprocessor;
 import org.springframework.restdocs.operation.preprocess.Preprocessors;
 import org.springframework.restdocs.payload.RequestBodySnippet;
 import org.springframework.restdocs.payload.ResponseBodySnippet;
+import org.springframework.restdocs.snippet.AdditionalSnippetFormat;
 import org.springframework.restdocs.snippet.Snippet;
 import org.springframework.restdocs.snippet.StandardWriterResolver;
+import org.springframework.restdocs.snippet.TemplatedSnippet;
 import org.springframework.restdocs.snippet.WriterResolver;
 import org.springframework.restdocs.templates.TemplateEngine;
 import org.springframework.restdocs.templates.TemplateFormats;
@@ -65,6 +82,9 @@ import static org.mockito.Mockito.mock;
  */
 public class RestDocumentationConfigurerTests {
 
+	@Rule
+	public final TemporaryFolder temp = new TemporaryFolder();
+
 	private final TestRestDocumentationConfigurer configurer = new TestRestDocumentationConfigurer();
 
 	@SuppressWarnings("unchecked")
@@ -198,6 +218,73 @@ public class RestDocumentationConfigurerTests {
 		assertThat(templateContext.size()).isEqualTo(0);
 	}
 
+	@Test
+	public void noAdditionalSnippetFormatsByDefault() {
+		Map<String, Object> configuration = new HashMap<>();
+		this.configurer.apply(configuration, createContext());
+		assertThat(configuration).doesNotContainKey(AdditionalSnippetFormat.class.getName());
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void additionalTemplateFormats() {
+		Map<String, Object> configuration = new HashMap<>();
+		this.configurer.snippets().withAdditionalTemplateFormats(TemplateFormats.html(), TemplateFormats.markdown());
+		this.configurer.apply(configuration, createContext());
+		List<AdditionalSnippetFormat> additionalFormats = (List<AdditionalSnippetFormat>) configuration
+				.get(AdditionalSnippetFormat.class.getName());
+		assertThat(additionalFormats).extracting((format) -> format.getTemplateFormat().getId())
+				.containsExactly("html", "markdown");
+		assertThat(additionalFormats).extracting(AdditionalSnippetFormat::getTemplateEngine)
+				.hasOnlyElementsOfType(MustacheTemplateEngine.class);
+		assertThat(additionalFormats).extracting(AdditionalSnippetFormat::getWriterResolver)
+				.hasOnlyElementsOfType(StandardWriterResolver.class);
+	}
+
+	@Test
+	public void htmlTemplateEngineEscapesHtml() {
+		Map<String, Object> configuration = new HashMap<>();
+		this.configurer.snippets().withAdditionalTemplateFormats(TemplateFormats.html());
+		this.configurer.apply(configuration, createContext());
+		@SuppressWarnings("unchecked")
+		AdditionalSnippetFormat html = ((List<AdditionalSnippetFormat>) configuration
+				.get(AdditionalSnippetFormat.class.getName())).get(0);
+		Compiler compiler = (Compiler) ReflectionTestUtils.getField(html.getTemplateEngine(), "compiler");
+		assertThat(compiler.escaper).isSameAs(Escapers.HTML);
+	}
+
+	@Test
+	public void defaultSnippetIsProducedAsAnHtmlFragment() throws Exception {
+		File snippets = documentWithHtmlFragments(HttpDocumentation.httpRequest());
+		assertThat(new File(snippets, "http-request.adoc")).isFile();
+		assertThat(new File(snippets, "http-request.html")).isFile();
+	}
+
+	@Test
+	public void customSnippetWithoutAnHtmlTemplateIsNotProducedAsAnHtmlFragment() throws Exception {
+		addTemplate("asciidoctor/custom.snippet", "Custom");
+		File snippets = documentWithHtmlFragments(new CustomSnippet("custom"));
+		assertThat(new File(snippets, "custom.adoc")).hasContent("Custom");
+		assertThat(new File(snippets, "custom.html")).doesNotExist();
+	}
+
+	@Test
+	public void customSnippetWithAnHtmlTemplateIsProducedAsAnHtmlFragment() throws Exception {
+		addTemplate("asciidoctor/custom.snippet", "Custom");
+		addTemplate("html/custom.snippet", "<p>Custom</p>");
+		File snippets = documentWithHtmlFragments(new CustomSnippet("custom"));
+		assertThat(new File(snippets, "custom.adoc")).hasContent("Custom");
+		assertThat(new File(snippets, "custom.html")).hasContent("<p>Custom</p>");
+	}
+
+	@Test
+	public void defaultHtmlTemplateIsNotUsedForACustomizedDefaultSnippet() throws Exception {
+		addTemplate("asciidoctor/http-request.snippet", "Custom HTTP request");
+		File snippets = documentWithHtmlFragments(HttpDocumentation.httpRequest());
+		assertThat(new File(snippets, "http-request.adoc")).hasContent("Custom HTTP request");
+		assertThat(new File(snippets, "http-request.html")).doesNotExist();
+	}
+
 	@Test
 	public void customDefaultOperationRequestPreprocessor() {
 		Map<String, Object> configuration = new HashMap<>();
@@ -227,6 +314,88 @@ public class RestDocumentationConfigurerTests {
 		assertThat(preprocessor.preprocess(response).getHeaders()).doesNotContainKey("Foo");
 	}
 
+	@Test
+	public void noObserverByDefault() {
+		Map<String, Object> configuration = new HashMap<>();
+		this.configurer.apply(configuration, createContext());
+		assertThat(configuration).doesNotContainKey(DocumentationObserver.class.getName());
+	}
+
+	@Test
+	public void singleObserver() {
+		Map<String, Object> configuration = new HashMap<>();
+		DocumentationObserver observer = mock(DocumentationObserver.class);
+		this.configurer.observers(observer).apply(configuration, createContext());
+		assertThat(configuration.get(DocumentationObserver.class.getName())).isSameAs(observer);
+	}
+
+	@Test
+	public void multipleObserversAreComposed() {
+		Map<String, Object> configuration = new HashMap<>();
+		DocumentationObserver observer1 = (observation) -> {
+		};
+		DocumentationObserver observer2 = new DocumentationObserver() {
+
+			@Override
+			public void phaseCompleted(PhaseObservation observation) {
+			}
+
+			@Override
+			public boolean isAllocationSamplingEnabled() {
+				return true;
+			}
+
+		};
+		this.configurer.observers(observer1, observer2).apply(configuration, createContext());
+		DocumentationObserver observer = (DocumentationObserver) configuration
+				.get(DocumentationObserver.class.getName());
+		assertThat(observer).isNotSameAs(observer1).isNotSameAs(observer2);
+		assertThat(observer.isAllocationSamplingEnabled()).isTrue();
+	}
+
+	@Test
+	public void observerIsNotifiedByDefaultTemplateEngineAndWriterResolver() {
+		Map<String, Object> configuration = new HashMap<>();
+		DocumentationObserver observer = mock(DocumentationObserver.class);
+		this.configurer.observers(observer).apply(configuration, createContext());
+		assertThat(ReflectionTestUtils.getField(configuration.get(TemplateEngine.class.getName()), "observer"))
+				.isSameAs(observer);
+		assertThat(ReflectionTestUtils.getField(configuration.get(WriterResolver.class.getName()), "observer"))
+				.isSameAs(observer);
+	}
+
+	private void addTemplate(String path, String content) throws IOException {
+		File template = new File(this.temp.getRoot(), "templates/org/springframework/restdocs/templates/" + path);
+		template.getParentFile().mkdirs();
+		Files.write(template.toPath(), content.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private File documentWithHtmlFragments(Snippet snippet) throws IOException {
+		File outputDirectory = new File(this.temp.getRoot(), "output");
+		ManualRestDocumentation restDocumentation = new ManualRestDocumentation(outputDirectory.getAbsolutePath());
+		restDocumentation.beforeTest(null, null);
+		RestDocumentationContext context = restDocumentation.beforeOperation();
+		Map<String, Object> configuration = new HashMap<>();
+		this.configurer.snippets().withAdditionalTemplateFormats(TemplateFormats.html());
+		this.configurer.apply(configuration, context);
+		configuration.put(RestDocumentationContext.class.getName(), context);
+		Operation operation = new StandardOperation("operation",
+				new OperationRequestFactory().create(URI.create("http://localhost:8080"), HttpMethod.GET, null,
+						new HttpHeaders(), new Parameters(), Collections.emptyList()),
+				new OperationResponseFactory().create(HttpStatus.OK.value(), new HttpHeaders(), null), configuration);
+		Thread thread = Thread.currentThread();
+		ClassLoader previous = thread.getContextClassLoader();
+		URL templates = new File(this.temp.getRoot(), "templates").toURI().toURL();
+		try (URLClassLoader classLoader = new URLClassLoader(new URL[] { templates }, previous)) {
+			thread.setContextClassLoader(classLoader);
+			snippet.document(operation);
+		}
+		finally {
+			thread.setContextClassLoader(previous);
+		}
+		return new File(outputDirectory, "operation");
+	}
+
 	private RestDocumentationContext createContext() {
 		ManualRestDocumentation manualRestDocumentation = new ManualRestDocumentation("build");
 		manualRestDocumentation.beforeTest(null, null);
@@ -234,6 +403,19 @@ public class RestDocumentationConfigurerTests {
 		return context;
 	}
 
+	private static final class CustomSnippet extends TemplatedSnippet {
+
+		private CustomSnippet(String name) {
+			super(name, Collections.emptyMap());
+		}
+
+		@Override
+		protected Map<String, Object> createModel(Operation operation) {
+			return new HashMap<>();
+		}
+
+	}
+
 	private static final class TestRestDocumentationConfigurer extends
 			RestDocumentationConfigurer<TestSnippetConfigurer, TestOperationPreprocessorsConfigurer, TestRestDocumentationConfigurer> {
 
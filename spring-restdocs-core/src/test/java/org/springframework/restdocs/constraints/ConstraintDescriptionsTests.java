@@ -1,5 +1,5 @@
 /*
- * Copyright 2014-2019 the original author or authors.
+ * Copyright 2014-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,12 +18,22 @@ package org.springframework.restdocs.constraints;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 
 import org.junit.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 /**
  * Tests for {@link ConstraintDescriptions}.
@@ -58,8 +68,95 @@ public class ConstraintDescriptionsTests {
 		assertThat(this.constraintDescriptions.descriptionsForProperty("foo").size()).isEqualTo(0);
 	}
 
+	@Test
+	public void descriptionsResolvedUsingDefaultResolvers() {
+		assertThat(new ConstraintDescriptions(Constrained.class).descriptionsForProperty("bar"))
+				.containsExactly("Must not be null", "Size must be between 2 and 4 inclusive");
+	}
+
+	@Test
+	public void descriptionsResolvedUsingDefaultResolversAreNotSharedWhenModified() {
+		List<String> descriptions = new ConstraintDescriptions(Constrained.class).descriptionsForProperty("bar");
+		descriptions.clear();
+		assertThat(new ConstraintDescriptions(Constrained.class).descriptionsForProperty("bar")).hasSize(2);
+	}
+
+	@Test
+	public void descriptionsForAllProperties() {
+		Map<String, List<String>> descriptions = new ConstraintDescriptions(Order.class).descriptionsForAllProperties();
+		assertThat(descriptions).containsExactly(entry("address.street", Arrays.asList("Must not be blank")),
+				entry("addresses[].street", Arrays.asList("Must not be blank")),
+				entry("id", Arrays.asList("Must not be null")));
+	}
+
+	@Test
+	public void descriptionsForAllPropertiesResolvedUsingClassConstraintResolver() {
+		ClassConstraintResolver classConstraintResolver = mock(ClassConstraintResolver.class);
+		Constraint constraint = new Constraint("constraint", Collections.<String, Object>emptyMap());
+		given(classConstraintResolver.resolveForClass(Constrained.class))
+				.willReturn(Collections.singletonMap("foo", Arrays.asList(constraint)));
+		given(this.constraintDescriptionResolver.resolveDescription(constraint)).willReturn("Alpha");
+		assertThat(new ConstraintDescriptions(Constrained.class, classConstraintResolver,
+				this.constraintDescriptionResolver).descriptionsForAllProperties())
+						.containsExactly(entry("foo", Arrays.asList("Alpha")));
+	}
+
+	@Test
+	public void descriptionsForAllPropertiesWhenConstraintResolverCannotResolveForClass() {
+		Constraint constraint = new Constraint("constraint", Collections.<String, Object>emptyMap());
+		given(this.constraintResolver.resolveForProperty("id", Order.class)).willReturn(Arrays.asList(constraint));
+		given(this.constraintResolver.resolveForProperty("total", Order.class))
+				.willReturn(Arrays.asList(constraint));
+		given(this.constraintDescriptionResolver.resolveDescription(constraint)).willReturn("Alpha");
+		assertThat(new ConstraintDescriptions(Order.class, this.constraintResolver, this.constraintDescriptionResolver)
+				.descriptionsForAllProperties()).containsExactly(entry("id", Arrays.asList("Alpha")),
+						entry("total", Arrays.asList("Alpha")));
+		verify(this.constraintResolver).resolveForProperty("address", Order.class);
+		verify(this.constraintResolver, never()).resolveForProperty("class", Order.class);
+	}
+
+	@Test
+	public void descriptionsForClasses() {
+		Map<Class<?>, Map<String, List<String>>> descriptions = ConstraintDescriptions
+				.descriptionsForClasses(Constrained.class, Address.class);
+		assertThat(descriptions).containsOnlyKeys(Constrained.class, Address.class);
+		assertThat(descriptions.get(Constrained.class)).containsOnlyKeys("bar");
+		assertThat(descriptions.get(Address.class))
+				.containsExactly(entry("street", Arrays.asList("Must not be blank")));
+	}
+
 	private static class Constrained {
 
+		@NotNull
+		@Size(min = 2, max = 4)
+		private String bar;
+
+	}
+
+	public static class Order {
+
+		@NotNull
+		private String id;
+
+		@Valid
+		private Address address;
+
+		private List<@Valid Address> addresses;
+
+		@Valid
+		private Order parent;
+
+		public int getTotal() {
+			return 0;
+		}
+
+	}
+
+	private static class Address {
+
+		@NotBlank
+		private String street;
+
 	}
 
 }
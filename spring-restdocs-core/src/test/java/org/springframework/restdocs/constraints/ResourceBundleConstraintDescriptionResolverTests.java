@@ -1,5 +1,5 @@
 /*
- * Copyright 2014-2019 the original author or authors.
+ * Copyright 2014-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,8 +21,11 @@ import java.math.BigDecimal;
 import java.net.URL;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
 import java.util.ListResourceBundle;
+import java.util.Map;
+import java.util.MissingResourceException;
 import java.util.ResourceBundle;
 
 import javax.money.MonetaryAmount;
@@ -66,6 +69,7 @@ import org.springframework.util.Assert;
 import org.springframework.util.ReflectionUtils;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 /**
  * Tests for {@link ResourceBundleConstraintDescriptionResolver}.
@@ -299,6 +303,37 @@ public class ResourceBundleConstraintDescriptionResolverTests {
 		assertThat(description).isEqualTo("Not null");
 	}
 
+	@Test
+	public void customResourceBundleWithPlaceholders() {
+		ResourceBundle bundle = new ListResourceBundle() {
+
+			@Override
+			protected Object[][] getContents() {
+				return new String[][] { { "custom.description", "Between ${min} and ${max}, not ${unknown}" } };
+			}
+
+		};
+		ResourceBundleConstraintDescriptionResolver resolver = new ResourceBundleConstraintDescriptionResolver(bundle);
+		Map<String, Object> configuration = new HashMap<>();
+		configuration.put("min", 1);
+		configuration.put("max", 3);
+		assertThat(resolver.resolveDescription(new Constraint("custom", configuration)))
+				.isEqualTo("Between 1 and 3, not ${unknown}");
+		configuration.put("max", 5);
+		assertThat(resolver.resolveDescription(new Constraint("custom", configuration)))
+				.isEqualTo("Between 1 and 5, not ${unknown}");
+	}
+
+	@Test
+	public void missingDescription() {
+		Constraint constraint = new Constraint("com.example.Unknown", Collections.<String, Object>emptyMap());
+		for (int i = 0; i < 2; i++) {
+			assertThatExceptionOfType(MissingResourceException.class)
+					.isThrownBy(() -> this.resolver.resolveDescription(constraint))
+					.satisfies((ex) -> assertThat(ex.getKey()).isEqualTo("com.example.Unknown.description"));
+		}
+	}
+
 	private String constraintDescriptionForField(String name) {
 		return this.resolver.resolveDescription(getConstraintFromField(name));
 	}
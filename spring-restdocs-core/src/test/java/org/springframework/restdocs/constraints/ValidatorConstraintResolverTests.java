@@ -1,5 +1,5 @@
 /*
- * Copyright 2014-2019 the original author or authors.
+ * Copyright 2014-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -27,10 +27,14 @@ import java.util.Map;
 import java.util.Map.Entry;
 
 import jakarta.validation.Payload;
+import jakarta.validation.Valid;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Null;
 import jakarta.validation.constraints.Size;
+import jakarta.validation.metadata.BeanDescriptor;
 
 import org.assertj.core.api.Condition;
 import org.assertj.core.description.TextDescription;
@@ -39,6 +43,10 @@ import org.hibernate.validator.constraints.ConstraintComposition;
 import org.junit.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 /**
  * Tests for {@link ValidatorConstraintResolver}.
@@ -76,6 +84,27 @@ public class ValidatorConstraintResolverTests {
 		assertThat(constraints).hasSize(1);
 	}
 
+	@Test
+	public void constraintsForClassIncludeCascadedElementsAndValues() {
+		Map<String, List<Constraint>> constraints = this.resolver.resolveForClass(Catalog.class);
+		assertThat(constraints).containsOnlyKeys("items[].name", "itemsByName.*.name", "tags[]");
+		assertThat(constraints.get("items[].name")).hasSize(1);
+		assertThat(constraints.get("items[].name").get(0)).is(constraint(NotNull.class));
+		assertThat(constraints.get("tags[]").get(0)).is(constraint(NotBlank.class));
+	}
+
+	@Test
+	public void constraintsForClassAreRetrievedFromValidatorOnce() {
+		BeanDescriptor beanDescriptor = Validation.buildDefaultValidatorFactory().getValidator()
+				.getConstraintsForClass(ConstrainedFields.class);
+		Validator validator = mock(Validator.class);
+		given(validator.getConstraintsForClass(ConstrainedFields.class)).willReturn(beanDescriptor);
+		ValidatorConstraintResolver resolver = new ValidatorConstraintResolver(validator);
+		resolver.resolveForProperty("single", ConstrainedFields.class);
+		resolver.resolveForProperty("multiple", ConstrainedFields.class);
+		verify(validator, times(1)).getConstraintsForClass(ConstrainedFields.class);
+	}
+
 	private ConstraintCondition constraint(final Class<? extends Annotation> annotation) {
 		return new ConstraintCondition(annotation);
 	}
@@ -97,6 +126,24 @@ public class ValidatorConstraintResolverTests {
 
 	}
 
+	private static class Catalog {
+
+		@Valid
+		private Item[] items;
+
+		private Map<String, @Valid Item> itemsByName;
+
+		private List<@NotBlank String> tags;
+
+	}
+
+	private static class Item {
+
+		@NotNull
+		private String name;
+
+	}
+
 	@ConstraintComposition(CompositionType.OR)
 	@Null
 	@NotBlank
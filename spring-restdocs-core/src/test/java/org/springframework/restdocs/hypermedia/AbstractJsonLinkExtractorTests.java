@@ -0,0 +1,128 @@
+/*
+ * Copyright 2014-2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.hypermedia;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import org.junit.Test;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.restdocs.operation.OperationResponse;
+import org.springframework.restdocs.operation.OperationResponseFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.entry;
+
+/**
+ * Tests for the streaming extraction of links performed by
+ * {@link AbstractJsonLinkExtractor}.
+ *
+ * @author agent (agent@local)
+ */
+public class AbstractJsonLinkExtractorTests {
+
+	private final HalLinkExtractor halLinkExtractor = new HalLinkExtractor();
+
+	private final AtomLinkExtractor atomLinkExtractor = new AtomLinkExtractor();
+
+	@Test
+	public void nestedLinksAreIgnored() throws IOException {
+		Map<String, List<Link>> links = this.halLinkExtractor.extractLinks(response("{\"_embedded\":{\"items\":["
+				+ "{\"_links\":{\"self\":{\"href\":\"https://example.com/items/1\"}}}]},"
+				+ "\"page\":{\"_links\":{\"next\":{\"href\":\"https://example.com/next\"}}}}"));
+		assertThat(links).isEmpty();
+	}
+
+	@Test
+	public void topLevelLinksAreExtractedAfterNestedLinks() throws IOException {
+		Map<String, List<Link>> links = this.halLinkExtractor.extractLinks(
+				response("{\"_embedded\":{\"_links\":{\"nested\":{\"href\":\"https://example.com/nested\"}}},"
+						+ "\"_links\":{\"self\":{\"href\":\"https://example.com\"}}}"));
+		assertThat(links).containsOnly(entry("self", list(new Link("self", "https://example.com"))));
+	}
+
+	@Test
+	public void nestedLinksAfterTopLevelLinksAreIgnored() throws IOException {
+		Map<String, List<Link>> links = this.halLinkExtractor
+				.extractLinks(response("{\"_links\":{\"self\":{\"href\":\"https://example.com\"}},"
+						+ "\"item\":{\"_links\":{\"nested\":{\"href\":\"https://example.com/nested\"}}}}"));
+		assertThat(links).containsOnly(entry("self", list(new Link("self", "https://example.com"))));
+	}
+
+	@Test
+	public void singleLinkObjectAndArrayOfLinkObjects() throws IOException {
+		Map<String, List<Link>> links = this.halLinkExtractor
+				.extractLinks(response("{\"_links\":{\"self\":{\"href\":\"https://example.com\",\"title\":\"Self\"},"
+						+ "\"item\":[{\"href\":\"https://example.com/1\"},{\"href\":\"https://example.com/2\"}]}}"));
+		List<Link> items = list(new Link("item", "https://example.com/1"), new Link("item", "https://example.com/2"));
+		assertThat(links).containsOnly(entry("self", list(new Link("self", "https://example.com", "Self"))),
+				entry("item", items));
+	}
+
+	@Test
+	public void linkObjectsThatAreMalformedAreIgnored() throws IOException {
+		Map<String, List<Link>> links = this.halLinkExtractor.extractLinks(response("{\"_links\":{\"a\":{\"href\":1},"
+				+ "\"b\":[\"https://example.com\",{\"title\":\"No href\"}],\"c\":null}}"));
+		assertThat(links).containsOnly(entry("a", list()), entry("b", list()), entry("c", list()));
+	}
+
+	@Test
+	public void absentLinksFieldProducesNoLinks() throws IOException {
+		Map<String, List<Link>> links = this.halLinkExtractor
+				.extractLinks(response("{\"name\":\"alpha\",\"tags\":[\"a\",[\"b\"],{\"c\":null}]}"));
+		assertThat(links).isEmpty();
+	}
+
+	@Test
+	public void linksFieldOfTheWrongTypeProducesNoLinks() throws IOException {
+		assertThat(this.halLinkExtractor.extractLinks(response("{\"_links\":[{\"href\":\"https://example.com\"}]}")))
+				.isEmpty();
+		assertThat(this.atomLinkExtractor.extractLinks(response("{\"links\":{\"href\":\"https://example.com\"}}")))
+				.isEmpty();
+	}
+
+	@Test
+	public void atomLinksWithoutARelOrHrefAreIgnored() throws IOException {
+		Map<String, List<Link>> links = this.atomLinkExtractor.extractLinks(response("{\"links\":["
+				+ "{\"rel\":\"self\",\"href\":\"https://example.com\",\"extra\":{\"rel\":\"nested\"}},"
+				+ "{\"href\":\"https://example.com/no-rel\"},{\"rel\":\"no-href\"},\"https://example.com/text\"]}"));
+		assertThat(links).containsOnly(entry("self", list(new Link("self", "https://example.com"))));
+	}
+
+	@Test
+	public void contentThatIsNotAnObjectIsRejected() {
+		assertThatExceptionOfType(JsonParseException.class)
+				.isThrownBy(() -> this.halLinkExtractor.extractLinks(response("[{\"_links\":{}}]")));
+	}
+
+	private OperationResponse response(String content) {
+		return new OperationResponseFactory().create(HttpStatus.OK.value(), new HttpHeaders(),
+				content.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static List<Link> list(Link... links) {
+		return Arrays.asList(links);
+	}
+
+}
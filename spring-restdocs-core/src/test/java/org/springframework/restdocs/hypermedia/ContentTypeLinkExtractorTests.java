@@ -1,5 +1,5 @@
 /*
- * Copyright 2014-2019 the original author or authors.
+ * Copyright 2014-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -32,6 +32,7 @@ import org.springframework.restdocs.operation.OperationResponseFactory;
 
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 /**
  * Tests for {@link ContentTypeLinkExtractor}.
@@ -76,4 +77,19 @@ public class ContentTypeLinkExtractorTests {
 		verify(extractor).extractLinks(response);
 	}
 
+	@Test
+	public void extractorForMostSpecificContentTypeIsCalled() throws IOException {
+		Map<MediaType, LinkExtractor> extractors = new HashMap<>();
+		LinkExtractor wildcardExtractor = mock(LinkExtractor.class);
+		LinkExtractor halExtractor = mock(LinkExtractor.class);
+		extractors.put(MediaType.parseMediaType("application/*+json"), wildcardExtractor);
+		extractors.put(HalLinkExtractor.HAL_MEDIA_TYPE, halExtractor);
+		HttpHeaders httpHeaders = new HttpHeaders();
+		httpHeaders.setContentType(HalLinkExtractor.HAL_MEDIA_TYPE);
+		OperationResponse response = this.responseFactory.create(HttpStatus.OK.value(), httpHeaders, null);
+		new ContentTypeLinkExtractor(extractors).extractLinks(response);
+		verify(halExtractor).extractLinks(response);
+		verifyNoInteractions(wildcardExtractor);
+	}
+
 }
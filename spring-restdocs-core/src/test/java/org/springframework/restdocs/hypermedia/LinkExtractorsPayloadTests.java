@@ -1,5 +1,5 @@
 /*
- * Copyright 2014-2019 the original author or authors.
+ * Copyright 2014-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -85,6 +85,13 @@ public class LinkExtractorsPayloadTests {
 				new Link("alpha", "https://alpha.example.com/two")), links);
 	}
 
+	@Test
+	public void linksAlongsideOtherContent() throws IOException {
+		Map<String, List<Link>> links = this.linkExtractor
+				.extractLinks(createResponse("links-alongside-other-content"));
+		assertLinks(Arrays.asList(new Link("alpha", "https://alpha.example.com", "Alpha")), links);
+	}
+
 	@Test
 	public void noLinks() throws IOException {
 		Map<String, List<Link>> links = this.linkExtractor.extractLinks(createResponse("no-links"));
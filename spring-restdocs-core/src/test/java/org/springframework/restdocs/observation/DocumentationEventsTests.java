@@ -0,0 +1,148 @@
+/*
+ * Copyright 2014-2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.observation;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.restdocs.RestDocumentationContext;
+import org.springframework.restdocs.generate.RestDocumentationGenerator;
+import org.springframework.restdocs.operation.Operation;
+import org.springframework.restdocs.operation.OperationRequest;
+import org.springframework.restdocs.operation.OperationResponse;
+import org.springframework.restdocs.templates.TemplateFormats;
+import org.springframework.restdocs.testfixtures.OperationBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
+import static org.springframework.restdocs.payload.PayloadDocumentation.requestFields;
+
+/**
+ * Tests for {@link DocumentationEvents}.
+ *
+ * @author agent (agent@local)
+ */
+public class DocumentationEventsTests {
+
+	@Rule
+	public final TemporaryFolder temp = new TemporaryFolder();
+
+	@Rule
+	public OperationBuilder operationBuilder = new OperationBuilder(TemplateFormats.asciidoctor());
+
+	@Test
+	public void completedEventIsRecordedWithOperationSnippetPayloadSizeAndContentType() throws IOException {
+		List<RecordedEvent> events = record(true, "parsing", () -> {
+			DocumentationEvent event = DocumentationEvents.contentParsing();
+			event.complete("parsing", "request-fields", 42, "application/json");
+		}, "org.springframework.restdocs.ContentParsing");
+		assertThat(events).hasSize(1);
+		RecordedEvent event = events.get(0);
+		assertThat(event.getEventType().getName()).isEqualTo("org.springframework.restdocs.ContentParsing");
+		assertThat(event.getString("snippet")).isEqualTo("request-fields");
+		assertThat(event.getLong("payloadSize")).isEqualTo(42);
+		assertThat(event.getString("contentType")).isEqualTo("application/json");
+	}
+
+	@Test
+	public void disabledEventIsNotRecorded() throws IOException {
+		List<RecordedEvent> events = record(false, "writing",
+				() -> DocumentationEvents.snippetWrite().complete("writing", "http-request", 128, "asciidoctor"),
+				"org.springframework.restdocs.SnippetWrite");
+		assertThat(events).isEmpty();
+	}
+
+	@Test
+	public void eventsAreRecordedWhenAnOperationIsDocumented() throws IOException {
+		String requestContent = "{\"a\":\"alpha\"}";
+		String responseContent = "{}";
+		this.operationBuilder.request("http://localhost").content(requestContent).header(HttpHeaders.CONTENT_TYPE,
+				MediaType.APPLICATION_JSON_VALUE);
+		this.operationBuilder.response().content(responseContent).header(HttpHeaders.CONTENT_TYPE,
+				MediaType.APPLICATION_JSON_VALUE);
+		Operation operation = this.operationBuilder.build();
+		RestDocumentationGenerator<OperationRequest, OperationResponse> generator = new RestDocumentationGenerator<>(
+				"recorded-operation", (request) -> request, (response) -> response,
+				requestFields(fieldWithPath("a").description("The a")));
+		List<RecordedEvent> events = record(true, "recorded-operation",
+				() -> generator.handle(operation.getRequest(), operation.getResponse(),
+						new HashMap<>(operation.getAttributes())),
+				"org.springframework.restdocs.Operation", "org.springframework.restdocs.SnippetRendering",
+				"org.springframework.restdocs.ContentParsing", "org.springframework.restdocs.SnippetWrite");
+		assertThat(events).hasSize(4);
+		Map<String, RecordedEvent> eventsByName = events.stream()
+				.collect(Collectors.toMap((event) -> event.getEventType().getName(), Function.identity()));
+		int operationPayloadSize = requestContent.length() + responseContent.length();
+		assertEvent(eventsByName.get("org.springframework.restdocs.Operation"), null, operationPayloadSize,
+				MediaType.APPLICATION_JSON_VALUE);
+		assertEvent(eventsByName.get("org.springframework.restdocs.SnippetRendering"), "request-fields",
+				operationPayloadSize, MediaType.APPLICATION_JSON_VALUE);
+		assertEvent(eventsByName.get("org.springframework.restdocs.ContentParsing"), "request-fields",
+				requestContent.length(), MediaType.APPLICATION_JSON_VALUE);
+		RestDocumentationContext context = (RestDocumentationContext) operation.getAttributes()
+				.get(RestDocumentationContext.class.getName());
+		File snippet = new File(context.getOutputDirectory(), "recorded-operation/request-fields.adoc");
+		assertThat(snippet.length()).isPositive();
+		assertEvent(eventsByName.get("org.springframework.restdocs.SnippetWrite"), "request-fields", snippet.length(),
+				"asciidoctor");
+	}
+
+	private void assertEvent(RecordedEvent event, String snippet, long payloadSize, String contentType) {
+		assertThat(event).isNotNull();
+		assertThat(event.getString("snippet")).isEqualTo(snippet);
+		assertThat(event.getLong("payloadSize")).isEqualTo(payloadSize);
+		assertThat(event.getString("contentType")).isEqualTo(contentType);
+	}
+
+	private List<RecordedEvent> record(boolean enabled, String operation, Runnable action, String... eventNames)
+			throws IOException {
+		Path recordingFile = this.temp.newFile("recording.jfr").toPath();
+		try (Recording recording = new Recording()) {
+			for (String eventName : eventNames) {
+				if (enabled) {
+					recording.enable(eventName);
+				}
+				else {
+					recording.disable(eventName);
+				}
+			}
+			recording.start();
+			action.run();
+			recording.stop();
+			recording.dump(recordingFile);
+		}
+		return RecordingFile.readAllEvents(recordingFile).stream()
+				.filter((event) -> event.hasField("operation") && operation.equals(event.getString("operation")))
+				.toList();
+	}
+
+}
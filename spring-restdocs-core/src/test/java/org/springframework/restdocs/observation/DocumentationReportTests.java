@@ -0,0 +1,144 @@
+/*
+ * Copyright 2014-2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.observation;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import org.springframework.restdocs.RestDocumentationContext;
+import org.springframework.restdocs.operation.Operation;
+import org.springframework.restdocs.snippet.StandardWriterResolver;
+import org.springframework.restdocs.snippet.WriterResolver;
+import org.springframework.restdocs.templates.TemplateEngine;
+import org.springframework.restdocs.templates.TemplateFormats;
+import org.springframework.restdocs.templates.mustache.MustacheTemplateEngine;
+import org.springframework.restdocs.testfixtures.OperationBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link DocumentationReport}.
+ *
+ * @author agent (agent@local)
+ */
+public class DocumentationReportTests {
+
+	@Rule
+	public OperationBuilder operationBuilder = new OperationBuilder(TemplateFormats.asciidoctor());
+
+	@Rule
+	public final TemporaryFolder temp = new TemporaryFolder();
+
+	private final DocumentationReport report = new DocumentationReport(2);
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void slowestOperationsAreListedSlowestFirst() throws IOException {
+		this.report.phaseCompleted(operationPhase("one", 1_000_000));
+		this.report.phaseCompleted(operationPhase("two", 3_000_000));
+		this.report.phaseCompleted(operationPhase("three", 2_000_000));
+		List<Map<String, Object>> slowest = (List<Map<String, Object>>) json().get("slowestOperations");
+		assertThat(slowest).extracting((entry) -> entry.get("operation")).containsExactly("two", "three");
+		assertThat(slowest).extracting((entry) -> entry.get("durationMillis")).containsExactly(3.0, 2.0);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void largestBodiesAreListedLargestFirst() throws IOException {
+		this.operationBuilder.request("http://localhost").content("1234");
+		this.operationBuilder.response().content("123456");
+		this.report.operationDocumented(this.operationBuilder.build());
+		List<Map<String, Object>> largest = (List<Map<String, Object>>) json().get("largestBodies");
+		assertThat(largest).extracting((entry) -> entry.get("type")).containsExactly("response", "request");
+		assertThat(largest).extracting((entry) -> entry.get("bytes")).containsExactly(6, 4);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void snippetsWithMostDescriptorsAreListedFirst() throws IOException {
+		this.report.snippetDocumented(new SnippetObservation("one", "request-fields", 3, null));
+		this.report.snippetDocumented(new SnippetObservation("one", "response-fields", 7, null));
+		this.report.snippetDocumented(new SnippetObservation("two", "links", 5, null));
+		Map<String, Object> json = json();
+		assertThat(json.get("snippets")).isEqualTo(3);
+		List<Map<String, Object>> most = (List<Map<String, Object>>) json.get("mostDescriptors");
+		assertThat(most).extracting((entry) -> entry.get("snippet")).containsExactly("response-fields", "links");
+		assertThat(most).extracting((entry) -> entry.get("descriptors")).containsExactly(7, 5);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void templateCacheAndBytesWrittenAreReported() throws IOException {
+		Operation operation = this.operationBuilder.build();
+		MustacheTemplateEngine templateEngine = (MustacheTemplateEngine) operation.getAttributes()
+				.get(TemplateEngine.class.getName());
+		templateEngine.setObserver(this.report);
+		templateEngine.compileTemplate("links");
+		templateEngine.compileTemplate("links");
+		StandardWriterResolver writerResolver = (StandardWriterResolver) operation.getAttributes()
+				.get(WriterResolver.class.getName());
+		writerResolver.setObserver(this.report);
+		RestDocumentationContext context = (RestDocumentationContext) operation.getAttributes()
+				.get(RestDocumentationContext.class.getName());
+		for (String snippetName : new String[] { "one", "two" }) {
+			try (Writer writer = writerResolver.resolve(operation.getName(), snippetName, context)) {
+				writer.write("test");
+			}
+		}
+		this.report.operationDocumented(operation);
+		Map<String, Object> json = json();
+		assertThat(json.get("operations")).isEqualTo(1);
+		assertThat(json.get("bytesWritten")).isEqualTo(2 * "test".length());
+		Map<String, Object> templateCache = (Map<String, Object>) json.get("templateCache");
+		assertThat(templateCache.get("hits")).isEqualTo(1);
+		assertThat(templateCache.get("misses")).isEqualTo(1);
+		assertThat(templateCache.get("hitRate")).isEqualTo(0.5);
+	}
+
+	@Test
+	public void reportIsWrittenAsJsonAndHtml() throws IOException {
+		this.report.phaseCompleted(operationPhase("<one>", 1_000_000));
+		File directory = this.temp.newFolder();
+		this.report.write(directory);
+		assertThat(new File(directory, "restdocs-report.json")).isFile();
+		assertThat(new File(directory, "restdocs-report.html")).isFile();
+		StringWriter html = new StringWriter();
+		this.report.writeHtml(html);
+		assertThat(html.toString()).contains("<td>&lt;one&gt;</td>");
+	}
+
+	private PhaseObservation operationPhase(String operationName, long durationNanos) {
+		return new PhaseObservation(DocumentationPhase.OPERATION, operationName, null, durationNanos, -1, null);
+	}
+
+	@SuppressWarnings("unchecked")
+	private Map<String, Object> json() throws IOException {
+		StringWriter writer = new StringWriter();
+		this.report.writeJson(writer);
+		return new ObjectMapper().readValue(writer.toString(), Map.class);
+	}
+
+}
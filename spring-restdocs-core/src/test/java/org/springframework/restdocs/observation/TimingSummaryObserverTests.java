@@ -0,0 +1,101 @@
+/*
+ * Copyright 2014-2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.observation;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link TimingSummaryObserver}.
+ *
+ * @author agent (agent@local)
+ */
+public class TimingSummaryObserverTests {
+
+	@Rule
+	public final TemporaryFolder temp = new TemporaryFolder();
+
+	private final TimingSummaryObserver observer = new TimingSummaryObserver(true);
+
+	@Test
+	public void summaryListsPhasesWithMostTimeFirst() throws IOException {
+		this.observer.phaseCompleted(observation(DocumentationPhase.REQUEST_CONVERSION, null, 1_000_000, -1));
+		this.observer.phaseCompleted(observation(DocumentationPhase.TEMPLATE_RENDERING, "http-request", 2_000_000, -1));
+		this.observer.phaseCompleted(observation(DocumentationPhase.TEMPLATE_RENDERING, "http-request", 4_000_000, -1));
+		String[] lines = summary().split(System.lineSeparator());
+		assertThat(lines).hasSize(3);
+		assertThat(lines[0]).startsWith("Phase");
+		assertThat(lines[1]).matches("TEMPLATE_RENDERING\\s+http-request\\s+2\\s+6.000\\s+3.000\\s+4.000\\s+-");
+		assertThat(lines[2]).matches("REQUEST_CONVERSION\\s+-\\s+1\\s+1.000\\s+1.000\\s+1.000\\s+-");
+	}
+
+	@Test
+	public void summaryIncludesSampledAllocations() throws IOException {
+		this.observer.phaseCompleted(observation(DocumentationPhase.MODEL_CREATION, "curl-request", 1_000_000, 2048));
+		this.observer.phaseCompleted(observation(DocumentationPhase.MODEL_CREATION, "curl-request", 1_000_000, 1024));
+		assertThat(summary().split(System.lineSeparator())[1]).endsWith(" 3");
+	}
+
+	@Test
+	public void allocationSamplingCanBeEnabled() {
+		assertThat(new TimingSummaryObserver().isAllocationSamplingEnabled()).isFalse();
+		assertThat(new TimingSummaryObserver(true).isAllocationSamplingEnabled()).isTrue();
+	}
+
+	@Test
+	public void summaryFileIsAlongsideOutputDirectory() {
+		File outputDirectory = new File("build/generated-snippets");
+		assertThat(TimingSummaryObserver.getSummaryFile(outputDirectory))
+				.isEqualTo(new File(new File("build").getAbsoluteFile(), "restdocs-timings.txt"));
+	}
+
+	@Test
+	public void summaryIsWrittenAlongsideOutputDirectory() throws IOException {
+		File outputDirectory = new File(this.temp.getRoot(), "generated-snippets");
+		this.observer.phaseCompleted(observation(DocumentationPhase.REQUEST_CONVERSION, null, 1_000_000, -1));
+		this.observer.write(outputDirectory);
+		File summaryFile = new File(this.temp.getRoot(), "restdocs-timings.txt");
+		assertThat(summaryFile).isFile();
+		assertThat(new String(Files.readAllBytes(summaryFile.toPath()), StandardCharsets.UTF_8)).isEqualTo(summary());
+	}
+
+	@Test
+	public void sharedObserverIsReused() {
+		assertThat(TimingSummaryObserver.shared()).isSameAs(TimingSummaryObserver.shared());
+	}
+
+	private String summary() throws IOException {
+		StringWriter writer = new StringWriter();
+		this.observer.writeSummary(writer);
+		return writer.toString();
+	}
+
+	private PhaseObservation observation(DocumentationPhase phase, String snippetName, long durationNanos,
+			long allocatedBytes) {
+		return new PhaseObservation(phase, "operation", snippetName, durationNanos, allocatedBytes, null);
+	}
+
+}
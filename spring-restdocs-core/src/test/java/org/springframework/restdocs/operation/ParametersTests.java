@@ -1,5 +1,5 @@
 /*
- * Copyright 2014-2018 the original author or authors.
+ * Copyright 2014-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -72,4 +72,10 @@ public class ParametersTests {
 		assertThat(this.parameters.toQueryString()).isEqualTo("a=alpha%26bravo");
 	}
 
+	@Test
+	public void queryStringForParameterWithMultibyteCharacters() {
+		this.parameters.add("a", "\u30b3\u30f3 \u30c6");
+		assertThat(this.parameters.toQueryString()).isEqualTo("a=%E3%82%B3%E3%83%B3+%E3%83%86");
+	}
+
 }
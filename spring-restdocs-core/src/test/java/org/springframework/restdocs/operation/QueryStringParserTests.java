@@ -1,5 +1,5 @@
 /*
- * Copyright 2014-2019 the original author or authors.
+ * Copyright 2014-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -90,4 +90,25 @@ public class QueryStringParserTests {
 		assertThat(parameters).containsEntry("a", Arrays.asList("", "alpha"));
 	}
 
+	@Test
+	public void encodedMultibyteCharacters() {
+		Parameters parameters = this.queryStringParser
+				.parse(URI.create("http://localhost?a=%E3%82%B3%E3%83%B3%E3%83%86%E3%83%B3%E3%83%84"));
+		assertThat(parameters).containsEntry("a", Arrays.asList("\u30b3\u30f3\u30c6\u30f3\u30c4"));
+	}
+
+	@Test
+	public void plusIsDecodedAsSpace() {
+		Parameters parameters = this.queryStringParser.parse(URI.create("http://localhost?a+b=alpha+bravo%2B"));
+		assertThat(parameters).containsEntry("a b", Arrays.asList("alpha bravo+"));
+	}
+
+	@Test
+	public void emptySegmentsAreIgnored() {
+		Parameters parameters = this.queryStringParser.parse(URI.create("http://localhost?&a=alpha&&b=bravo&"));
+		assertThat(parameters.size()).isEqualTo(2);
+		assertThat(parameters).containsEntry("a", Arrays.asList("alpha"));
+		assertThat(parameters).containsEntry("b", Arrays.asList("bravo"));
+	}
+
 }
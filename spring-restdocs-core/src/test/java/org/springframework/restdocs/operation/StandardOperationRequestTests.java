@@ -0,0 +1,77 @@
+/*
+ * Copyright 2014-2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.operation;
+
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Tests for {@link StandardOperationRequest}.
+ *
+ * @author agent (agent@local)
+ */
+public class StandardOperationRequestTests {
+
+	@Test
+	public void uniqueParametersExcludeThoseInTheQueryString() {
+		Parameters parameters = new Parameters();
+		parameters.add("a", "alpha");
+		parameters.add("a", "apple");
+		parameters.add("b", "bravo");
+		OperationRequest request = createRequest(URI.create("http://localhost?a=alpha"), parameters);
+		assertThat(request.getUniqueParameters()).containsEntry("a", Arrays.asList("apple"))
+				.containsEntry("b", Arrays.asList("bravo")).hasSize(2);
+	}
+
+	@Test
+	public void uniqueParametersAreOnlyComputedOnce() {
+		Parameters parameters = new Parameters();
+		parameters.add("a", "alpha");
+		OperationRequest request = createRequest(URI.create("http://localhost?b=bravo"), parameters);
+		assertThat(request.getUniqueParameters()).isSameAs(request.getUniqueParameters());
+	}
+
+	@Test
+	public void uniqueParametersCannotBeModified() {
+		Parameters parameters = new Parameters();
+		parameters.add("a", "alpha");
+		OperationRequest request = createRequest(URI.create("http://localhost?b=bravo"), parameters);
+		Parameters uniqueParameters = request.getUniqueParameters();
+		assertThatExceptionOfType(UnsupportedOperationException.class)
+				.isThrownBy(() -> uniqueParameters.add("c", "charlie"));
+		assertThatExceptionOfType(UnsupportedOperationException.class)
+				.isThrownBy(() -> uniqueParameters.get("a").add("apple"));
+		assertThatExceptionOfType(UnsupportedOperationException.class)
+				.isThrownBy(() -> uniqueParameters.entrySet().clear());
+		assertThat(uniqueParameters).containsOnlyKeys("a");
+	}
+
+	private OperationRequest createRequest(URI uri, Parameters parameters) {
+		return new StandardOperationRequest(uri, HttpMethod.GET, new byte[0], new HttpHeaders(), parameters,
+				Collections.emptyList(), Collections.emptyList());
+	}
+
+}
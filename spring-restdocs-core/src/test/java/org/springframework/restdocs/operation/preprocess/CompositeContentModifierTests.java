@@ -0,0 +1,68 @@
+/*
+ * Copyright 2014-2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.operation.preprocess;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.regex.Pattern;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link CompositeContentModifier}.
+ *
+ * @author agent (agent@local)
+ */
+public class CompositeContentModifierTests {
+
+	@Test
+	public void modifiersAreAppliedInOrder() {
+		CompositeContentModifier contentModifier = new CompositeContentModifier(
+				Arrays.asList(new PatternReplacingContentModifier(Pattern.compile("a"), "b"),
+						new PatternReplacingContentModifier(Pattern.compile("b"), "c")));
+		assertThat(contentModifier.modifyContent("abc".getBytes(), null)).isEqualTo("ccc".getBytes());
+	}
+
+	@Test
+	public void textModifiersAreAppliedAroundOtherModifiers() {
+		CompositeContentModifier contentModifier = new CompositeContentModifier(
+				Arrays.asList(new PatternReplacingContentModifier(Pattern.compile("[0-9]+"), "\"n\""),
+						new PrettyPrintingContentModifier(), new LinkMaskingContentModifier()));
+		assertThat(contentModifier.modifyContent("{\"a\":1,\"href\":\"https://example.com\"}".getBytes(), null))
+				.isEqualTo(String.format("{%n  \"a\" : \"n\",%n  \"href\" : \"...\"%n}").getBytes());
+	}
+
+	@Test
+	public void textModifiersWithDifferentCharsetsAreApplied() {
+		CompositeContentModifier contentModifier = new CompositeContentModifier(Arrays.asList(
+				new PatternReplacingContentModifier(Pattern.compile("[0-9]+"), "<<number>>", StandardCharsets.UTF_8),
+				new PatternReplacingContentModifier(Pattern.compile("<<"), "[", StandardCharsets.US_ASCII)));
+		assertThat(contentModifier.modifyContent("abc 123".getBytes(), null)).isEqualTo("abc [number>>".getBytes());
+	}
+
+	@Test
+	public void contentThatIsNotModifiedIsReturnedAsIs() {
+		byte[] content = "abc".getBytes();
+		CompositeContentModifier contentModifier = new CompositeContentModifier(
+				Arrays.asList(new PatternReplacingContentModifier(Pattern.compile("[0-9]+"), "n"),
+						new LinkMaskingContentModifier()));
+		assertThat(contentModifier.modifyContent(content, null)).isSameAs(content);
+	}
+
+}
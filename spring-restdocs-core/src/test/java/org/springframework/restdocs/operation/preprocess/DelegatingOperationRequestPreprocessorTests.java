@@ -1,5 +1,5 @@
 /*
- * Copyright 2014-2019 the original author or authors.
+ * Copyright 2014-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,15 +16,27 @@
 
 package org.springframework.restdocs.operation.preprocess;
 
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.regex.Pattern;
 
 import org.junit.Test;
 
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
 import org.springframework.restdocs.operation.OperationRequest;
+import org.springframework.restdocs.operation.OperationRequestFactory;
+import org.springframework.restdocs.operation.Parameters;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 /**
  * Tests for {@link DelegatingOperationRequestPreprocessor}.
@@ -53,4 +65,40 @@ public class DelegatingOperationRequestPreprocessorTests {
 		assertThat(result).isSameAs(preprocessedRequest3);
 	}
 
+	@Test
+	public void consecutiveContentModifyingPreprocessorsAreFused() {
+		TextContentModifier modifier1 = mock(TextContentModifier.class);
+		given(modifier1.getCharset(MediaType.APPLICATION_JSON)).willReturn(StandardCharsets.UTF_8);
+		given(modifier1.modifyText("{\"id\":1}")).willReturn("{\"id\":2}");
+		TextContentModifier modifier2 = mock(TextContentModifier.class);
+		given(modifier2.getCharset(MediaType.APPLICATION_JSON)).willReturn(StandardCharsets.UTF_8);
+		given(modifier2.modifyText("{\"id\":2}")).willReturn("{\"id\":3}");
+		HttpHeaders headers = new HttpHeaders();
+		headers.setContentType(MediaType.APPLICATION_JSON);
+		OperationRequest originalRequest = new OperationRequestFactory().create(URI.create("http://localhost"),
+				HttpMethod.POST, "{\"id\":1}".getBytes(), headers, new Parameters(), Collections.emptyList());
+		OperationRequest result = new DelegatingOperationRequestPreprocessor(
+				Arrays.asList(new ContentModifyingOperationPreprocessor(modifier1),
+						new ContentModifyingOperationPreprocessor(modifier2)))
+								.preprocess(originalRequest);
+		assertThat(result.getContentAsString()).isEqualTo("{\"id\":3}");
+		verify(modifier1, never()).modifyContent(any(), any());
+		verify(modifier2, never()).modifyContent(any(), any());
+	}
+
+	@Test
+	public void fusedPreprocessorsAreAppliedInOrder() {
+		HttpHeaders headers = new HttpHeaders();
+		headers.add("a", "alpha");
+		OperationRequest originalRequest = new OperationRequestFactory().create(URI.create("http://localhost"),
+				HttpMethod.POST, "{\"id\":1,\"href\":\"https://example.com\"}".getBytes(), headers,
+				new Parameters(), Collections.emptyList());
+		OperationRequest result = new DelegatingOperationRequestPreprocessor(
+				Arrays.asList(Preprocessors.replacePattern(Pattern.compile("[0-9]+"), "2"), Preprocessors.maskLinks(),
+						Preprocessors.removeHeaders("a"), Preprocessors.replacePattern(Pattern.compile("2"), "3")))
+								.preprocess(originalRequest);
+		assertThat(result.getContentAsString()).isEqualTo("{\"id\":3,\"href\":\"...\"}");
+		assertThat(result.getHeaders()).doesNotContainKey("a");
+	}
+
 }
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2014-2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.operation.preprocess;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import org.junit.Test;
+
+import org.springframework.http.MediaType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * Tests for {@link MultiPatternReplacingContentModifier}.
+ *
+ * @author agent (agent@local)
+ */
+public class MultiPatternReplacingContentModifierTests {
+
+	@Test
+	public void allPatternsAreReplaced() {
+		Map<Pattern, String> replacements = new LinkedHashMap<>();
+		replacements.put(Pattern.compile("[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}",
+				Pattern.CASE_INSENSITIVE), "<<uuid>>");
+		replacements.put(Pattern.compile("[0-9]{4}-[0-9]{2}-[0-9]{2}"), "<<date>>");
+		MultiPatternReplacingContentModifier contentModifier = new MultiPatternReplacingContentModifier(replacements);
+		assertThat(contentModifier.modifyContent(
+				"{\"id\":\"CA761232-ED42-11CE-BACD-00AA0057B223\",\"created\":\"2022-01-31\"}".getBytes(), null))
+						.isEqualTo("{\"id\":\"<<uuid>>\",\"created\":\"<<date>>\"}".getBytes());
+	}
+
+	@Test
+	public void firstGroupOfPatternWithCapturingGroupIsReplaced() {
+		Map<Pattern, String> replacements = new LinkedHashMap<>();
+		replacements.put(Pattern.compile("\"token\":\"(.*?)\""), "...");
+		replacements.put(Pattern.compile("(a)(b)"), "x");
+		replacements.put(Pattern.compile("c"), "y");
+		MultiPatternReplacingContentModifier contentModifier = new MultiPatternReplacingContentModifier(replacements);
+		assertThat(contentModifier.modifyContent("{\"token\":\"secret\",\"abc\":1}".getBytes(), null))
+				.isEqualTo("{\"token\":\"...\",\"xby\":1}".getBytes());
+	}
+
+	@Test
+	public void firstMatchingPatternIsReplaced() {
+		Map<Pattern, String> replacements = new LinkedHashMap<>();
+		replacements.put(Pattern.compile("ab"), "1");
+		replacements.put(Pattern.compile("abc"), "2");
+		MultiPatternReplacingContentModifier contentModifier = new MultiPatternReplacingContentModifier(replacements);
+		assertThat(contentModifier.modifyContent("abc".getBytes(), null)).isEqualTo("1c".getBytes());
+	}
+
+	@Test
+	public void patternFlagsAreHonored() {
+		Map<Pattern, String> replacements = new LinkedHashMap<>();
+		replacements.put(Pattern.compile("alpha", Pattern.CASE_INSENSITIVE), "a");
+		replacements.put(Pattern.compile("bravo"), "b");
+		replacements.put(Pattern.compile("c.d", Pattern.LITERAL), "c");
+		MultiPatternReplacingContentModifier contentModifier = new MultiPatternReplacingContentModifier(replacements);
+		assertThat(contentModifier.modifyContent("ALPHA BRAVO bravo c.d cxd".getBytes(), null))
+				.isEqualTo("a BRAVO b c cxd".getBytes());
+	}
+
+	@Test
+	public void contentThatDoesNotMatchIsUnchanged() {
+		MultiPatternReplacingContentModifier contentModifier = new MultiPatternReplacingContentModifier(
+				Collections.singletonMap(Pattern.compile("[0-9]+"), "<<number>>"));
+		byte[] content = "{\"id\" : \"abc\"}".getBytes();
+		assertThat(contentModifier.modifyContent(content, null)).isEqualTo(content);
+	}
+
+	@Test
+	public void patternWithBackReferenceIsRejected() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new MultiPatternReplacingContentModifier(
+				Collections.singletonMap(Pattern.compile("(a)\\1"), "b")));
+	}
+
+	@Test
+	public void patternWithNamedBackReferenceIsRejected() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new MultiPatternReplacingContentModifier(
+				Collections.singletonMap(Pattern.compile("(?<a>a)\\k<a>"), "b")));
+	}
+
+	@Test
+	public void patternWithEscapedBackslashFollowedByDigitIsCombined() {
+		Map<Pattern, String> replacements = new LinkedHashMap<>();
+		replacements.put(Pattern.compile("C:\\\\1"), "<<path>>");
+		replacements.put(Pattern.compile("\\Q\\1\\E[\\\\]2"), "<<quoted>>");
+		MultiPatternReplacingContentModifier contentModifier = new MultiPatternReplacingContentModifier(replacements);
+		assertThat(contentModifier.modifyContent("C:\\1 \\1\\2".getBytes(), null))
+				.isEqualTo("<<path>> <<quoted>>".getBytes());
+	}
+
+	@Test
+	public void namedGroupsAreCombined() {
+		Map<Pattern, String> replacements = new LinkedHashMap<>();
+		replacements.put(Pattern.compile("(?<first>a)b"), "x");
+		replacements.put(Pattern.compile("(?<second>c)d"), "y");
+		replacements.put(Pattern.compile("[(?<first>)]"), "z");
+		MultiPatternReplacingContentModifier contentModifier = new MultiPatternReplacingContentModifier(replacements);
+		assertThat(contentModifier.modifyContent("ab cd ?".getBytes(), null)).isEqualTo("xb yd z".getBytes());
+	}
+
+	@Test
+	public void patternsWithDuplicateGroupNamesAreRejected() {
+		Map<Pattern, String> replacements = new LinkedHashMap<>();
+		replacements.put(Pattern.compile("(?<id>[0-9]+)"), "<<id>>");
+		replacements.put(Pattern.compile("id=(?<id>[a-z]+)"), "<<id>>");
+		assertThatIllegalArgumentException().isThrownBy(() -> new MultiPatternReplacingContentModifier(replacements))
+				.withMessageContaining("'id=(?<id>[a-z]+)'").withMessageContaining("'id'");
+	}
+
+	@Test
+	public void encodingIsPreservedUsingCharsetFromContentType() {
+		String japaneseContent = "\u30b3\u30f3\u30c6\u30f3\u30c4";
+		MultiPatternReplacingContentModifier contentModifier = new MultiPatternReplacingContentModifier(
+				Collections.singletonMap(Pattern.compile("[0-9]+"), "<<number>>"));
+		assertThat(contentModifier.modifyContent((japaneseContent + " 123").getBytes(),
+				new MediaType("text", "plain", Charset.forName("UTF-8"))))
+						.isEqualTo((japaneseContent + " <<number>>").getBytes());
+	}
+
+	@Test
+	public void encodingIsPreservedUsingFallbackCharset() {
+		String japaneseContent = "\u30b3\u30f3\u30c6\u30f3\u30c4";
+		MultiPatternReplacingContentModifier contentModifier = new MultiPatternReplacingContentModifier(
+				Collections.singletonMap(Pattern.compile("[0-9]+"), "<<number>>"), StandardCharsets.UTF_8);
+		assertThat(contentModifier.modifyContent((japaneseContent + " 123").getBytes(), new MediaType("text", "plain")))
+				.isEqualTo((japaneseContent + " <<number>>").getBytes());
+	}
+
+}
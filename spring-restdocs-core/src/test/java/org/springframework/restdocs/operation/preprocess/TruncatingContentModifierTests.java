@@ -0,0 +1,90 @@
+/*
+ * Copyright 2014-2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.operation.preprocess;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link TruncatingContentModifier}.
+ *
+ * @author agent (agent@local)
+ */
+public class TruncatingContentModifierTests {
+
+	@Test
+	public void jsonArrayIsTruncated() {
+		assertThat(new TruncatingContentModifier(2).modifyContent("[1,2,3,4]".getBytes(), null))
+				.isEqualTo("[1,2,\"...\"]".getBytes());
+	}
+
+	@Test
+	public void nestedJsonArraysAreTruncated() {
+		assertThat(new TruncatingContentModifier(1)
+				.modifyContent("{\"a\":[{\"b\":[1,2]},{\"b\":[3]}],\"c\":true}".getBytes(), null))
+						.isEqualTo("{\"a\":[{\"b\":[1,\"...\"]},\"...\"],\"c\":true}".getBytes());
+	}
+
+	@Test
+	public void jsonArrayWithinLimitIsUnchanged() {
+		assertThat(new TruncatingContentModifier(2).modifyContent("[1,2]".getBytes(), null))
+				.isEqualTo("[1,2]".getBytes());
+	}
+
+	@Test
+	public void longJsonStringsAreTruncated() {
+		assertThat(new TruncatingContentModifier(10, 3)
+				.modifyContent("{\"name\":\"abcdef\",\"id\":\"abc\"}".getBytes(), null))
+						.isEqualTo("{\"name\":\"abc...\",\"id\":\"abc\"}".getBytes());
+	}
+
+	@Test
+	public void xmlSiblingsAreTruncated() {
+		assertThat(new String(new TruncatingContentModifier(2)
+				.modifyContent("<a><b>1</b><b>2</b><b>3</b><b><c/></b></a>".getBytes(), null), StandardCharsets.UTF_8))
+						.endsWith("<a><b>1</b><b>2</b><!-- ... --></a>");
+	}
+
+	@Test
+	public void longXmlTextIsTruncated() {
+		assertThat(new String(new TruncatingContentModifier(10, 3).modifyContent("<a>abcdef</a>".getBytes(), null),
+				StandardCharsets.UTF_8)).endsWith("<a>abc...</a>");
+	}
+
+	@Test
+	public void emptyContentIsHandledGracefully() {
+		assertThat(new TruncatingContentModifier(1).modifyContent("".getBytes(), null)).isEqualTo("".getBytes());
+	}
+
+	@Test
+	public void nonJsonAndNonXmlContentIsHandledGracefully() {
+		String content = "abcdefg";
+		assertThat(new TruncatingContentModifier(1).modifyContent(content.getBytes(), null))
+				.isEqualTo(content.getBytes());
+	}
+
+	@Test
+	public void nonJsonContentThatInitiallyLooksLikeJsonIsHandledGracefully() {
+		String content = "\"abc\",\"def\"";
+		assertThat(new TruncatingContentModifier(1).modifyContent(content.getBytes(), null))
+				.isEqualTo(content.getBytes());
+	}
+
+}
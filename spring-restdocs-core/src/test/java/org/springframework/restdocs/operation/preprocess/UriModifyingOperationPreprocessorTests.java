@@ -1,5 +1,5 @@
 /*
- * Copyright 2014-2019 the original author or authors.
+ * Copyright 2014-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,6 +17,7 @@
 package org.springframework.restdocs.operation.preprocess;
 
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -26,6 +27,7 @@ import org.junit.Test;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.restdocs.operation.OperationRequest;
 import org.springframework.restdocs.operation.OperationRequestFactory;
 import org.springframework.restdocs.operation.OperationRequestPart;
@@ -270,6 +272,27 @@ public class UriModifyingOperationPreprocessorTests {
 				.isEqualTo("The uri 'https://api.example.com:12345' should be used");
 	}
 
+	@Test
+	public void binaryResponseContentIsNotModified() {
+		HttpHeaders headers = new HttpHeaders();
+		headers.setContentType(MediaType.IMAGE_PNG);
+		byte[] content = "http://localhost:12345".getBytes();
+		OperationResponse processed = this.preprocessor.host("api.example.com")
+				.preprocess(this.responseFactory.create(HttpStatus.OK.value(), headers, content));
+		assertThat(processed.getContent()).isEqualTo(content);
+	}
+
+	@Test
+	public void responseContentIsModifiedUsingCharsetFromContentType() {
+		HttpHeaders headers = new HttpHeaders();
+		headers.setContentType(new MediaType("text", "plain", StandardCharsets.UTF_16));
+		String content = "\u30b3\u30f3\u30c6\u30f3\u30c4 http://localhost:12345";
+		OperationResponse processed = this.preprocessor.host("api.example.com").preprocess(
+				this.responseFactory.create(HttpStatus.OK.value(), headers, content.getBytes(StandardCharsets.UTF_16)));
+		assertThat(new String(processed.getContent(), StandardCharsets.UTF_16))
+				.isEqualTo("\u30b3\u30f3\u30c6\u30f3\u30c4 http://api.example.com:12345");
+	}
+
 	@Test
 	public void modifiedUriDoesNotGetDoubleEncoded() {
 		this.preprocessor.scheme("https");
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2014-2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.request;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link UrlTemplate}.
+ *
+ * @author agent (agent@local)
+ */
+public class UrlTemplateTests {
+
+	@Test
+	public void templateWithoutParameters() {
+		UrlTemplate template = UrlTemplate.of("/a/b");
+		assertThat(template.getPath()).isEqualTo("/a/b");
+		assertThat(template.getParameterNames()).isEmpty();
+	}
+
+	@Test
+	public void templateWithParameters() {
+		UrlTemplate template = UrlTemplate.of("/{a}/b/{c}");
+		assertThat(template.getParameterNames()).containsExactly("a", "c");
+	}
+
+	@Test
+	public void queryStringIsRemovedFromPath() {
+		UrlTemplate template = UrlTemplate.of("/{a}?b={c}");
+		assertThat(template.getPath()).isEqualTo("/{a}");
+		assertThat(template.getParameterNames()).containsExactly("a");
+	}
+
+	@Test
+	public void parameterConstraintsAreRemovedFromNames() {
+		UrlTemplate template = UrlTemplate.of("/{a:[0-9]+}/{b}");
+		assertThat(template.getParameterNames()).containsExactly("a", "b");
+	}
+
+	@Test
+	public void repeatedParameterIsNamedOnce() {
+		UrlTemplate template = UrlTemplate.of("/{id}/x/{id}");
+		assertThat(template.getParameterNames()).containsExactly("id");
+	}
+
+	@Test
+	public void templatesAreCached() {
+		assertThat(UrlTemplate.of("/{a}/{b}")).isSameAs(UrlTemplate.of("/{a}/{b}"));
+	}
+
+}
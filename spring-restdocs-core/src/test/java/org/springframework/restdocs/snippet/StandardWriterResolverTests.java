@@ -1,5 +1,5 @@
 /*
- * Copyright 2014-2019 the original author or authors.
+ * Copyright 2014-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -27,6 +27,7 @@ import org.junit.rules.TemporaryFolder;
 
 import org.springframework.restdocs.ManualRestDocumentation;
 import org.springframework.restdocs.RestDocumentationContext;
+import org.springframework.restdocs.observation.DocumentationObserver;
 import org.springframework.restdocs.templates.TemplateFormats;
 import org.springframework.util.FileCopyUtils;
 import org.springframework.util.PropertyPlaceholderHelper.PlaceholderResolver;
@@ -34,6 +35,7 @@ import org.springframework.util.PropertyPlaceholderHelper.PlaceholderResolver;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 
 /**
  * Tests for {@link StandardWriterResolver}.
@@ -94,6 +96,23 @@ public class StandardWriterResolverTests {
 		assertSnippetLocation(writer, new File(outputDirectory, "alpha/bravo.adoc"));
 	}
 
+	@Test
+	public void observerIsNotifiedOfTheBytesWrittenForEachSnippet() throws IOException {
+		File outputDirectory = this.temp.newFolder();
+		RestDocumentationContext context = createContext(outputDirectory.getAbsolutePath());
+		given(this.placeholderResolverFactory.create(context)).willReturn(mock(PlaceholderResolver.class));
+		DocumentationObserver observer = mock(DocumentationObserver.class);
+		this.resolver.setObserver(observer);
+		try (Writer writer = this.resolver.resolve("alpha", "bravo", context)) {
+			writer.write("caf\u00e9");
+		}
+		try (Writer writer = this.resolver.resolve("alpha", "charlie", context)) {
+			writer.write("test");
+		}
+		verify(observer).snippetWritten("alpha", "bravo", 5);
+		verify(observer).snippetWritten("alpha", "charlie", 4);
+	}
+
 	private RestDocumentationContext createContext(String outputDir) {
 		ManualRestDocumentation manualRestDocumentation = new ManualRestDocumentation(outputDir);
 		manualRestDocumentation.beforeTest(getClass(), null);
@@ -1,5 +1,5 @@
 /*
- * Copyright 2014-2021 the original author or authors.
+ * Copyright 2014-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,19 +17,39 @@
 package org.springframework.restdocs.snippet;
 
 import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.junit.Rule;
 import org.junit.Test;
 
+import org.springframework.restdocs.observation.DocumentationObserver;
+import org.springframework.restdocs.observation.DocumentationPhase;
+import org.springframework.restdocs.observation.PhaseObservation;
 import org.springframework.restdocs.operation.Operation;
+import org.springframework.restdocs.templates.Template;
+import org.springframework.restdocs.templates.TemplateEngine;
 import org.springframework.restdocs.templates.TemplateFormats;
 import org.springframework.restdocs.testfixtures.GeneratedSnippets;
 import org.springframework.restdocs.testfixtures.OperationBuilder;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIOException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 /**
  * Tests for {@link TemplatedSnippet}.
@@ -73,6 +93,81 @@ public class TemplatedSnippetTests {
 		assertThat(this.snippets.snippet("multiple-snippets-two")).isNotNull();
 	}
 
+	@Test
+	public void templateIsRenderedDirectlyToTheSnippetWriter() throws IOException {
+		Template template = mock(Template.class);
+		TemplateEngine templateEngine = mock(TemplateEngine.class);
+		given(templateEngine.compileTemplate("test")).willReturn(template);
+		new TestTemplatedSnippet(Collections.<String, Object>emptyMap())
+				.document(this.operationBuilder.attribute(TemplateEngine.class.getName(), templateEngine).build());
+		verify(template).render(anyMap(), any(Writer.class));
+		verifyNoMoreInteractions(template);
+	}
+
+	@Test
+	public void modelIsAlsoRenderedInAdditionalFormats() throws IOException {
+		Template template = mock(Template.class);
+		TemplateEngine templateEngine = mock(TemplateEngine.class);
+		given(templateEngine.compileTemplate("test")).willReturn(template);
+		StringWriter writer = new StringWriter();
+		WriterResolver writerResolver = mock(WriterResolver.class);
+		given(writerResolver.resolve(any(), eq("test"), any())).willReturn(writer);
+		AdditionalSnippetFormat html = new AdditionalSnippetFormat(TemplateFormats.html(), templateEngine,
+				writerResolver, (templateName) -> true);
+		Map<String, Object> attributes = Collections.singletonMap("a", "alpha");
+		new TestTemplatedSnippet(attributes).document(this.operationBuilder
+				.attribute(TemplateEngine.class.getName(), templateEngine)
+				.attribute(AdditionalSnippetFormat.class.getName(), Collections.singletonList(html)).build());
+		verify(template, times(2)).render(eq(attributes), any(Writer.class));
+		verify(template).render(attributes, writer);
+	}
+
+	@Test
+	public void modelIsNotRenderedInAdditionalFormatsWithoutATemplate() throws IOException {
+		Template template = mock(Template.class);
+		TemplateEngine templateEngine = mock(TemplateEngine.class);
+		given(templateEngine.compileTemplate("test")).willReturn(template);
+		TemplateEngine htmlTemplateEngine = mock(TemplateEngine.class);
+		WriterResolver htmlWriterResolver = mock(WriterResolver.class);
+		AdditionalSnippetFormat html = new AdditionalSnippetFormat(TemplateFormats.html(), htmlTemplateEngine,
+				htmlWriterResolver, (templateName) -> false);
+		new TestTemplatedSnippet(Collections.<String, Object>emptyMap()).document(this.operationBuilder
+				.attribute(TemplateEngine.class.getName(), templateEngine)
+				.attribute(AdditionalSnippetFormat.class.getName(), Collections.singletonList(html)).build());
+		verify(template).render(anyMap(), any(Writer.class));
+		verifyNoInteractions(htmlTemplateEngine, htmlWriterResolver);
+	}
+
+	@Test
+	public void phasesAreObservedWhenObserverIsConfigured() throws IOException {
+		TemplateEngine templateEngine = mock(TemplateEngine.class);
+		given(templateEngine.compileTemplate("test")).willReturn(mock(Template.class));
+		List<PhaseObservation> observations = new ArrayList<>();
+		new TestTemplatedSnippet(Collections.<String, Object>emptyMap())
+				.document(this.operationBuilder.attribute(TemplateEngine.class.getName(), templateEngine)
+						.attribute(DocumentationObserver.class.getName(), (DocumentationObserver) observations::add)
+						.build());
+		assertThat(observations).extracting(PhaseObservation::getPhase).containsExactly(
+				DocumentationPhase.MODEL_CREATION, DocumentationPhase.TEMPLATE_RENDERING, DocumentationPhase.SNIPPET);
+		assertThat(observations).extracting(PhaseObservation::getSnippetName).containsOnly("test");
+		assertThat(observations).extracting(PhaseObservation::getContext).doesNotContainNull();
+	}
+
+	@Test
+	public void snippetPhaseIsObservedWhenRenderingFails() throws IOException {
+		Template template = mock(Template.class);
+		willThrow(new IOException()).given(template).render(anyMap(), any(Writer.class));
+		TemplateEngine templateEngine = mock(TemplateEngine.class);
+		given(templateEngine.compileTemplate("test")).willReturn(template);
+		List<PhaseObservation> observations = new ArrayList<>();
+		Operation operation = this.operationBuilder.attribute(TemplateEngine.class.getName(), templateEngine)
+				.attribute(DocumentationObserver.class.getName(), (DocumentationObserver) observations::add).build();
+		assertThatIOException()
+				.isThrownBy(() -> new TestTemplatedSnippet(Collections.<String, Object>emptyMap()).document(operation));
+		assertThat(observations).extracting(PhaseObservation::getPhase).containsExactly(
+				DocumentationPhase.MODEL_CREATION, DocumentationPhase.SNIPPET);
+	}
+
 	private static class TestTemplatedSnippet extends TemplatedSnippet {
 
 		protected TestTemplatedSnippet(String snippetName, String templateName) {
@@ -102,6 +102,66 @@ public class StandardTemplateResourceResolverTests {
 				.withMessage("Template named 'test' could not be resolved");
 	}
 
+	@Test
+	public void resolvedTemplateIsCachedForClassLoader() throws Exception {
+		this.classLoader.addResource("org/springframework/restdocs/templates/asciidoctor/default-test.snippet",
+				getClass().getResource("test-default.snippet"));
+		doWithThreadContextClassLoader(this.classLoader, () -> this.resolver.resolveTemplateResource("test"));
+		this.classLoader.addResource("org/springframework/restdocs/templates/test.snippet",
+				getClass().getResource("test-custom.snippet"));
+		Resource snippet = doWithThreadContextClassLoader(this.classLoader,
+				() -> this.resolver.resolveTemplateResource("test"));
+		assertThat(snippet.getURL()).isEqualTo(getClass().getResource("test-default.snippet"));
+		assertThatIllegalStateException().isThrownBy(() -> doWithThreadContextClassLoader(new TestClassLoader(),
+				() -> this.resolver.resolveTemplateResource("test")));
+	}
+
+	@Test
+	public void failureToResolveTemplateIsCachedForClassLoader() throws Exception {
+		assertThatIllegalStateException().isThrownBy(() -> doWithThreadContextClassLoader(this.classLoader,
+				() -> this.resolver.resolveTemplateResource("test")));
+		this.classLoader.addResource("org/springframework/restdocs/templates/asciidoctor/default-test.snippet",
+				getClass().getResource("test-default.snippet"));
+		assertThatIllegalStateException().isThrownBy(() -> doWithThreadContextClassLoader(this.classLoader,
+				() -> this.resolver.resolveTemplateResource("test")));
+	}
+
+	@Test
+	public void defaultTemplateIsIdentified() throws Exception {
+		StandardTemplateResourceResolver resolver = new StandardTemplateResourceResolver(
+				TemplateFormats.asciidoctor());
+		this.classLoader.addResource("org/springframework/restdocs/templates/asciidoctor/default-test.snippet",
+				getClass().getResource("test-default.snippet"));
+		assertThat(doWithThreadContextClassLoader(this.classLoader, () -> resolver.hasTemplateResource("test")))
+				.isTrue();
+		assertThat(doWithThreadContextClassLoader(this.classLoader, () -> resolver.isDefaultTemplateResource("test")))
+				.isTrue();
+	}
+
+	@Test
+	public void customTemplateIsNotIdentifiedAsADefaultTemplate() throws Exception {
+		StandardTemplateResourceResolver resolver = new StandardTemplateResourceResolver(
+				TemplateFormats.asciidoctor());
+		this.classLoader.addResource("org/springframework/restdocs/templates/test.snippet",
+				getClass().getResource("test-custom.snippet"));
+		this.classLoader.addResource("org/springframework/restdocs/templates/asciidoctor/default-test.snippet",
+				getClass().getResource("test-default.snippet"));
+		assertThat(doWithThreadContextClassLoader(this.classLoader, () -> resolver.hasTemplateResource("test")))
+				.isTrue();
+		assertThat(doWithThreadContextClassLoader(this.classLoader, () -> resolver.isDefaultTemplateResource("test")))
+				.isFalse();
+	}
+
+	@Test
+	public void missingTemplateIsIdentified() throws Exception {
+		StandardTemplateResourceResolver resolver = new StandardTemplateResourceResolver(
+				TemplateFormats.asciidoctor());
+		assertThat(doWithThreadContextClassLoader(this.classLoader, () -> resolver.hasTemplateResource("test")))
+				.isFalse();
+		assertThat(doWithThreadContextClassLoader(this.classLoader, () -> resolver.isDefaultTemplateResource("test")))
+				.isFalse();
+	}
+
 	private <T> T doWithThreadContextClassLoader(ClassLoader classLoader, Callable<T> action) throws Exception {
 		ClassLoader previous = Thread.currentThread().getContextClassLoader();
 		Thread.currentThread().setContextClassLoader(classLoader);
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2014-2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.templates.mustache;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+import org.springframework.restdocs.observation.DocumentationObserver;
+import org.springframework.restdocs.templates.StandardTemplateResourceResolver;
+import org.springframework.restdocs.templates.Template;
+import org.springframework.restdocs.templates.TemplateFormats;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests for {@link MustacheTemplateEngine}.
+ *
+ * @author agent (agent@local)
+ */
+public class MustacheTemplateEngineTests {
+
+	private final MustacheTemplateEngine engine = new MustacheTemplateEngine(
+			new StandardTemplateResourceResolver(TemplateFormats.asciidoctor()));
+
+	@Test
+	public void compiledTemplatesAreCached() throws IOException {
+		assertThat(this.engine.compileTemplate("links")).isSameAs(this.engine.compileTemplate("links"));
+	}
+
+	@Test
+	public void observerIsNotifiedOfTemplateCacheHitsAndMisses() throws IOException {
+		DocumentationObserver observer = mock(DocumentationObserver.class);
+		this.engine.setObserver(observer);
+		this.engine.compileTemplate("links");
+		this.engine.compileTemplate("links");
+		this.engine.compileTemplate("links");
+		this.engine.compileTemplate("http-request");
+		verify(observer).templateCacheAccessed("links", false);
+		verify(observer, times(2)).templateCacheAccessed("links", true);
+		verify(observer).templateCacheAccessed("http-request", false);
+	}
+
+	@Test
+	public void renderingToAWriterProducesTheSameOutputAsRenderingToAString() throws IOException {
+		Map<String, Object> model = new HashMap<>();
+		model.put("method", "POST");
+		model.put("path", "/foo");
+		model.put("headers", Arrays.asList(header("Host", "localhost"), header("Content-Type", "text/plain")));
+		model.put("requestBody", "bar");
+		Template template = this.engine.compileTemplate("http-request");
+		StringWriter writer = new StringWriter();
+		template.render(model, writer);
+		assertThat(writer.toString()).isEqualTo(template.render(model));
+	}
+
+	private static Map<String, Object> header(String name, String value) {
+		Map<String, Object> header = new HashMap<>();
+		header.put("name", name);
+		header.put("value", value);
+		return header;
+	}
+
+}
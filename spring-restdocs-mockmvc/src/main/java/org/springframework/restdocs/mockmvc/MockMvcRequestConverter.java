@@ -1,5 +1,5 @@
 /*
- * Copyright 2014-2019 the original author or authors.
+ * Copyright 2014-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,12 +17,12 @@
 package org.springframework.restdocs.mockmvc;
 
 import java.io.IOException;
-import java.io.PrintWriter;
-import java.io.StringWriter;
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Enumeration;
 import java.util.List;
 import java.util.Map.Entry;
 
@@ -48,7 +48,9 @@ import org.springframework.web.multipart.MultipartFile;
 
 /**
  * A converter for creating an {@link OperationRequest} from a
- * {@link MockHttpServletRequest}.
+ * {@link MockHttpServletRequest}. The request's parts are only examined when it is a
+ * {@link MockMultipartHttpServletRequest}, or when it has a multipart content type or no
+ * content type at all.
  *
  * @author Andy Wilkinson
  */
@@ -62,6 +64,8 @@ class MockMvcRequestConverter implements RequestConverter<MockHttpServletRequest
 
 	private static final int STANDARD_PORT_HTTPS = 443;
 
+	private static final String MULTIPART_PREFIX = "multipart/";
+
 	@Override
 	public OperationRequest convert(MockHttpServletRequest mockRequest) {
 		try {
@@ -73,9 +77,7 @@ class MockMvcRequestConverter implements RequestConverter<MockHttpServletRequest
 			if (!StringUtils.hasText(queryString) && "GET".equals(mockRequest.getMethod())) {
 				queryString = parameters.toQueryString();
 			}
-			return new OperationRequestFactory().create(
-					URI.create(
-							getRequestUri(mockRequest) + (StringUtils.hasText(queryString) ? "?" + queryString : "")),
+			return new OperationRequestFactory().create(URI.create(getRequestUri(mockRequest, queryString)),
 					HttpMethod.valueOf(mockRequest.getMethod()), mockRequest.getContentAsByteArray(), headers,
 					parameters, parts, cookies);
 		}
@@ -85,11 +87,12 @@ class MockMvcRequestConverter implements RequestConverter<MockHttpServletRequest
 	}
 
 	private Collection<RequestCookie> extractCookies(MockHttpServletRequest mockRequest, HttpHeaders headers) {
-		if (mockRequest.getCookies() == null || mockRequest.getCookies().length == 0) {
+		jakarta.servlet.http.Cookie[] servletCookies = mockRequest.getCookies();
+		if (servletCookies == null || servletCookies.length == 0) {
 			return Collections.emptyList();
 		}
-		List<RequestCookie> cookies = new ArrayList<>();
-		for (jakarta.servlet.http.Cookie servletCookie : mockRequest.getCookies()) {
+		List<RequestCookie> cookies = new ArrayList<>(servletCookies.length);
+		for (jakarta.servlet.http.Cookie servletCookie : servletCookies) {
 			cookies.add(new RequestCookie(servletCookie.getName(), servletCookie.getValue()));
 		}
 		headers.remove(HttpHeaders.COOKIE);
@@ -98,14 +101,23 @@ class MockMvcRequestConverter implements RequestConverter<MockHttpServletRequest
 
 	private List<OperationRequestPart> extractParts(MockHttpServletRequest servletRequest)
 			throws IOException, ServletException {
+		boolean multipartRequest = servletRequest instanceof MockMultipartHttpServletRequest;
+		if (!multipartRequest && !mayHaveParts(servletRequest.getContentType())) {
+			return Collections.emptyList();
+		}
 		List<OperationRequestPart> parts = new ArrayList<>();
 		parts.addAll(extractServletRequestParts(servletRequest));
-		if (servletRequest instanceof MockMultipartHttpServletRequest) {
+		if (multipartRequest) {
 			parts.addAll(extractMultipartRequestParts((MockMultipartHttpServletRequest) servletRequest));
 		}
 		return parts;
 	}
 
+	private boolean mayHaveParts(String contentType) {
+		return contentType == null
+				|| contentType.regionMatches(true, 0, MULTIPART_PREFIX, 0, MULTIPART_PREFIX.length());
+	}
+
 	private List<OperationRequestPart> extractServletRequestParts(MockHttpServletRequest servletRequest)
 			throws IOException, ServletException {
 		List<OperationRequestPart> parts = new ArrayList<>();
@@ -159,19 +171,20 @@ class MockMvcRequestConverter implements RequestConverter<MockHttpServletRequest
 
 	private Parameters extractParameters(MockHttpServletRequest servletRequest) {
 		Parameters parameters = new Parameters();
-		for (String name : IterableEnumeration.of(servletRequest.getParameterNames())) {
-			for (String value : servletRequest.getParameterValues(name)) {
-				parameters.add(name, value);
-			}
+		for (Entry<String, String[]> parameter : servletRequest.getParameterMap().entrySet()) {
+			parameters.addAll(parameter.getKey(), Arrays.asList(parameter.getValue()));
 		}
 		return parameters;
 	}
 
 	private HttpHeaders extractHeaders(MockHttpServletRequest servletRequest) {
 		HttpHeaders headers = new HttpHeaders();
-		for (String headerName : IterableEnumeration.of(servletRequest.getHeaderNames())) {
-			for (String value : IterableEnumeration.of(servletRequest.getHeaders(headerName))) {
-				headers.add(headerName, value);
+		Enumeration<String> headerNames = servletRequest.getHeaderNames();
+		while (headerNames.hasMoreElements()) {
+			String headerName = headerNames.nextElement();
+			Enumeration<String> values = servletRequest.getHeaders(headerName);
+			while (values.hasMoreElements()) {
+				headers.add(headerName, values.nextElement());
 			}
 		}
 		return headers;
@@ -182,16 +195,17 @@ class MockMvcRequestConverter implements RequestConverter<MockHttpServletRequest
 				|| (SCHEME_HTTPS.equals(request.getScheme()) && request.getServerPort() != STANDARD_PORT_HTTPS);
 	}
 
-	private String getRequestUri(MockHttpServletRequest request) {
-		StringWriter uriWriter = new StringWriter();
-		PrintWriter printer = new PrintWriter(uriWriter);
-
-		printer.printf("%s://%s", request.getScheme(), request.getServerName());
+	private String getRequestUri(MockHttpServletRequest request, String queryString) {
+		StringBuilder uri = new StringBuilder(64);
+		uri.append(request.getScheme()).append("://").append(request.getServerName());
 		if (isNonStandardPort(request)) {
-			printer.printf(":%d", request.getServerPort());
+			uri.append(':').append(request.getServerPort());
+		}
+		uri.append(request.getRequestURI());
+		if (StringUtils.hasText(queryString)) {
+			uri.append('?').append(queryString);
 		}
-		printer.print(request.getRequestURI());
-		return uriWriter.toString();
+		return uri.toString();
 	}
 
 }
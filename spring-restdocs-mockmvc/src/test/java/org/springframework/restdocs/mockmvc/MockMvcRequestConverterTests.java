@@ -1,5 +1,5 @@
 /*
- * Copyright 2014-2019 the original author or authors.
+ * Copyright 2014-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -39,6 +39,9 @@ import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 
 /**
  * Tests for {@link MockMvcRequestConverter}.
@@ -228,6 +231,29 @@ public class MockMvcRequestConverterTests {
 		assertThat(part.getContent()).isEqualTo(new byte[] { 1, 2, 3, 4 });
 	}
 
+	@Test
+	public void partsOfRequestWithNonMultipartContentTypeAreNotExamined() throws Exception {
+		MockHttpServletRequest mockRequest = spy(MockMvcRequestBuilders.post("/foo")
+				.contentType(MediaType.APPLICATION_JSON).content("{}").buildRequest(new MockServletContext()));
+		OperationRequest request = this.factory.convert(mockRequest);
+		assertThat(request.getParts()).isEmpty();
+		verify(mockRequest, never()).getParts();
+	}
+
+	@Test
+	public void requestWithPartAndMultipartContentType() throws Exception {
+		MockHttpServletRequest mockRequest = MockMvcRequestBuilders.post("/foo")
+				.contentType(MediaType.MULTIPART_FORM_DATA).buildRequest(new MockServletContext());
+		Part mockPart = mock(Part.class);
+		given(mockPart.getHeaderNames()).willReturn(Arrays.asList("a"));
+		given(mockPart.getHeaders("a")).willReturn(Arrays.asList("alpha"));
+		given(mockPart.getInputStream()).willReturn(new ByteArrayInputStream(new byte[] { 1, 2, 3, 4 }));
+		given(mockPart.getName()).willReturn("part-name");
+		mockRequest.addPart(mockPart);
+		OperationRequest request = this.factory.convert(mockRequest);
+		assertThat(request.getParts()).extracting(OperationRequestPart::getName).containsExactly("part-name");
+	}
+
 	private OperationRequest createOperationRequest(MockHttpServletRequestBuilder builder) throws Exception {
 		return this.factory.convert(builder.buildRequest(new MockServletContext()));
 	}
@@ -24,6 +24,7 @@ import java.net.URL;
 import java.net.URLClassLoader;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -388,7 +389,7 @@ public class MockMvcRestDocumentationIntegrationTests {
 				.andReturn();
 		HttpRequestCondition originalRequest = httpRequest(TemplateFormats.asciidoctor(), RequestMethod.GET, "/");
 		Set<String> mvcResultHeaderNames = new HashSet<>();
-		for (String headerName : IterableEnumeration.of(result.getRequest().getHeaderNames())) {
+		for (String headerName : Collections.list(result.getRequest().getHeaderNames())) {
 			originalRequest.header(headerName, result.getRequest().getHeader(headerName));
 			mvcResultHeaderNames.add(headerName);
 		}
@@ -400,7 +401,7 @@ public class MockMvcRestDocumentationIntegrationTests {
 				.has(content(originalRequest.content("{\"a\":\"alpha\"}")));
 		HttpRequestCondition preprocessedRequest = httpRequest(TemplateFormats.asciidoctor(), RequestMethod.GET, "/");
 		List<String> removedHeaders = Arrays.asList("a", HttpHeaders.HOST, HttpHeaders.CONTENT_LENGTH);
-		for (String headerName : IterableEnumeration.of(result.getRequest().getHeaderNames())) {
+		for (String headerName : Collections.list(result.getRequest().getHeaderNames())) {
 			if (!removedHeaders.contains(headerName)) {
 				preprocessedRequest.header(headerName, result.getRequest().getHeader(headerName));
 			}
@@ -426,7 +427,7 @@ public class MockMvcRestDocumentationIntegrationTests {
 
 		HttpRequestCondition preprocessedRequest = httpRequest(TemplateFormats.asciidoctor(), RequestMethod.GET, "/");
 		List<String> removedHeaders = Arrays.asList("a", HttpHeaders.HOST, HttpHeaders.CONTENT_LENGTH);
-		for (String headerName : IterableEnumeration.of(result.getRequest().getHeaderNames())) {
+		for (String headerName : Collections.list(result.getRequest().getHeaderNames())) {
 			if (!removedHeaders.contains(headerName)) {
 				preprocessedRequest.header(headerName, result.getRequest().getHeader(headerName));
 			}
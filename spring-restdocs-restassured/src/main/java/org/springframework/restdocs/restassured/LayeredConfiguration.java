@@ -0,0 +1,238 @@
+/*
+ * Copyright 2014-2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.restassured;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * A view of a base configuration with an overlay of per-request entries. Entries in the
+ * overlay take precedence over those in the base configuration and hidden keys are absent
+ * from the view. Until the view is modified, neither the base configuration nor the
+ * overlay is copied, allowing a single base configuration to be shared by every request.
+ * The first modification copies the visible entries and applies the modification to the
+ * copy, leaving the base configuration and the overlay unchanged.
+ *
+ * @author agent (agent@local)
+ */
+final class LayeredConfiguration extends AbstractMap<String, Object> {
+
+	private final Map<String, Object> base;
+
+	private final Map<String, Object> overlay;
+
+	private final Set<String> hiddenKeys;
+
+	private Map<String, Object> copy;
+
+	private Set<Entry<String, Object>> entrySet;
+
+	/**
+	 * Creates a new {@code LayeredConfiguration} that overlays the given
+	 * {@code overlay} on the given {@code base} configuration.
+	 * @param base the base configuration
+	 * @param overlay the overlay
+	 */
+	LayeredConfiguration(Map<String, Object> base, Map<String, Object> overlay) {
+		this(base, overlay, Collections.emptySet());
+	}
+
+	/**
+	 * Creates a new {@code LayeredConfiguration} that overlays the given
+	 * {@code overlay} on the given {@code base} configuration and hides the entries with
+	 * the given {@code hiddenKeys}.
+	 * @param base the base configuration
+	 * @param overlay the overlay
+	 * @param hiddenKeys the keys of the entries to hide
+	 */
+	LayeredConfiguration(Map<String, Object> base, Map<String, Object> overlay, Set<String> hiddenKeys) {
+		this.base = base;
+		this.overlay = overlay;
+		this.hiddenKeys = hiddenKeys;
+	}
+
+	@Override
+	public int size() {
+		if (this.copy != null) {
+			return this.copy.size();
+		}
+		int size = this.base.size();
+		for (String key : this.overlay.keySet()) {
+			if (!this.base.containsKey(key)) {
+				size++;
+			}
+		}
+		for (String key : this.hiddenKeys) {
+			if (this.base.containsKey(key) || this.overlay.containsKey(key)) {
+				size--;
+			}
+		}
+		return size;
+	}
+
+	@Override
+	public Object get(Object key) {
+		if (this.copy != null) {
+			return this.copy.get(key);
+		}
+		if (this.hiddenKeys.contains(key)) {
+			return null;
+		}
+		return this.overlay.containsKey(key) ? this.overlay.get(key) : this.base.get(key);
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		if (this.copy != null) {
+			return this.copy.containsKey(key);
+		}
+		return !this.hiddenKeys.contains(key) && (this.overlay.containsKey(key) || this.base.containsKey(key));
+	}
+
+	@Override
+	public Set<Entry<String, Object>> entrySet() {
+		if (this.entrySet == null) {
+			this.entrySet = new EntrySet();
+		}
+		return this.entrySet;
+	}
+
+	@Override
+	public Object put(String key, Object value) {
+		return modifiableCopy().put(key, value);
+	}
+
+	@Override
+	public Object remove(Object key) {
+		return modifiableCopy().remove(key);
+	}
+
+	@Override
+	public void clear() {
+		modifiableCopy().clear();
+	}
+
+	private Map<String, Object> modifiableCopy() {
+		if (this.copy == null) {
+			this.copy = new HashMap<>(this);
+		}
+		return this.copy;
+	}
+
+	private final class EntrySet extends AbstractSet<Entry<String, Object>> {
+
+		@Override
+		public Iterator<Entry<String, Object>> iterator() {
+			Map<String, Object> copy = LayeredConfiguration.this.copy;
+			return (copy != null) ? copy.entrySet().iterator() : new EntryIterator();
+		}
+
+		@Override
+		public int size() {
+			return LayeredConfiguration.this.size();
+		}
+
+	}
+
+	/**
+	 * Iterates over the visible entries of the overlay followed by the visible entries of
+	 * the base configuration that are not replaced by the overlay. Removing an entry or
+	 * setting its value modifies the configuration's copy.
+	 */
+	private final class EntryIterator implements Iterator<Entry<String, Object>> {
+
+		private final Iterator<Entry<String, Object>> overlayEntries = LayeredConfiguration.this.overlay.entrySet()
+				.iterator();
+
+		private final Iterator<Entry<String, Object>> baseEntries = LayeredConfiguration.this.base.entrySet()
+				.iterator();
+
+		private Entry<String, Object> next;
+
+		private String current;
+
+		@Override
+		public boolean hasNext() {
+			if (this.next == null) {
+				this.next = findNext();
+			}
+			return this.next != null;
+		}
+
+		@Override
+		public Entry<String, Object> next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			Entry<String, Object> entry = this.next;
+			this.next = null;
+			this.current = entry.getKey();
+			return new LayeredEntry(entry);
+		}
+
+		@Override
+		public void remove() {
+			if (this.current == null) {
+				throw new IllegalStateException();
+			}
+			modifiableCopy().remove(this.current);
+			this.current = null;
+		}
+
+		private Entry<String, Object> findNext() {
+			while (this.overlayEntries.hasNext()) {
+				Entry<String, Object> entry = this.overlayEntries.next();
+				if (!LayeredConfiguration.this.hiddenKeys.contains(entry.getKey())) {
+					return entry;
+				}
+			}
+			while (this.baseEntries.hasNext()) {
+				Entry<String, Object> entry = this.baseEntries.next();
+				if (!LayeredConfiguration.this.hiddenKeys.contains(entry.getKey())
+						&& !LayeredConfiguration.this.overlay.containsKey(entry.getKey())) {
+					return entry;
+				}
+			}
+			return null;
+		}
+
+	}
+
+	/**
+	 * An entry returned by an {@link EntryIterator}.
+	 */
+	private final class LayeredEntry extends SimpleEntry<String, Object> {
+
+		private LayeredEntry(Entry<String, Object> entry) {
+			super(entry);
+		}
+
+		@Override
+		public Object setValue(Object value) {
+			modifiableCopy().put(getKey(), value);
+			return super.setValue(value);
+		}
+
+	}
+
+}
@@ -16,6 +16,7 @@
 
 package org.springframework.restdocs.restassured;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -30,7 +31,11 @@ import org.springframework.restdocs.RestDocumentationContextProvider;
 import org.springframework.restdocs.config.RestDocumentationConfigurer;
 
 /**
- * A REST Assured-specific {@link RestDocumentationConfigurer}.
+ * A REST Assured-specific {@link RestDocumentationConfigurer}. The configuration is
+ * applied when the configurer is first used as a filter and is then shared by every
+ * subsequent request. Changes that are made to the configurer after its first use have
+ * no effect. As it is not specific to any one request, the configuration is applied
+ * without a {@link RestDocumentationContext}.
  *
  * @author Andy Wilkinson
  * @author Filip Hrisafov
@@ -47,6 +52,8 @@ public final class RestAssuredRestDocumentationConfigurer extends
 
 	private final RestDocumentationContextProvider contextProvider;
 
+	private volatile Map<String, Object> configuration;
+
 	RestAssuredRestDocumentationConfigurer(RestDocumentationContextProvider contextProvider) {
 		this.contextProvider = contextProvider;
 	}
@@ -66,10 +73,19 @@ public final class RestAssuredRestDocumentationConfigurer extends
 			FilterContext filterContext) {
 		RestDocumentationContext context = this.contextProvider.beforeOperation();
 		filterContext.setValue(RestDocumentationContext.class.getName(), context);
-		Map<String, Object> configuration = new HashMap<>();
-		filterContext.setValue(RestDocumentationFilter.CONTEXT_KEY_CONFIGURATION, configuration);
-		apply(configuration, context);
+		filterContext.setValue(RestDocumentationFilter.CONTEXT_KEY_CONFIGURATION, getConfiguration());
 		return filterContext.next(requestSpec, responseSpec);
 	}
 
+	private Map<String, Object> getConfiguration() {
+		Map<String, Object> configuration = this.configuration;
+		if (configuration == null) {
+			Map<String, Object> applied = new HashMap<>();
+			apply(applied, null);
+			configuration = Collections.unmodifiableMap(applied);
+			this.configuration = configuration;
+		}
+		return configuration;
+	}
+
 }
@@ -16,8 +16,12 @@
 
 package org.springframework.restdocs.restassured;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
 import io.restassured.filter.Filter;
 import io.restassured.filter.FilterContext;
@@ -40,6 +44,11 @@ public class RestDocumentationFilter implements Filter {
 
 	static final String CONTEXT_KEY_CONFIGURATION = "org.springframework.restdocs.configuration";
 
+	private static final Set<String> DEFAULTS = new HashSet<>(
+			Arrays.asList(RestDocumentationGenerator.ATTRIBUTE_NAME_DEFAULT_SNIPPETS,
+					RestDocumentationGenerator.ATTRIBUTE_NAME_DEFAULT_OPERATION_REQUEST_PREPROCESSOR,
+					RestDocumentationGenerator.ATTRIBUTE_NAME_DEFAULT_OPERATION_RESPONSE_PREPROCESSOR));
+
 	private final RestDocumentationGenerator<FilterableRequestSpecification, Response> delegate;
 
 	RestDocumentationFilter(RestDocumentationGenerator<FilterableRequestSpecification, Response> delegate) {
@@ -61,17 +70,21 @@ public class RestDocumentationFilter implements Filter {
 
 	/**
 	 * Returns the configuration that should be used when calling the delgate. The
-	 * configuration is derived from the given {@code requestSpec} and {@code context}.
+	 * configuration is derived from the given {@code requestSpec} and {@code context}. It
+	 * layers the request's documentation context and URL template over the configuration
+	 * that is shared by every request. Modifying it does not affect the shared
+	 * configuration.
 	 * @param requestSpec the request specification
 	 * @param context the filter context
 	 * @return the configuration
 	 */
 	protected Map<String, Object> getConfiguration(FilterableRequestSpecification requestSpec, FilterContext context) {
-		Map<String, Object> configuration = new HashMap<>(retrieveConfiguration(context));
-		configuration.put(RestDocumentationContext.class.getName(),
+		Map<String, Object> requestConfiguration = new HashMap<>(4);
+		requestConfiguration.put(RestDocumentationContext.class.getName(),
 				context.<RestDocumentationContext>getValue(RestDocumentationContext.class.getName()));
-		configuration.put(RestDocumentationGenerator.ATTRIBUTE_NAME_URL_TEMPLATE, requestSpec.getUserDefinedPath());
-		return configuration;
+		requestConfiguration.put(RestDocumentationGenerator.ATTRIBUTE_NAME_URL_TEMPLATE,
+				requestSpec.getUserDefinedPath());
+		return new LayeredConfiguration(retrieveConfiguration(context), requestConfiguration);
 	}
 
 	/**
@@ -86,11 +99,8 @@ public class RestDocumentationFilter implements Filter {
 			@Override
 			protected Map<String, Object> getConfiguration(FilterableRequestSpecification requestSpec,
 					FilterContext context) {
-				Map<String, Object> configuration = super.getConfiguration(requestSpec, context);
-				configuration.remove(RestDocumentationGenerator.ATTRIBUTE_NAME_DEFAULT_SNIPPETS);
-				configuration.remove(RestDocumentationGenerator.ATTRIBUTE_NAME_DEFAULT_OPERATION_REQUEST_PREPROCESSOR);
-				configuration.remove(RestDocumentationGenerator.ATTRIBUTE_NAME_DEFAULT_OPERATION_RESPONSE_PREPROCESSOR);
-				return configuration;
+				return new LayeredConfiguration(super.getConfiguration(requestSpec, context), Collections.emptyMap(),
+						DEFAULTS);
 			}
 
 		};
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2014-2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.restassured;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+/**
+ * Tests for {@link LayeredConfiguration}.
+ *
+ * @author agent (agent@local)
+ */
+public class LayeredConfigurationTests {
+
+	private final Map<String, Object> base = new HashMap<>();
+
+	private final Map<String, Object> overlay = new HashMap<>();
+
+	@Test
+	public void entriesOfBaseAndOverlayAreVisible() {
+		this.base.put("a", "alpha");
+		this.overlay.put("b", "bravo");
+		Map<String, Object> configuration = new LayeredConfiguration(this.base, this.overlay);
+		assertThat(configuration).containsOnly(entry("a", "alpha"), entry("b", "bravo"));
+		assertThat(configuration).hasSize(2);
+	}
+
+	@Test
+	public void overlayTakesPrecedenceOverBase() {
+		this.base.put("a", "alpha");
+		this.overlay.put("a", "apple");
+		Map<String, Object> configuration = new LayeredConfiguration(this.base, this.overlay);
+		assertThat(configuration.get("a")).isEqualTo("apple");
+		assertThat(configuration).containsOnly(entry("a", "apple"));
+		assertThat(configuration).hasSize(1);
+	}
+
+	@Test
+	public void overlayEntryWithNullValueTakesPrecedenceOverBase() {
+		this.base.put("a", "alpha");
+		this.overlay.put("a", null);
+		Map<String, Object> configuration = new LayeredConfiguration(this.base, this.overlay);
+		assertThat(configuration.get("a")).isNull();
+		assertThat(configuration.containsKey("a")).isTrue();
+	}
+
+	@Test
+	public void hiddenKeysAreNotVisible() {
+		this.base.put("a", "alpha");
+		this.base.put("b", "bravo");
+		this.overlay.put("c", "charlie");
+		Map<String, Object> configuration = new LayeredConfiguration(this.base, this.overlay,
+				new HashSet<>(Arrays.asList("a", "c", "d")));
+		assertThat(configuration.get("a")).isNull();
+		assertThat(configuration.containsKey("c")).isFalse();
+		assertThat(configuration).containsOnly(entry("b", "bravo"));
+		assertThat(configuration).hasSize(1);
+	}
+
+	@Test
+	public void configurationCanBeCopied() {
+		this.base.put("a", "alpha");
+		this.overlay.put("b", "bravo");
+		Map<String, Object> copy = new HashMap<>(new LayeredConfiguration(this.base, this.overlay));
+		assertThat(copy).containsOnly(entry("a", "alpha"), entry("b", "bravo"));
+	}
+
+	@Test
+	public void baseIsNotCopied() {
+		Map<String, Object> configuration = new LayeredConfiguration(this.base, Collections.emptyMap());
+		this.base.put("a", "alpha");
+		assertThat(configuration.get("a")).isEqualTo("alpha");
+	}
+
+	@Test
+	public void modificationsDoNotAffectBaseOrOverlay() {
+		this.base.put("a", "alpha");
+		this.base.put("b", "bravo");
+		this.overlay.put("c", "charlie");
+		Map<String, Object> configuration = new LayeredConfiguration(this.base, this.overlay,
+				Collections.singleton("b"));
+		configuration.put("a", "apple");
+		configuration.remove("c");
+		configuration.put("d", "delta");
+		assertThat(configuration).containsOnly(entry("a", "apple"), entry("d", "delta"));
+		assertThat(this.base).containsOnly(entry("a", "alpha"), entry("b", "bravo"));
+		assertThat(this.overlay).containsOnly(entry("c", "charlie"));
+	}
+
+	@Test
+	public void baseIsCopiedWhenConfigurationIsModified() {
+		Map<String, Object> configuration = new LayeredConfiguration(this.base, Collections.emptyMap());
+		configuration.put("a", "alpha");
+		this.base.put("b", "bravo");
+		assertThat(configuration).containsOnly(entry("a", "alpha"));
+	}
+
+	@Test
+	public void entriesCanBeRemovedAndModifiedWhileIterating() {
+		this.base.put("a", "alpha");
+		this.base.put("b", "bravo");
+		this.overlay.put("c", "charlie");
+		Map<String, Object> configuration = new LayeredConfiguration(this.base, this.overlay);
+		Iterator<Entry<String, Object>> iterator = configuration.entrySet().iterator();
+		while (iterator.hasNext()) {
+			Entry<String, Object> entry = iterator.next();
+			if (entry.getKey().equals("a")) {
+				iterator.remove();
+			}
+			else {
+				entry.setValue(entry.getValue() + "!");
+			}
+		}
+		assertThat(configuration).containsOnly(entry("b", "bravo!"), entry("c", "charlie!"));
+		assertThat(this.base).containsOnly(entry("a", "alpha"), entry("b", "bravo"));
+		assertThat(this.overlay).containsOnly(entry("c", "charlie"));
+	}
+
+}
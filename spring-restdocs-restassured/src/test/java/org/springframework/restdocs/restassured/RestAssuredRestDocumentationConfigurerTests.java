@@ -37,6 +37,7 @@ import org.springframework.restdocs.templates.TemplateEngine;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 /**
@@ -86,4 +87,15 @@ public class RestAssuredRestDocumentationConfigurerTests {
 				.isInstanceOf(OperationResponsePreprocessor.class);
 	}
 
+	@Test
+	public void configurationIsAppliedOnceAndSharedByEveryRequest() {
+		this.configurer.filter(this.requestSpec, this.responseSpec, this.filterContext);
+		this.configurer.filter(this.requestSpec, this.responseSpec, this.filterContext);
+		@SuppressWarnings("rawtypes")
+		ArgumentCaptor<Map> configurationCaptor = ArgumentCaptor.forClass(Map.class);
+		verify(this.filterContext, times(2)).setValue(eq(RestDocumentationFilter.CONTEXT_KEY_CONFIGURATION),
+				configurationCaptor.capture());
+		assertThat(configurationCaptor.getAllValues().get(0)).isSameAs(configurationCaptor.getAllValues().get(1));
+	}
+
 }